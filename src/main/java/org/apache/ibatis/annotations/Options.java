@@ -138,6 +138,15 @@ public @interface Options {
    */
   String resultSets() default "";
 
+  /**
+   * Returns whether the rows of a nested result map are grouped by their main result, so that each main result can be
+   * handed over, and released, as soon as the rows of the next one start.
+   *
+   * @return {@code true} if the results are ordered; {@code false} if otherwise
+   * @since 3.5.7
+   */
+  boolean resultOrdered() default false;
+
   /**
    * @return A database id that correspond this options
    * @since 3.5.5
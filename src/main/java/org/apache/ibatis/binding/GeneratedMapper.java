@@ -0,0 +1,104 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.binding;
+
+import java.lang.reflect.Method;
+
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * Base class of the mapper implementations generated by {@link MapperProcessor}.
+ * <p>
+ * A generated implementation lists the abstract methods of its mapper interface in a static {@code METHODS} array and
+ * calls {@link #execute(int, Object[])} with the index of the method, so a mapper call neither goes through a
+ * {@link java.lang.reflect.Proxy} nor looks up the {@link MapperMethod} in a map. Default methods are not overridden
+ * and therefore run as plain interface methods.
+ * <p>
+ * {@link MapperProxyFactory} uses the generated implementation, when one is found next to the mapper interface, instead
+ * of creating a {@link MapperProxy}.
+ *
+ * @since 3.5.7
+ */
+public abstract class GeneratedMapper {
+
+  /**
+   * Name of the static field that holds the mapper methods of a generated implementation.
+   */
+  public static final String METHODS_FIELD = "METHODS";
+
+  private static final String IMPLEMENTATION_SUFFIX = "_MyBatisImpl";
+
+  private final SqlSession sqlSession;
+  private final MethodTable methodTable;
+
+  protected GeneratedMapper(SqlSession sqlSession, MethodTable methodTable) {
+    this.sqlSession = sqlSession;
+    this.methodTable = methodTable;
+  }
+
+  protected final SqlSession getSqlSession() {
+    return sqlSession;
+  }
+
+  protected final Object execute(int index, Object[] args) {
+    return methodTable.get(index, sqlSession).execute(sqlSession, args);
+  }
+
+  protected static Method method(Class<?> mapperInterface, String name, Class<?>... parameterTypes) {
+    try {
+      return mapperInterface.getMethod(name, parameterTypes);
+    } catch (NoSuchMethodException e) {
+      throw new BindingException("Generated mapper of " + mapperInterface.getName() + " is out of date. Cause: " + e, e);
+    }
+  }
+
+  /**
+   * Returns the name of the implementation generated for the mapper interface, e.g.
+   * {@code com.example.UserMapper_MyBatisImpl} for {@code com.example.UserMapper} and
+   * {@code com.example.Outer_UserMapper_MyBatisImpl} for {@code com.example.Outer.UserMapper}.
+   */
+  public static String implementationName(String mapperInterfaceBinaryName) {
+    return mapperInterfaceBinaryName.replace('$', '_') + IMPLEMENTATION_SUFFIX;
+  }
+
+  /**
+   * The {@link MapperMethod}s of a mapper interface, created on first use and shared by all the instances of its
+   * generated implementation.
+   */
+  public static final class MethodTable {
+
+    private final Class<?> mapperInterface;
+    private final Method[] methods;
+    private final MapperMethod[] mapperMethods;
+
+    MethodTable(Class<?> mapperInterface, Method[] methods) {
+      this.mapperInterface = mapperInterface;
+      this.methods = methods;
+      this.mapperMethods = new MapperMethod[methods.length];
+    }
+
+    MapperMethod get(int index, SqlSession sqlSession) {
+      MapperMethod mapperMethod = mapperMethods[index];
+      if (mapperMethod == null) {
+        // MapperMethod is immutable, creating it twice on a race is harmless
+        mapperMethod = new MapperMethod(mapperInterface, methods[index], sqlSession.getConfiguration());
+        mapperMethods[index] = mapperMethod;
+      }
+      return mapperMethod;
+    }
+  }
+
+}
@@ -19,14 +19,21 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.MapKey;
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.result.IntArrayList;
+import org.apache.ibatis.executor.result.LongArrayList;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.SqlCommandType;
 import org.apache.ibatis.mapping.StatementType;
@@ -179,6 +186,12 @@ public class MapperMethod {
   @SuppressWarnings("unchecked")
   private <E> Object convertToArray(List<E> list) {
     Class<?> arrayComponentType = method.getReturnType().getComponentType();
+    // copies the values of the lists backed by primitive arrays without boxing them
+    if (arrayComponentType == int.class && list instanceof IntArrayList && !list.contains(null)) {
+      return ((IntArrayList) list).toIntArray();
+    } else if (arrayComponentType == long.class && list instanceof LongArrayList && !list.contains(null)) {
+      return ((LongArrayList) list).toLongArray();
+    }
     Object array = Array.newInstance(arrayComponentType, list.size());
     if (arrayComponentType.isPrimitive()) {
       for (int i = 0; i < list.size(); i++) {
@@ -206,14 +219,243 @@ public class MapperMethod {
 
     private static final long serialVersionUID = -2212268410512043556L;
 
+    private transient Layout layout;
+    private transient Object[] values;
+
+    public ParamMap() {
+    }
+
+    private ParamMap(Layout layout, Object[] values) {
+      this.layout = layout;
+      this.values = values;
+    }
+
     @Override
     public V get(Object key) {
+      if (values != null) {
+        int index = layout.indexOf(key);
+        if (index < 0) {
+          throw new BindingException("Parameter '" + key + "' not found. Available parameters are " + keySet());
+        }
+        return layout.getValue(values, index);
+      }
       if (!super.containsKey(key)) {
         throw new BindingException("Parameter '" + key + "' not found. Available parameters are " + keySet());
       }
       return super.get(key);
     }
 
+    @Override
+    public boolean containsKey(Object key) {
+      if (values != null) {
+        return layout.indexOf(key) >= 0;
+      }
+      return super.containsKey(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+      if (values != null) {
+        int index = layout.indexOf(key);
+        return index < 0 ? defaultValue : layout.getValue(values, index);
+      }
+      return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public int size() {
+      return values != null ? layout.names.length : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return values != null ? layout.names.length == 0 : super.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+      inflate();
+      return super.containsValue(value);
+    }
+
+    @Override
+    public V put(String key, V value) {
+      inflate();
+      return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends V> m) {
+      inflate();
+      super.putAll(m);
+    }
+
+    @Override
+    public V remove(Object key) {
+      inflate();
+      return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+      inflate();
+      super.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+      inflate();
+      return super.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+      inflate();
+      return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+      inflate();
+      return super.entrySet();
+    }
+
+    @Override
+    public V putIfAbsent(String key, V value) {
+      inflate();
+      return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+      inflate();
+      return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, V oldValue, V newValue) {
+      inflate();
+      return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(String key, V value) {
+      inflate();
+      return super.replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+      inflate();
+      return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+      inflate();
+      return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+      inflate();
+      return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+      inflate();
+      return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+      inflate();
+      super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super V, ? extends V> function) {
+      inflate();
+      super.replaceAll(function);
+    }
+
+    @Override
+    public Object clone() {
+      inflate();
+      return super.clone();
+    }
+
+    private Object writeReplace() {
+      inflate();
+      return this;
+    }
+
+    /**
+     * Copies the values read through the layout into the map so that it can be used as an ordinary {@link HashMap}.
+     */
+    private void inflate() {
+      if (values != null) {
+        Layout currentLayout = layout;
+        Object[] currentValues = values;
+        layout = null;
+        values = null;
+        for (int i = 0; i < currentLayout.names.length; i++) {
+          super.put(currentLayout.names[i], currentLayout.getValue(currentValues, i));
+        }
+      }
+    }
+
+    /**
+     * A fixed set of parameter names and the positions of their values in the arguments of a mapper method, resolved
+     * once per method.
+     * <p>
+     * A {@link ParamMap} created by a layout reads its entries straight from the argument array by comparing names
+     * instead of hashing them. It turns into an ordinary {@link HashMap} the first time it is modified or iterated.
+     *
+     * @since 3.5.7
+     */
+    public static final class Layout {
+
+      private final String[] names;
+      private final int[] argIndexes;
+
+      /**
+       * Instantiates a new layout.
+       *
+       * @param names
+       *          the parameter names, which must be distinct
+       * @param argIndexes
+       *          the index of the argument bound to each name
+       */
+      public Layout(String[] names, int[] argIndexes) {
+        if (names.length != argIndexes.length) {
+          throw new IllegalArgumentException("The number of names and argument indexes must be the same.");
+        }
+        this.names = names.clone();
+        this.argIndexes = argIndexes.clone();
+      }
+
+      public <V> ParamMap<V> newParamMap(Object[] args) {
+        return new ParamMap<>(this, args);
+      }
+
+      private int indexOf(Object key) {
+        for (int i = 0; i < names.length; i++) {
+          String name = names[i];
+          if (name == key || name.equals(key)) {
+            return i;
+          }
+        }
+        return -1;
+      }
+
+      @SuppressWarnings("unchecked")
+      private <V> V getValue(Object[] args, int index) {
+        return (V) args[argIndexes[index]];
+      }
+    }
+
   }
 
   public static class SqlCommand {
@@ -0,0 +1,248 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.binding;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * Generates an implementation of every interface annotated with {@link Mapper}, used by {@link MapperProxyFactory}
+ * instead of a JDK proxy. See {@link GeneratedMapper}.
+ * <p>
+ * The processor is not registered as a service, it has to be enabled explicitly, e.g. with
+ * {@code javac -processor org.apache.ibatis.binding.MapperProcessor} or the {@code annotationProcessors} option of the
+ * maven-compiler-plugin.
+ *
+ * @since 3.5.7
+ */
+public class MapperProcessor extends AbstractProcessor {
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(Mapper.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(Mapper.class)) {
+      if (element.getKind() == ElementKind.INTERFACE) {
+        TypeElement mapperInterface = (TypeElement) element;
+        if (isImplementable(mapperInterface)) {
+          generate(mapperInterface);
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isImplementable(TypeElement mapperInterface) {
+    String reason = null;
+    if (!mapperInterface.getTypeParameters().isEmpty()) {
+      reason = "it has type parameters";
+    } else {
+      for (Element current = mapperInterface; current.getKind() != ElementKind.PACKAGE; current = current
+          .getEnclosingElement()) {
+        if (current.getModifiers().contains(Modifier.PRIVATE)
+            || ((TypeElement) current).getNestingKind() == NestingKind.LOCAL) {
+          reason = "it is not accessible from its package";
+          break;
+        }
+      }
+    }
+    if (reason != null) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+          "No implementation generated for " + mapperInterface + " because " + reason, mapperInterface);
+      return false;
+    }
+    return true;
+  }
+
+  private void generate(TypeElement mapperInterface) {
+    Elements elements = processingEnv.getElementUtils();
+    Types types = processingEnv.getTypeUtils();
+    PackageElement packageElement = elements.getPackageOf(mapperInterface);
+    String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    String binaryName = elements.getBinaryName(mapperInterface).toString();
+    String qualifiedName = GeneratedMapper.implementationName(binaryName);
+    String simpleName = qualifiedName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+    String interfaceName = mapperInterface.getQualifiedName().toString();
+
+    DeclaredType declaredType = (DeclaredType) mapperInterface.asType();
+    List<ExecutableElement> methods = new ArrayList<>();
+    Set<String> signatures = new HashSet<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(mapperInterface))) {
+      if (method.getModifiers().contains(Modifier.ABSTRACT)
+          && ((TypeElement) method.getEnclosingElement()).getKind() == ElementKind.INTERFACE
+          && signatures.add(method.getSimpleName() + erasedParameterTypes(method, types))) {
+        methods.add(method);
+      }
+    }
+
+    try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, mapperInterface).openWriter();
+        PrintWriter out = new PrintWriter(writer)) {
+      if (!packageName.isEmpty()) {
+        out.println("package " + packageName + ";");
+        out.println();
+      }
+      out.println("/**");
+      out.println(" * Implementation of {@link " + interfaceName + "} generated by {@link "
+          + MapperProcessor.class.getName() + "}.");
+      out.println(" */");
+      out.println("public final class " + simpleName + " extends " + GeneratedMapper.class.getName() + " implements "
+          + interfaceName + " {");
+      out.println();
+      out.println("  public static final java.lang.reflect.Method[] " + GeneratedMapper.METHODS_FIELD + " = {");
+      for (int i = 0; i < methods.size(); i++) {
+        ExecutableElement method = methods.get(i);
+        StringBuilder line = new StringBuilder("      method(").append(interfaceName).append(".class, \"")
+            .append(method.getSimpleName()).append('"');
+        for (Element parameter : method.getParameters()) {
+          line.append(", ").append(types.erasure(parameter.asType())).append(".class");
+        }
+        line.append(i < methods.size() - 1 ? ")," : ")");
+        out.println(line);
+      }
+      out.println("  };");
+      out.println();
+      out.println("  public " + simpleName + "(org.apache.ibatis.session.SqlSession sqlSession, "
+          + GeneratedMapper.MethodTable.class.getCanonicalName() + " methodTable) {");
+      out.println("    super(sqlSession, methodTable);");
+      out.println("  }");
+      for (int i = 0; i < methods.size(); i++) {
+        out.println();
+        writeMethod(out, i, methods.get(i), (ExecutableType) types.asMemberOf(declaredType, methods.get(i)));
+      }
+      out.println();
+      out.println("}");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Could not generate " + qualifiedName + ". Cause: " + e, mapperInterface);
+    }
+  }
+
+  private void writeMethod(PrintWriter out, int index, ExecutableElement method, ExecutableType type) {
+    StringBuilder signature = new StringBuilder("  public ");
+    if (!type.getTypeVariables().isEmpty()) {
+      signature.append(type.getTypeVariables().stream().map(this::typeParameter)
+          .collect(Collectors.joining(", ", "<", "> ")));
+    }
+    TypeMirror returnType = type.getReturnType();
+    signature.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+    List<? extends TypeMirror> parameterTypes = type.getParameterTypes();
+    for (int i = 0; i < parameterTypes.size(); i++) {
+      TypeMirror parameterType = parameterTypes.get(i);
+      if (i > 0) {
+        signature.append(", ");
+      }
+      if (method.isVarArgs() && i == parameterTypes.size() - 1) {
+        signature.append(((ArrayType) parameterType).getComponentType()).append("...");
+      } else {
+        signature.append(parameterType);
+      }
+      signature.append(" arg").append(i);
+    }
+    signature.append(')');
+    if (!type.getThrownTypes().isEmpty()) {
+      signature.append(type.getThrownTypes().stream().map(TypeMirror::toString)
+          .collect(Collectors.joining(", ", " throws ", "")));
+    }
+    signature.append(" {");
+
+    // a proxy receives null as well when the method has no parameters
+    String args = "null";
+    if (!parameterTypes.isEmpty()) {
+      StringBuilder array = new StringBuilder("new Object[] { ");
+      for (int i = 0; i < parameterTypes.size(); i++) {
+        array.append(i > 0 ? ", arg" : "arg").append(i);
+      }
+      args = array.append(" }").toString();
+    }
+    String call = "execute(" + index + ", " + args + ")";
+
+    out.println("  @Override");
+    if (returnType.getKind() == TypeKind.DECLARED || returnType.getKind() == TypeKind.TYPEVAR
+        || returnType.getKind() == TypeKind.ARRAY) {
+      out.println("  @SuppressWarnings(\"unchecked\")");
+    }
+    out.println(signature);
+    if (returnType.getKind() == TypeKind.VOID) {
+      out.println("    " + call + ";");
+    } else if (returnType.getKind().isPrimitive()) {
+      // the mapper method fails on null before it is unboxed
+      out.println("    return ("
+          + processingEnv.getTypeUtils().boxedClass((PrimitiveType) returnType).getQualifiedName()
+          + ") " + call + ";");
+    } else {
+      out.println("    return (" + returnType + ") " + call + ";");
+    }
+    out.println("  }");
+  }
+
+  private String typeParameter(TypeVariable typeVariable) {
+    TypeMirror upperBound = typeVariable.getUpperBound();
+    List<? extends TypeMirror> bounds = upperBound.getKind() == TypeKind.INTERSECTION
+        ? ((IntersectionType) upperBound).getBounds()
+        : Collections.singletonList(upperBound);
+    String name = typeVariable.asElement().getSimpleName().toString();
+    if (bounds.size() == 1 && Object.class.getName().equals(bounds.get(0).toString())) {
+      return name;
+    }
+    return name + bounds.stream().map(TypeMirror::toString).collect(Collectors.joining(" & ", " extends ", ""));
+  }
+
+  private static String erasedParameterTypes(ExecutableElement method, Types types) {
+    return method.getParameters().stream().map(p -> types.erasure(p.asType()).toString())
+        .collect(Collectors.joining(",", "(", ")"));
+  }
+
+}
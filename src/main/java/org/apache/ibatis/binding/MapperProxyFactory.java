@@ -15,12 +15,16 @@
  */
 package org.apache.ibatis.binding;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.ibatis.binding.GeneratedMapper.MethodTable;
 import org.apache.ibatis.binding.MapperProxy.MapperMethodInvoker;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.session.SqlSession;
 
 /**
@@ -28,11 +32,40 @@ import org.apache.ibatis.session.SqlSession;
  */
 public class MapperProxyFactory<T> {
 
+  private static final Log log = LogFactory.getLog(MapperProxyFactory.class);
+
   private final Class<T> mapperInterface;
   private final Map<Method, MapperMethodInvoker> methodCache = new ConcurrentHashMap<>();
+  private Constructor<? extends T> generatedConstructor;
+  private MethodTable generatedMethodTable;
 
   public MapperProxyFactory(Class<T> mapperInterface) {
     this.mapperInterface = mapperInterface;
+    resolveGeneratedMapper();
+  }
+
+  private void resolveGeneratedMapper() {
+    Class<?> implementation;
+    try {
+      implementation = Class.forName(GeneratedMapper.implementationName(mapperInterface.getName()), true,
+          mapperInterface.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      // not generated, use a proxy
+      return;
+    }
+    if (!mapperInterface.isAssignableFrom(implementation) || !GeneratedMapper.class.isAssignableFrom(implementation)) {
+      return;
+    }
+    try {
+      @SuppressWarnings("unchecked")
+      Constructor<? extends T> constructor = (Constructor<? extends T>) implementation
+          .getConstructor(SqlSession.class, MethodTable.class);
+      Method[] methods = (Method[]) implementation.getField(GeneratedMapper.METHODS_FIELD).get(null);
+      this.generatedMethodTable = new MethodTable(mapperInterface, methods);
+      this.generatedConstructor = constructor;
+    } catch (Exception e) {
+      log.warn("Ignoring generated mapper " + implementation.getName() + ". Cause: " + e);
+    }
   }
 
   public Class<T> getMapperInterface() {
@@ -49,6 +82,13 @@ public class MapperProxyFactory<T> {
   }
 
   public T newInstance(SqlSession sqlSession) {
+    if (generatedConstructor != null) {
+      try {
+        return generatedConstructor.newInstance(sqlSession, generatedMethodTable);
+      } catch (Exception e) {
+        throw new BindingException("Error creating generated mapper " + generatedConstructor.getName() + ". Cause: " + e, e);
+      }
+    }
     final MapperProxy<T> mapperProxy = new MapperProxy<>(sqlSession, mapperInterface, methodCache);
     return newInstance(mapperProxy);
   }
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.builder.annotation.MapperAnnotationBuilder;
 import org.apache.ibatis.io.ResolverUtil;
 import org.apache.ibatis.session.Configuration;
@@ -69,7 +70,9 @@ public class MapperRegistry {
         // otherwise the binding may automatically be attempted by the
         // mapper parser. If the type is already known, it won't try.
         MapperAnnotationBuilder parser = new MapperAnnotationBuilder(config, type);
-        parser.parse();
+        try (StartupProfiler.Phase phase = StartupProfiler.phase(config, "mapper annotations", type.getName())) {
+          parser.parse();
+        }
         loadCompleted = true;
       } finally {
         if (!loadCompleted) {
@@ -69,6 +69,13 @@ public class MapperBuilderAssistant extends BaseBuilder {
     return currentNamespace;
   }
 
+  /**
+   * @since 3.5.7
+   */
+  public String getResource() {
+    return resource;
+  }
+
   public void setCurrentNamespace(String currentNamespace) {
     if (currentNamespace == null) {
       throw new BuilderException("The mapper element requires a namespace attribute to be specified.");
@@ -147,7 +154,9 @@ public class MapperBuilderAssistant extends BaseBuilder {
 
   public ParameterMap addParameterMap(String id, Class<?> parameterClass, List<ParameterMapping> parameterMappings) {
     id = applyCurrentNamespace(id, false);
-    ParameterMap parameterMap = new ParameterMap.Builder(configuration, id, parameterClass, parameterMappings).build();
+    ParameterMap parameterMap = new ParameterMap.Builder(configuration, id, parameterClass, parameterMappings)
+        .resource(resource)
+        .build();
     configuration.addParameterMap(parameterMap);
     return parameterMap;
   }
@@ -217,6 +226,7 @@ public class MapperBuilderAssistant extends BaseBuilder {
     }
     ResultMap resultMap = new ResultMap.Builder(configuration, id, type, resultMappings, autoMapping)
         .discriminator(discriminator)
+        .resource(resource)
         .build();
     // 最后resultMap对象都会被加入到全局配置的Map<String, ResultMap>结构中，Key是id，Value即对象本身
     configuration.addResultMap(resultMap);
@@ -0,0 +1,238 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * Records how long each phase of building a configuration takes, and how much memory the building thread allocates
+ * meanwhile: the elements of the configuration XML, each mapper, the mapper documents, the mapper annotations, the
+ * resolution of incomplete elements and the reflector warm-up.
+ * <p>
+ * Phases are nested, a phase started while another one is running on the same thread is part of it. The allocations
+ * of other threads, such as those parsing mapper XML files concurrently, are not counted. The report returned by
+ * {@link #toString()} is logged at debug level by {@link org.apache.ibatis.session.SqlSessionFactoryBuilder}.
+ *
+ * @since 3.5.7
+ * @see Configuration#setStartupProfiler(StartupProfiler)
+ */
+public class StartupProfiler {
+
+  private static final Phase NONE = new Phase(null, null);
+
+  private final List<Entry> entries = new ArrayList<>();
+  private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+  /**
+   * Starts a phase of the profiler of the configuration, if it has one.
+   *
+   * @param configuration
+   *          the configuration being built
+   * @param name
+   *          the name of the phase
+   * @param detail
+   *          what the phase is applied to, e.g. a mapper resource, or {@code null}
+   * @return the phase to close when it completes
+   */
+  public static Phase phase(Configuration configuration, String name, String detail) {
+    StartupProfiler profiler = configuration.getStartupProfiler();
+    return profiler == null ? NONE : profiler.start(name, detail);
+  }
+
+  /**
+   * Starts a phase.
+   *
+   * @param name
+   *          the name of the phase
+   * @param detail
+   *          what the phase is applied to, e.g. a mapper resource, or {@code null}
+   * @return the phase to close when it completes
+   */
+  public Phase start(String name, String detail) {
+    int[] currentDepth = depth.get();
+    Entry entry = new Entry(name, detail, currentDepth[0]++, Thread.currentThread().getName());
+    synchronized (entries) {
+      entries.add(entry);
+    }
+    return new Phase(this, entry);
+  }
+
+  /**
+   * Returns the completed phases, in the order they started.
+   *
+   * @return the completed phases
+   */
+  public List<Entry> getEntries() {
+    List<Entry> completed = new ArrayList<>();
+    synchronized (entries) {
+      for (Entry entry : entries) {
+        if (entry.elapsedNanos >= 0) {
+          completed.add(entry);
+        }
+      }
+    }
+    return completed;
+  }
+
+  /**
+   * Returns the completed phases, one per line, indented by nesting level, with the elapsed time in milliseconds and
+   * the allocated memory in kilobytes.
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder("MyBatis startup profile");
+    for (Entry entry : getEntries()) {
+      StringBuilder phase = new StringBuilder();
+      for (int i = 0; i < entry.depth; i++) {
+        phase.append("  ");
+      }
+      phase.append(entry.name);
+      if (entry.detail != null) {
+        phase.append(' ').append(entry.detail);
+      }
+      report.append(System.lineSeparator()).append(String.format(Locale.ROOT, "%-80s %10.1f ms %10s KB", phase,
+          entry.elapsedNanos / 1_000_000d, entry.allocatedBytes < 0 ? "-" : entry.allocatedBytes / 1024));
+    }
+    return report.toString();
+  }
+
+  private void end(Entry entry, long elapsedNanos, long allocatedBytes) {
+    synchronized (entries) {
+      entry.allocatedBytes = allocatedBytes;
+      entry.elapsedNanos = elapsedNanos;
+    }
+    depth.get()[0]--;
+  }
+
+  /**
+   * A running phase, to be closed on the thread that started it.
+   */
+  public static final class Phase implements AutoCloseable {
+    private final StartupProfiler profiler;
+    private final Entry entry;
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private boolean closed;
+
+    private Phase(StartupProfiler profiler, Entry entry) {
+      this.profiler = profiler;
+      this.entry = entry;
+      this.startNanos = profiler == null ? 0 : System.nanoTime();
+      this.startAllocatedBytes = profiler == null ? 0 : Allocations.currentThread();
+    }
+
+    @Override
+    public void close() {
+      if (profiler == null || closed) {
+        return;
+      }
+      closed = true;
+      long allocatedBytes = Allocations.currentThread();
+      profiler.end(entry, System.nanoTime() - startNanos,
+          allocatedBytes < 0 || startAllocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes);
+    }
+  }
+
+  /**
+   * A completed phase.
+   */
+  public static final class Entry {
+    private final String name;
+    private final String detail;
+    private final int depth;
+    private final String threadName;
+    private long elapsedNanos = -1;
+    private long allocatedBytes = -1;
+
+    private Entry(String name, String detail, int depth, String threadName) {
+      this.name = name;
+      this.detail = detail;
+      this.depth = depth;
+      this.threadName = threadName;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns what the phase was applied to.
+     *
+     * @return the detail, or {@code null}
+     */
+    public String getDetail() {
+      return detail;
+    }
+
+    /**
+     * Returns the number of phases of the same thread this phase is nested in.
+     *
+     * @return the nesting level, {@code 0} for a top level phase
+     */
+    public int getDepth() {
+      return depth;
+    }
+
+    public String getThreadName() {
+      return threadName;
+    }
+
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    /**
+     * Returns the memory allocated by the thread during the phase.
+     *
+     * @return the allocated bytes, or {@code -1} if the JVM does not measure them
+     */
+    public long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+  }
+
+  /**
+   * Reads the memory allocated by the current thread, where the JVM supports it.
+   */
+  private static final class Allocations {
+    private static final com.sun.management.ThreadMXBean threadBean = threadBean();
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+      try {
+        Object bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+          com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+          if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean;
+          }
+        }
+      } catch (LinkageError | SecurityException e) {
+        // not measured
+      }
+      return null;
+    }
+
+    static long currentThread() {
+      return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+  }
+
+}
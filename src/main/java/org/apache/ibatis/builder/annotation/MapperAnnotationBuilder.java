@@ -64,12 +64,14 @@ import org.apache.ibatis.builder.BuilderException;
 import org.apache.ibatis.builder.CacheRefResolver;
 import org.apache.ibatis.builder.IncompleteElementException;
 import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.builder.xml.XMLMapperBuilder;
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
 import org.apache.ibatis.executor.keygen.NoKeyGenerator;
 import org.apache.ibatis.executor.keygen.SelectKeyGenerator;
+import org.apache.ibatis.executor.result.ColumnBatch;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.mapping.Discriminator;
 import org.apache.ibatis.mapping.FetchType;
@@ -125,10 +127,15 @@ public class MapperAnnotationBuilder {
         if (!canHaveStatement(method)) {
           continue;
         }
+        checkCursorResultType(method);
         if (getAnnotationWrapper(method, false, Select.class, SelectProvider.class).isPresent()
             && method.getAnnotation(ResultMap.class) == null) {
           parseResultMap(method);
         }
+        if (configuration.isLazyStatementBuilding()) {
+          registerStatement(method);
+          continue;
+        }
         try {
           parseStatement(method);
         } catch (IncompleteElementException e) {
@@ -144,16 +151,28 @@ public class MapperAnnotationBuilder {
     return !method.isBridge() && !method.isDefault();
   }
 
+  private void checkCursorResultType(Method method) {
+    // the rows of a column batch are all read at once, which a cursor cannot return
+    if (Cursor.class.isAssignableFrom(method.getReturnType()) && getReturnType(method) == ColumnBatch.class) {
+      throw new BuilderException("Cursor results cannot be mapped to a ColumnBatch, check the return type of " + method);
+    }
+  }
+
   private void parsePendingMethods() {
     Collection<MethodResolver> incompleteMethods = configuration.getIncompleteMethods();
-    synchronized (incompleteMethods) {
-      Iterator<MethodResolver> iter = incompleteMethods.iterator();
-      while (iter.hasNext()) {
-        try {
-          iter.next().resolve();
-          iter.remove();
-        } catch (IncompleteElementException e) {
-          // This method is still missing a resource
+    if (incompleteMethods.isEmpty()) {
+      return;
+    }
+    try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, "incomplete elements", null)) {
+      synchronized (incompleteMethods) {
+        Iterator<MethodResolver> iter = incompleteMethods.iterator();
+        while (iter.hasNext()) {
+          try {
+            iter.next().resolve();
+            iter.remove();
+          } catch (IncompleteElementException e) {
+            // This method is still missing a resource
+          }
         }
       }
     }
@@ -344,6 +363,7 @@ public class MapperAnnotationBuilder {
       boolean isSelect = sqlCommandType == SqlCommandType.SELECT;
       boolean flushCache = !isSelect;
       boolean useCache = isSelect;
+      boolean resultOrdered = false;
       if (options != null) {
         if (FlushCachePolicy.TRUE.equals(options.flushCache())) {
           flushCache = true;
@@ -351,6 +371,7 @@ public class MapperAnnotationBuilder {
           flushCache = false;
         }
         useCache = options.useCache();
+        resultOrdered = options.resultOrdered();
         fetchSize = options.fetchSize() > -1 || options.fetchSize() == Integer.MIN_VALUE ? options.fetchSize() : null; //issue #348
         timeout = options.timeout() > -1 ? options.timeout() : null;
         statementType = options.statementType();
@@ -384,8 +405,7 @@ public class MapperAnnotationBuilder {
           resultSetType,
           flushCache,
           useCache,
-          // TODO gcode issue #577
-          false,
+          resultOrdered,
           keyGenerator,
           keyProperty,
           keyColumn,
@@ -396,6 +416,18 @@ public class MapperAnnotationBuilder {
     });
   }
 
+  private void registerStatement(Method method) {
+    getAnnotationWrapper(method, true, statementAnnotationTypes).ifPresent(statementAnnotation -> {
+      // registers the language driver now, the registry is not safe to update once statements are in use
+      getLanguageDriver(method);
+      SqlCommandType sqlCommandType = statementAnnotation.getSqlCommandType();
+      boolean hasSelectKey = (SqlCommandType.INSERT.equals(sqlCommandType) || SqlCommandType.UPDATE.equals(sqlCommandType))
+          && getAnnotationWrapper(method, false, SelectKey.class).isPresent();
+      configuration.addLazyMappedStatement(assistant.getResource(), type.getName() + "." + method.getName(),
+          hasSelectKey, () -> parseStatement(method));
+    });
+  }
+
   private LanguageDriver getLanguageDriver(Method method) {
     Lang lang = method.getAnnotation(Lang.class);
     Class<? extends LanguageDriver> langClass = null;
@@ -0,0 +1,385 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.parsing.XPathParser;
+import org.apache.ibatis.session.Configuration;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * A file holding the validated documents of the mapper XML files in a compact binary form.
+ * <p>
+ * A mapper file whose size and modification time have not changed since the snapshot was written is rebuilt from the
+ * snapshot, without reading it, XML parsing, DTD loading and validation. The modification time of a mapper in a JAR
+ * file is the one of the JAR file. A mapper file whose size or modification time are unknown or changed is read, and it
+ * is still rebuilt from the snapshot if its content has not changed. Any other mapper file is parsed as usual and the
+ * snapshot is rewritten once all mappers are loaded. A snapshot written by a different mapper DTD or format is ignored, and so is a snapshot, or a
+ * document of it, that cannot be read.
+ *
+ * @see org.apache.ibatis.session.Configuration#setMapperSnapshotFile(String)
+ */
+final class MapperSnapshot {
+
+  private static final Log log = LogFactory.getLog(MapperSnapshot.class);
+
+  private static final int MAGIC = 0x4D425344;
+  private static final int VERSION = 2;
+  private static final String MAPPER_DTD = "org/apache/ibatis/builder/xml/mybatis-3-mapper.dtd";
+
+  private static final byte END = 0;
+  private static final byte ELEMENT = 1;
+  private static final byte TEXT = 2;
+  private static final byte CDATA = 3;
+
+  private final Path file;
+  private final byte[] grammarDigest;
+  private final Map<String, Entry> loaded;
+  private final Map<String, Entry> current = new ConcurrentHashMap<>();
+  private volatile boolean changed;
+
+  private MapperSnapshot(Path file, byte[] grammarDigest, Map<String, Entry> loaded) {
+    this.file = file;
+    this.grammarDigest = grammarDigest;
+    this.loaded = loaded;
+  }
+
+  static MapperSnapshot open(String fileName) {
+    Path file = Paths.get(fileName);
+    byte[] grammarDigest;
+    try (InputStream dtd = Resources.getResourceAsStream(MAPPER_DTD)) {
+      grammarDigest = digest(readAll(dtd));
+    } catch (IOException e) {
+      throw new BuilderException("Could not read " + MAPPER_DTD + ". Cause: " + e, e);
+    }
+    Map<String, Entry> loaded = new HashMap<>();
+    if (Files.isRegularFile(file)) {
+      // read at once, so that the lengths can be checked against the remaining bytes
+      try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+        if (in.readInt() == MAGIC && in.readInt() == VERSION && Arrays.equals(readBytes(in), grammarDigest)) {
+          int size = in.readInt();
+          for (int i = 0; i < size; i++) {
+            String location = in.readUTF();
+            loaded.put(location, new Entry(in.readLong(), in.readLong(), readBytes(in), readBytes(in)));
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        log.warn("Ignoring unreadable mapper snapshot " + file + ". Cause: " + e);
+        loaded.clear();
+      }
+    }
+    return new MapperSnapshot(file, grammarDigest, loaded);
+  }
+
+  /**
+   * Returns a parser of the mapper document, rebuilt from the snapshot if the file or its content is unchanged.
+   */
+  XPathParser parse(String location, URL url, Configuration configuration) throws IOException {
+    long[] stamp = stamp(url);
+    Entry entry = loaded.get(location);
+    if (entry != null && stamp != null && entry.size == stamp[0] && entry.lastModified == stamp[1]) {
+      Document document = readDocument(location, entry.document);
+      if (document != null) {
+        current.put(location, entry);
+        return new XPathParser(document, true, configuration.getVariables(), new XMLMapperEntityResolver());
+      }
+    }
+    byte[] content;
+    try (InputStream inputStream = url.openStream()) {
+      content = readAll(inputStream);
+    }
+    long size = stamp == null ? -1 : stamp[0];
+    long lastModified = stamp == null ? 0 : stamp[1];
+    byte[] contentDigest = digest(content);
+    if (entry != null && Arrays.equals(entry.contentDigest, contentDigest)) {
+      Document document = readDocument(location, entry.document);
+      if (document != null) {
+        if (entry.size != size || entry.lastModified != lastModified) {
+          // only touched, the new modification time is written
+          entry = new Entry(size, lastModified, contentDigest, entry.document);
+          changed = true;
+        }
+        current.put(location, entry);
+        return new XPathParser(document, true, configuration.getVariables(), new XMLMapperEntityResolver());
+      }
+    }
+    XPathParser parser = XMLMapperBuilder.newParser(new ByteArrayInputStream(content), configuration);
+    Document document = parser.evalNode("/*").getNode().getOwnerDocument();
+    current.put(location, new Entry(size, lastModified, contentDigest, writeDocument(document)));
+    changed = true;
+    return parser;
+  }
+
+  /**
+   * Returns the size and the modification time of a mapper file, or {@code null} if they are not known.
+   */
+  private static long[] stamp(URL url) {
+    try {
+      if ("file".equals(url.getProtocol())) {
+        Path path = Paths.get(url.toURI());
+        return new long[] { Files.size(path), Files.getLastModifiedTime(path).toMillis() };
+      }
+      URLConnection connection = url.openConnection();
+      if (connection instanceof JarURLConnection) {
+        // the time of an entry is kept to two seconds, the one of the JAR file changes whenever it is written
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        JarEntry jarEntry = jarConnection.getJarEntry();
+        long[] jarStamp = stamp(jarConnection.getJarFileURL());
+        if (jarEntry != null && jarEntry.getSize() >= 0 && jarStamp != null) {
+          return new long[] { jarEntry.getSize(), jarStamp[1] };
+        }
+      }
+    } catch (IOException | URISyntaxException | RuntimeException e) {
+      // read and compared by content
+    }
+    return null;
+  }
+
+  /**
+   * Writes the snapshot if a mapper file has been added, changed or removed since it was read.
+   */
+  void save() {
+    if (!changed && current.keySet().equals(loaded.keySet())) {
+      return;
+    }
+    try {
+      Path directory = file.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+          out.writeInt(MAGIC);
+          out.writeInt(VERSION);
+          writeBytes(out, grammarDigest);
+          out.writeInt(current.size());
+          for (Map.Entry<String, Entry> entry : current.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().size);
+            out.writeLong(entry.getValue().lastModified);
+            writeBytes(out, entry.getValue().contentDigest);
+            writeBytes(out, entry.getValue().document);
+          }
+        }
+        try {
+          // readers of the snapshot never see a partly written file
+          Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      log.warn("Could not write mapper snapshot " + file + ". Cause: " + e);
+    }
+  }
+
+  private static byte[] writeDocument(Document document) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writeNode(out, document.getDocumentElement(), new HashMap<>());
+    } catch (IOException e) {
+      // not thrown by a ByteArrayOutputStream
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writeNode(DataOutputStream out, Node node, Map<String, Integer> names) throws IOException {
+    switch (node.getNodeType()) {
+      case Node.ELEMENT_NODE:
+        out.writeByte(ELEMENT);
+        writeName(out, node.getNodeName(), names);
+        NamedNodeMap attributes = node.getAttributes();
+        out.writeShort(attributes.getLength());
+        for (int i = 0; i < attributes.getLength(); i++) {
+          Node attribute = attributes.item(i);
+          writeName(out, attribute.getNodeName(), names);
+          writeString(out, attribute.getNodeValue());
+        }
+        NodeList children = node.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+          writeNode(out, children.item(i), names);
+        }
+        out.writeByte(END);
+        break;
+      case Node.TEXT_NODE:
+        out.writeByte(TEXT);
+        writeString(out, node.getNodeValue());
+        break;
+      case Node.CDATA_SECTION_NODE:
+        out.writeByte(CDATA);
+        writeString(out, node.getNodeValue());
+        break;
+      default:
+        // comments and processing instructions are not used by the mapper builders
+        break;
+    }
+  }
+
+  private Document readDocument(String location, byte[] bytes) {
+    Document document;
+    try {
+      document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    } catch (ParserConfigurationException e) {
+      throw new BuilderException("Error creating document instance.  Cause: " + e, e);
+    }
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      List<String> names = new ArrayList<>();
+      in.readByte();
+      document.appendChild(readElement(in, document, names));
+      return document;
+    } catch (IOException | RuntimeException e) {
+      log.warn("Ignoring unreadable document of " + location + " in mapper snapshot " + file + ". Cause: " + e);
+      return null;
+    }
+  }
+
+  private static Element readElement(DataInputStream in, Document document, List<String> names) throws IOException {
+    Element element = document.createElement(readName(in, names));
+    int attributes = in.readShort();
+    for (int i = 0; i < attributes; i++) {
+      element.setAttribute(readName(in, names), readString(in));
+    }
+    for (byte type = in.readByte(); type != END; type = in.readByte()) {
+      if (type == ELEMENT) {
+        element.appendChild(readElement(in, document, names));
+      } else if (type == TEXT) {
+        element.appendChild(document.createTextNode(readString(in)));
+      } else {
+        element.appendChild(document.createCDATASection(readString(in)));
+      }
+    }
+    return element;
+  }
+
+  private static void writeName(DataOutputStream out, String name, Map<String, Integer> names) throws IOException {
+    Integer index = names.get(name);
+    if (index == null) {
+      names.put(name, names.size());
+      out.writeShort(-1);
+      writeString(out, name);
+    } else {
+      out.writeShort(index);
+    }
+  }
+
+  private static String readName(DataInputStream in, List<String> names) throws IOException {
+    int index = in.readShort();
+    if (index < 0) {
+      String name = readString(in);
+      names.add(name);
+      return name;
+    }
+    return names.get(index);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    return new String(readBytes(in), StandardCharsets.UTF_8);
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    // the snapshot is read from an array, whose remaining bytes are all available
+    if (length < 0 || length > in.available()) {
+      throw new EOFException("Invalid length " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static byte[] readAll(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int n;
+    while ((n = inputStream.read(buffer)) != -1) {
+      bytes.write(buffer, 0, n);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static byte[] digest(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class Entry {
+    private final long size;
+    private final long lastModified;
+    private final byte[] contentDigest;
+    private final byte[] document;
+
+    Entry(long size, long lastModified, byte[] contentDigest, byte[] document) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.contentDigest = contentDigest;
+      this.document = document;
+    }
+  }
+
+}
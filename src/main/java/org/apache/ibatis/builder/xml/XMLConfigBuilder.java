@@ -15,14 +15,24 @@
  */
 package org.apache.ibatis.builder.xml;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sql.DataSource;
 
 import org.apache.ibatis.builder.BaseBuilder;
 import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.datasource.DataSourceFactory;
 import org.apache.ibatis.executor.ErrorContext;
 import org.apache.ibatis.executor.loader.ProxyFactory;
@@ -53,6 +63,9 @@ import org.apache.ibatis.type.JdbcType;
  */
 public class XMLConfigBuilder extends BaseBuilder {
 
+  /** The number of parsed mapper documents that may wait to be applied, per parsing thread. */
+  private static final int MAX_PENDING_DOCUMENTS_PER_THREAD = 2;
+
   private boolean parsed;
   private final XPathParser parser;
   private String environment;
@@ -107,31 +120,39 @@ public class XMLConfigBuilder extends BaseBuilder {
       propertiesElement(root.evalNode("properties"));
       // 处理<settings/>标签，配置相关系统属性
       Properties settings = settingsAsProperties(root.evalNode("settings"));
+      // read it first so that the following elements are profiled
+      configuration.setStartupProfiling(booleanValueOf(settings.getProperty("startupProfiling"), false));
       loadCustomVfs(settings);
       // 使用系统属性，设置日志实现类
       loadCustomLogImpl(settings);
       // 处理<typeAliases/>标签，注册别名
-      typeAliasesElement(root.evalNode("typeAliases"));
+      profiled("typeAliases", () -> typeAliasesElement(root.evalNode("typeAliases")));
       // 处理<plugins/>标签，注册插件
-      pluginElement(root.evalNode("plugins"));
-      objectFactoryElement(root.evalNode("objectFactory"));
-      objectWrapperFactoryElement(root.evalNode("objectWrapperFactory"));
-      reflectorFactoryElement(root.evalNode("reflectorFactory"));
+      profiled("plugins", () -> pluginElement(root.evalNode("plugins")));
+      profiled("objectFactory", () -> objectFactoryElement(root.evalNode("objectFactory")));
+      profiled("objectWrapperFactory", () -> objectWrapperFactoryElement(root.evalNode("objectWrapperFactory")));
+      profiled("reflectorFactory", () -> reflectorFactoryElement(root.evalNode("reflectorFactory")));
       // 使用系统属性，设置全局配置configuration相应的域值
       settingsElement(settings);
       // read it after objectFactory and objectWrapperFactory issue #631
       // 处理<environments/>标签，配置环境，可配置多个
-      environmentsElement(root.evalNode("environments"));
-      databaseIdProviderElement(root.evalNode("databaseIdProvider"));
+      profiled("environments", () -> environmentsElement(root.evalNode("environments")));
+      profiled("databaseIdProvider", () -> databaseIdProviderElement(root.evalNode("databaseIdProvider")));
       // 处理<typeHandlers/>标签，注册类型处理器
-      typeHandlerElement(root.evalNode("typeHandlers"));
+      profiled("typeHandlers", () -> typeHandlerElement(root.evalNode("typeHandlers")));
       // 处理<mappers/>标签，注册映射器
-      mapperElement(root.evalNode("mappers"));
+      profiled("mappers", () -> mapperElement(root.evalNode("mappers")));
     } catch (Exception e) {
       throw new BuilderException("Error parsing SQL Mapper Configuration. Cause: " + e, e);
     }
   }
 
+  private void profiled(String phaseName, Step step) throws Exception {
+    try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, phaseName, null)) {
+      step.run();
+    }
+  }
+
   private Properties settingsAsProperties(XNode context) {
     if (context == null) {
       return new Properties();
@@ -296,6 +317,17 @@ public class XMLConfigBuilder extends BaseBuilder {
     configuration.setLogPrefix(props.getProperty("logPrefix"));
     configuration.setConfigurationFactory(resolveClass(props.getProperty("configurationFactory")));
     configuration.setShrinkWhitespacesInSql(booleanValueOf(props.getProperty("shrinkWhitespacesInSql"), false));
+    configuration.setParallelMapperParsing(booleanValueOf(props.getProperty("parallelMapperParsing"), false));
+    configuration.setMapperSnapshotFile(props.getProperty("mapperSnapshotFile"));
+    configuration.setLazyStatementBuilding(booleanValueOf(props.getProperty("lazyStatementBuilding"), false));
+    configuration.setStreamingMapperParsing(booleanValueOf(props.getProperty("streamingMapperParsing"), false));
+    configuration.setReflectorWarmUp(booleanValueOf(props.getProperty("reflectorWarmUp"), false));
+    configuration.setCompactConfiguration(booleanValueOf(props.getProperty("compactConfiguration"), false));
+    configuration.setPrimitiveScalarResults(booleanValueOf(props.getProperty("primitiveScalarResults"), false));
+    configuration.setCompactMapResults(booleanValueOf(props.getProperty("compactMapResults"), false));
+    configuration.setAutoMappingPlanCacheSize(integerValueOf(props.getProperty("autoMappingPlanCacheSize"), 0));
+    configuration.setParallelRowMapping(booleanValueOf(props.getProperty("parallelRowMapping"), false));
+    configuration.setCursorReadAheadSize(integerValueOf(props.getProperty("cursorReadAheadSize"), 0));
     configuration.setDefaultSqlProviderType(resolveClass(props.getProperty("defaultSqlProviderType")));
   }
 
@@ -400,37 +432,139 @@ public class XMLConfigBuilder extends BaseBuilder {
 
   private void mapperElement(XNode parent) throws Exception {
     if (parent != null) {
-      for (XNode child : parent.getChildren()) {
-        //<mappers/>子标签<package/>批量注册映射器，必须是接口
-        if ("package".equals(child.getName())) {
-          String mapperPackage = child.getStringAttribute("name");
-          configuration.addMappers(mapperPackage);
-        } else {
-          String resource = child.getStringAttribute("resource");
-          String url = child.getStringAttribute("url");
-          String mapperClass = child.getStringAttribute("class");
-          if (resource != null && url == null && mapperClass == null) {
-            //通过resource属性进行加载，也就是xml文件
-            ErrorContext.instance().resource(resource);
-            try(InputStream inputStream = Resources.getResourceAsStream(resource)) {
-              XMLMapperBuilder mapperParser = new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments());
-              mapperParser.parse();
-            }
-          } else if (resource == null && url != null && mapperClass == null) {
-            //通过url属性进行加载，xml文件格式的流
-            ErrorContext.instance().resource(url);
-            try(InputStream inputStream = Resources.getUrlAsStream(url)){
-              XMLMapperBuilder mapperParser = new XMLMapperBuilder(inputStream, configuration, url, configuration.getSqlFragments());
-              mapperParser.parse();
+      List<XNode> children = parent.getChildren();
+      MapperSnapshot snapshot = configuration.getMapperSnapshotFile() == null ? null
+          : MapperSnapshot.open(configuration.getMapperSnapshotFile());
+      int threads = configuration.isParallelMapperParsing()
+          ? Math.min(children.size(), Runtime.getRuntime().availableProcessors()) : 1;
+      ExecutorService executor = threads < 2 ? null : newMapperParsingExecutor(threads);
+      try {
+        MapperDocuments documents = executor == null ? null
+            : new MapperDocuments(children, executor, snapshot, threads * MAX_PENDING_DOCUMENTS_PER_THREAD);
+        for (int i = 0; i < children.size(); i++) {
+          XNode child = children.get(i);
+          if (documents != null) {
+            documents.parseAhead(i);
+          }
+          //<mappers/>子标签<package/>批量注册映射器，必须是接口
+          if ("package".equals(child.getName())) {
+            String mapperPackage = child.getStringAttribute("name");
+            try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, "mapper package", mapperPackage)) {
+              configuration.addMappers(mapperPackage);
             }
-          } else if (resource == null && url == null && mapperClass != null) {
-            //通过class属性进行加载，也就是注解，要求必须是接口
-            Class<?> mapperInterface = Resources.classForName(mapperClass);
-            configuration.addMapper(mapperInterface);
           } else {
-            throw new BuilderException("A mapper element may only specify a url, resource or class, but not more than one.");
+            String resource = child.getStringAttribute("resource");
+            String url = child.getStringAttribute("url");
+            String mapperClass = child.getStringAttribute("class");
+            try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, "mapper",
+                resource != null ? resource : url != null ? url : mapperClass)) {
+              if (resource != null && url == null && mapperClass == null) {
+                //通过resource属性进行加载，也就是xml文件
+                ErrorContext.instance().resource(resource);
+                XPathParser document = documents != null ? documents.get(i) : parseMapperDocument(resource, null, snapshot);
+                XMLMapperBuilder mapperParser = new XMLMapperBuilder(document, configuration, resource, configuration.getSqlFragments());
+                mapperParser.parse();
+              } else if (resource == null && url != null && mapperClass == null) {
+                //通过url属性进行加载，xml文件格式的流
+                ErrorContext.instance().resource(url);
+                XPathParser document = documents != null ? documents.get(i) : parseMapperDocument(null, url, snapshot);
+                XMLMapperBuilder mapperParser = new XMLMapperBuilder(document, configuration, url, configuration.getSqlFragments());
+                mapperParser.parse();
+              } else if (resource == null && url == null && mapperClass != null) {
+                //通过class属性进行加载，也就是注解，要求必须是接口
+                Class<?> mapperInterface = Resources.classForName(mapperClass);
+                configuration.addMapper(mapperInterface);
+              } else {
+                throw new BuilderException("A mapper element may only specify a url, resource or class, but not more than one.");
+              }
+            }
           }
         }
+      } finally {
+        if (executor != null) {
+          executor.shutdownNow();
+        }
+      }
+      if (snapshot != null) {
+        snapshot.save();
+      }
+    }
+  }
+
+  private XPathParser parseMapperDocument(String resource, String url, MapperSnapshot snapshot) throws IOException {
+    String location = resource != null ? resource : url;
+    try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, "mapper document", location)) {
+      if (snapshot != null) {
+        return snapshot.parse(resource != null ? "resource:" + resource : "url:" + url,
+            resource != null ? Resources.getResourceURL(resource) : new URL(url), configuration);
+      }
+      try (InputStream inputStream = resource != null ? Resources.getResourceAsStream(resource) : Resources.getUrlAsStream(url)) {
+        return XMLMapperBuilder.newParser(inputStream, configuration);
+      }
+    }
+  }
+
+  private ExecutorService newMapperParsingExecutor(int threads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "mybatis-mapper-parser-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * The mapper documents read and parsed concurrently. The documents are applied to the configuration one by one in
+   * declaration order, so the result does not depend on the order in which the parsing completes. Only the mappers
+   * listed within a few elements after the one being applied are parsed ahead, so that the parsed documents waiting
+   * to be applied are bounded.
+   */
+  private class MapperDocuments {
+    private final List<XNode> children;
+    private final ExecutorService executor;
+    private final MapperSnapshot snapshot;
+    private final int maxPending;
+    private final List<Future<XPathParser>> documents;
+
+    MapperDocuments(List<XNode> children, ExecutorService executor, MapperSnapshot snapshot, int maxPending) {
+      this.children = children;
+      this.executor = executor;
+      this.snapshot = snapshot;
+      this.maxPending = maxPending;
+      this.documents = new ArrayList<>(children.size());
+    }
+
+    /**
+     * Starts parsing the mapper documents listed up to a number of elements after the one being applied.
+     */
+    void parseAhead(int index) {
+      int end = Math.min(children.size(), index + maxPending + 1);
+      while (documents.size() < end) {
+        XNode child = children.get(documents.size());
+        String resource = child.getStringAttribute("resource");
+        String url = child.getStringAttribute("url");
+        String mapperClass = child.getStringAttribute("class");
+        Future<XPathParser> document = null;
+        if (!"package".equals(child.getName()) && mapperClass == null && (resource == null) != (url == null)) {
+          document = executor.submit(() -> parseMapperDocument(resource, url, snapshot));
+        }
+        documents.add(document);
+      }
+    }
+
+    /**
+     * Waits for a parsed document, which is no longer held once returned.
+     */
+    XPathParser get(int index) throws Exception {
+      parseAhead(index);
+      try {
+        return documents.set(index, null).get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+          throw (Exception) cause;
+        }
+        throw (Error) cause;
       }
     }
   }
@@ -445,4 +579,12 @@ public class XMLConfigBuilder extends BaseBuilder {
     return environment.equals(id);
   }
 
+  /**
+   * A step of the parsing, profiled as a phase.
+   */
+  @FunctionalInterface
+  private interface Step {
+    void run() throws Exception;
+  }
+
 }
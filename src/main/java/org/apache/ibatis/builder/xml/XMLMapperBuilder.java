@@ -33,6 +33,7 @@ import org.apache.ibatis.builder.CacheRefResolver;
 import org.apache.ibatis.builder.IncompleteElementException;
 import org.apache.ibatis.builder.MapperBuilderAssistant;
 import org.apache.ibatis.builder.ResultMapResolver;
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.cache.Cache;
 import org.apache.ibatis.executor.ErrorContext;
 import org.apache.ibatis.io.Resources;
@@ -43,6 +44,7 @@ import org.apache.ibatis.mapping.ResultFlag;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultMapping;
 import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.parsing.StaxDocumentReader;
 import org.apache.ibatis.parsing.XPathParser;
 import org.apache.ibatis.reflection.MetaClass;
 import org.apache.ibatis.session.Configuration;
@@ -68,7 +70,9 @@ public class XMLMapperBuilder extends BaseBuilder {
 
   @Deprecated
   public XMLMapperBuilder(Reader reader, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
-    this(new XPathParser(reader, true, configuration.getVariables(), new XMLMapperEntityResolver()),
+    this(configuration.isStreamingMapperParsing()
+        ? new XPathParser(StaxDocumentReader.read(reader), false, configuration.getVariables(), new XMLMapperEntityResolver())
+        : new XPathParser(reader, true, configuration.getVariables(), new XMLMapperEntityResolver()),
         configuration, resource, sqlFragments);
   }
 
@@ -78,18 +82,30 @@ public class XMLMapperBuilder extends BaseBuilder {
   }
 
   public XMLMapperBuilder(InputStream inputStream, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
-    this(new XPathParser(inputStream, true, configuration.getVariables(), new XMLMapperEntityResolver()),
-        configuration, resource, sqlFragments);
+    this(newParser(inputStream, configuration), configuration, resource, sqlFragments);
   }
 
-  private XMLMapperBuilder(XPathParser parser, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
+  XMLMapperBuilder(XPathParser parser, Configuration configuration, String resource, Map<String, XNode> sqlFragments) {
     super(configuration);
     this.builderAssistant = new MapperBuilderAssistant(configuration, resource);
     this.parser = parser;
+    this.parser.enableElementPaths();
     this.sqlFragments = sqlFragments;
     this.resource = resource;
   }
 
+  /**
+   * Returns a parser of the mapper document, read with a streaming reader if
+   * {@link Configuration#isStreamingMapperParsing()} is set.
+   */
+  static XPathParser newParser(InputStream inputStream, Configuration configuration) {
+    if (configuration.isStreamingMapperParsing()) {
+      return new XPathParser(StaxDocumentReader.read(inputStream), false, configuration.getVariables(),
+          new XMLMapperEntityResolver());
+    }
+    return new XPathParser(inputStream, true, configuration.getVariables(), new XMLMapperEntityResolver());
+  }
+
   public void parse() {
     //如果该xml文件已经加载过一次，则不再加载
     if (!configuration.isResourceLoaded(resource)) {
@@ -106,9 +122,14 @@ public class XMLMapperBuilder extends BaseBuilder {
     }
 
     // 容错处理
-    parsePendingResultMaps();
-    parsePendingCacheRefs();
-    parsePendingStatements();
+    if (!configuration.getIncompleteResultMaps().isEmpty() || !configuration.getIncompleteCacheRefs().isEmpty()
+        || !configuration.getIncompleteStatements().isEmpty()) {
+      try (StartupProfiler.Phase phase = StartupProfiler.phase(configuration, "incomplete elements", null)) {
+        parsePendingResultMaps();
+        parsePendingCacheRefs();
+        parsePendingStatements();
+      }
+    }
   }
 
   public XNode getSqlFragment(String refid) {
@@ -154,7 +175,11 @@ public class XMLMapperBuilder extends BaseBuilder {
     for (XNode context : list) {
       final XMLStatementBuilder statementParser = new XMLStatementBuilder(configuration, builderAssistant, context, requiredDatabaseId);
       try {
-        statementParser.parseStatementNode();
+        if (configuration.isLazyStatementBuilding()) {
+          statementParser.registerStatementNode();
+        } else {
+          statementParser.parseStatementNode();
+        }
       } catch (IncompleteElementException e) {
         configuration.addIncompleteStatement(statementParser);
       }
@@ -0,0 +1,197 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.parsing.XPathParser;
+import org.apache.ibatis.session.Configuration;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Loads mapper XML files again into a configuration that is in use, without building a new configuration.
+ * <p>
+ * Only the statements, result maps, parameter maps and SQL fragments of a reloaded file are replaced, see
+ * {@link Configuration#replaceMapperResource(String, String, Runnable)}, and only the cache of its namespace is
+ * cleared. That cache is kept along with its settings, so that the namespaces referring to it keep sharing it. Elements
+ * of other mappers that were built from the replaced ones, such as result maps extending them, are not rebuilt.
+ * <p>
+ * Changes are detected by comparing the content of the files with the content read when the reloader was created or
+ * when the file was last reloaded.
+ *
+ * @since 3.5.7
+ */
+public class XMLMapperReloader {
+
+  private static final Log log = LogFactory.getLog(XMLMapperReloader.class);
+
+  private final Configuration configuration;
+  private final Map<String, byte[]> digests = new HashMap<>();
+
+  public XMLMapperReloader(Configuration configuration) {
+    this.configuration = configuration;
+    for (String resource : mapperResources()) {
+      try {
+        digests.put(resource, digest(read(resource)));
+      } catch (IOException e) {
+        log.warn("Could not read mapper resource " + resource + ". Cause: " + e);
+      }
+    }
+  }
+
+  /**
+   * Loads again the mapper XML files whose content has changed.
+   *
+   * @return the resources that were loaded again
+   */
+  public synchronized List<String> reloadChanged() {
+    List<String> reloaded = new ArrayList<>();
+    for (String resource : mapperResources()) {
+      byte[] content;
+      try {
+        content = read(resource);
+      } catch (IOException e) {
+        log.warn("Could not read mapper resource " + resource + ". Cause: " + e);
+        continue;
+      }
+      byte[] digest = digest(content);
+      byte[] previous = digests.putIfAbsent(resource, digest);
+      // a mapper loaded after this reloader was created is only recorded
+      if (previous != null && !Arrays.equals(previous, digest)) {
+        reload(resource, content, digest);
+        reloaded.add(resource);
+      }
+    }
+    return reloaded;
+  }
+
+  /**
+   * Loads a mapper XML file again, whether it has changed or not.
+   *
+   * @param resource
+   *          the classpath resource or the URL the mapper was loaded from
+   */
+  public synchronized void reload(String resource) {
+    byte[] content;
+    try {
+      content = read(resource);
+    } catch (IOException e) {
+      throw new BuilderException("Error reading mapper resource " + resource + ". Cause: " + e, e);
+    }
+    reload(resource, content, digest(content));
+  }
+
+  private void reload(String resource, byte[] content, byte[] digest) {
+    try {
+      ErrorContext.instance().resource(resource);
+      // parses and validates the whole document before anything is replaced
+      XPathParser parser = XMLMapperBuilder.newParser(new ByteArrayInputStream(content), configuration);
+      XNode mapper = parser.evalNode("/mapper");
+      String namespace = mapper.getStringAttribute("namespace");
+      if (namespace == null || namespace.isEmpty()) {
+        throw new BuilderException("Mapper's namespace cannot be empty");
+      }
+      keepCache(mapper.getNode(), namespace);
+      configuration.replaceMapperResource(resource, namespace,
+          () -> new XMLMapperBuilder(parser, configuration, resource, configuration.getSqlFragments()).parse());
+      if (configuration.hasCache(namespace)) {
+        configuration.getCache(namespace).clear();
+      }
+      digests.put(resource, digest);
+    } finally {
+      ErrorContext.instance().reset();
+    }
+  }
+
+  /**
+   * Makes the mapper refer to the cache already built for its namespace instead of building a new one.
+   */
+  private void keepCache(Node mapper, String namespace) {
+    if (!configuration.hasCache(namespace)) {
+      return;
+    }
+    Node cache = null;
+    List<Node> cacheRefs = new ArrayList<>();
+    NodeList children = mapper.getChildNodes();
+    for (int i = 0; i < children.getLength(); i++) {
+      Node child = children.item(i);
+      if ("cache".equals(child.getNodeName())) {
+        cache = child;
+      } else if ("cache-ref".equals(child.getNodeName())) {
+        cacheRefs.add(child);
+      }
+    }
+    if (cache == null) {
+      return;
+    }
+    // a cache declared along with a cache-ref takes precedence
+    cacheRefs.forEach(mapper::removeChild);
+    Element cacheRef = mapper.getOwnerDocument().createElement("cache-ref");
+    cacheRef.setAttribute("namespace", namespace);
+    mapper.replaceChild(cacheRef, cache);
+  }
+
+  private List<String> mapperResources() {
+    List<String> resources = new ArrayList<>();
+    for (String resource : configuration.getLoadedResources()) {
+      if (resource.endsWith(".xml")) {
+        resources.add(resource);
+      }
+    }
+    return resources;
+  }
+
+  private static byte[] read(String resource) throws IOException {
+    // mapper urls always have a scheme, classpath resources never have one
+    try (InputStream in = resource.indexOf(':') > 0 ? Resources.getUrlAsStream(resource)
+        : Resources.getResourceAsStream(resource)) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int n;
+      while ((n = in.read(buffer)) != -1) {
+        bytes.write(buffer, 0, n);
+      }
+      return bytes.toByteArray();
+    }
+  }
+
+  private static byte[] digest(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
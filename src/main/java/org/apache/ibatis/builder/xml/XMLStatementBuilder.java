@@ -124,6 +124,34 @@ public class XMLStatementBuilder extends BaseBuilder {
         keyGenerator, keyProperty, keyColumn, databaseId, langDriver, resultSets);
   }
 
+  /**
+   * Registers the statement to be parsed by {@link #parseStatementNode()} the first time it is looked up.
+   *
+   * @since 3.5.7
+   * @see Configuration#setLazyStatementBuilding(boolean)
+   */
+  public void registerStatementNode() {
+    String id = context.getStringAttribute("id");
+    String databaseId = context.getStringAttribute("databaseId");
+
+    if (!databaseIdMatchesCurrent(id, databaseId, this.requiredDatabaseId)) {
+      return;
+    }
+
+    // registers the language driver now, the registry is not safe to update once statements are in use
+    getLanguageDriver(context.getStringAttribute("lang"));
+    boolean hasSelectKey = false;
+    for (XNode child : context.getChildren()) {
+      String selectKeyDatabaseId = child.getStringAttribute("databaseId");
+      if ("selectKey".equals(child.getName())
+          && (selectKeyDatabaseId == null || selectKeyDatabaseId.equals(configuration.getDatabaseId()))) {
+        hasSelectKey = true;
+      }
+    }
+    configuration.addLazyMappedStatement(builderAssistant.getResource(),
+        builderAssistant.applyCurrentNamespace(id, false), hasSelectKey, this::parseStatementNode);
+  }
+
   private void processSelectKeyNodes(String id, Class<?> parameterTypeClass, LanguageDriver langDriver) {
     List<XNode> selectKeyNodes = context.evalNodes("selectKey");
     if (configuration.getDatabaseId() != null) {
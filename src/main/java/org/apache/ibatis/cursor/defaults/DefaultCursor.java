@@ -17,8 +17,12 @@ package org.apache.ibatis.cursor.defaults;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
@@ -31,6 +35,10 @@ import org.apache.ibatis.session.RowBounds;
 /**
  * This is the default implementation of a MyBatis Cursor.
  * This implementation is not thread safe.
+ * <p>
+ * With a read-ahead size, the rows are fetched and mapped by a background thread into a queue of that size while the
+ * previous results are consumed. When the cursor is closed, the statement is cancelled and the thread is waited for
+ * a short while, so a fetch that cannot be cancelled does not hold up the close.
  *
  * @author Guillaume Darmont / guillaume@dropinocean.com
  */
@@ -49,6 +57,14 @@ public class DefaultCursor<T> implements Cursor<T> {
   private CursorStatus status = CursorStatus.CREATED;
   private int indexWithRowBound = -1;
 
+  private static final AtomicInteger readAheadThreadCount = new AtomicInteger();
+  private static final long READ_AHEAD_STOP_TIMEOUT_MILLIS = 100;
+  private final int readAheadSize;
+  private BlockingQueue<ReadAheadItem<T>> readAheadQueue;
+  private Thread readAheadThread;
+  private volatile boolean readAheadStopped;
+  private volatile boolean readAheadFetching;
+
   private enum CursorStatus {
 
     /**
@@ -70,10 +86,32 @@ public class DefaultCursor<T> implements Cursor<T> {
   }
 
   public DefaultCursor(DefaultResultSetHandler resultSetHandler, ResultMap resultMap, ResultSetWrapper rsw, RowBounds rowBounds) {
+    this(resultSetHandler, resultMap, rsw, rowBounds, 0);
+  }
+
+  /**
+   * Creates a cursor that fetches the rows ahead of the consumer.
+   *
+   * @param resultSetHandler
+   *          the result set handler
+   * @param resultMap
+   *          the result map
+   * @param rsw
+   *          the result set wrapper
+   * @param rowBounds
+   *          the row bounds
+   * @param readAheadSize
+   *          the number of results fetched ahead by a background thread, {@code 0} to fetch each result when it is
+   *          asked for
+   * @since 3.5.7
+   */
+  public DefaultCursor(DefaultResultSetHandler resultSetHandler, ResultMap resultMap, ResultSetWrapper rsw, RowBounds rowBounds,
+      int readAheadSize) {
     this.resultSetHandler = resultSetHandler;
     this.resultMap = resultMap;
     this.rsw = rsw;
     this.rowBounds = rowBounds;
+    this.readAheadSize = readAheadSize;
   }
 
   @Override
@@ -109,6 +147,7 @@ public class DefaultCursor<T> implements Cursor<T> {
       return;
     }
 
+    stopReadAhead();
     ResultSet rs = rsw.getResultSet();
     try {
       if (rs != null) {
@@ -122,6 +161,9 @@ public class DefaultCursor<T> implements Cursor<T> {
   }
 
   protected T fetchNextUsingRowBound() {
+    if (readAheadSize > 0) {
+      return fetchNextReadAhead();
+    }
     T result = fetchNextObjectFromDatabase();
     while (objectWrapperResultHandler.fetched && indexWithRowBound < rowBounds.getOffset()) {
       result = fetchNextObjectFromDatabase();
@@ -158,6 +200,131 @@ public class DefaultCursor<T> implements Cursor<T> {
     return next;
   }
 
+  private T fetchNextReadAhead() {
+    if (isClosed()) {
+      return null;
+    }
+    status = CursorStatus.OPEN;
+    if (readAheadThread == null) {
+      startReadAhead();
+    }
+
+    ReadAheadItem<T> item;
+    try {
+      item = readAheadQueue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new IllegalStateException("Interrupted while waiting for the next result of a Cursor", e);
+    }
+    if (item.failure != null) {
+      close();
+      if (item.failure instanceof Error) {
+        throw (Error) item.failure;
+      }
+      throw (RuntimeException) item.failure;
+    }
+    objectWrapperResultHandler.fetched = !item.end;
+    if (item.end || item.last) {
+      close();
+      status = CursorStatus.CONSUMED;
+    }
+    return item.result;
+  }
+
+  private void startReadAhead() {
+    readAheadQueue = new ArrayBlockingQueue<>(readAheadSize);
+    readAheadThread = new Thread(this::readAhead, "mybatis-cursor-read-ahead-" + readAheadThreadCount.incrementAndGet());
+    readAheadThread.setDaemon(true);
+    readAheadThread.start();
+  }
+
+  private void readAhead() {
+    final ObjectWrapperResultHandler<T> resultHandler = new ObjectWrapperResultHandler<>();
+    final long offset = rowBounds.getOffset();
+    final long end = offset + rowBounds.getLimit();
+    long index = 0;
+    Throwable failure = null;
+    try {
+      while (!readAheadStopped) {
+        resultHandler.fetched = false;
+        readAheadFetching = true;
+        try {
+          if (!rsw.getResultSet().isClosed()) {
+            resultSetHandler.handleRowValues(rsw, resultMap, resultHandler, RowBounds.DEFAULT, null);
+          }
+        } finally {
+          readAheadFetching = false;
+        }
+        if (!resultHandler.fetched) {
+          return;
+        }
+        T result = resultHandler.result;
+        resultHandler.result = null;
+        if (index++ >= offset) {
+          boolean last = index == end;
+          readAheadQueue.put(new ReadAheadItem<>(result, false, last, null));
+          if (last) {
+            return;
+          }
+        }
+      }
+    } catch (SQLException e) {
+      failure = new RuntimeException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException | Error e) {
+      failure = e;
+    } catch (Throwable e) {
+      failure = new RuntimeException(e);
+    } finally {
+      // the consumer waits for an item until the end of the results or a failure
+      if (!readAheadStopped) {
+        putEnd(failure);
+      }
+    }
+  }
+
+  private void putEnd(Throwable failure) {
+    try {
+      readAheadQueue.put(new ReadAheadItem<>(null, failure == null, false, failure));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void stopReadAhead() {
+    if (readAheadThread == null) {
+      return;
+    }
+    readAheadStopped = true;
+    // not interrupted, as some drivers close the connection of an interrupted thread, but given room in the queue
+    readAheadQueue.clear();
+    if (readAheadThread.isAlive()) {
+      // some drivers keep a cancel request for the next statement when none is running
+      if (readAheadFetching) {
+        cancelStatement();
+      }
+      try {
+        readAheadThread.join(READ_AHEAD_STOP_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    readAheadQueue.clear();
+  }
+
+  private void cancelStatement() {
+    try {
+      Statement statement = rsw.getResultSet().getStatement();
+      if (statement != null) {
+        statement.cancel();
+      }
+    } catch (SQLException e) {
+      // ignore
+    }
+  }
+
   private boolean isClosed() {
     return status == CursorStatus.CLOSED || status == CursorStatus.CONSUMED;
   }
@@ -166,6 +333,20 @@ public class DefaultCursor<T> implements Cursor<T> {
     return indexWithRowBound + 1;
   }
 
+  private static final class ReadAheadItem<T> {
+    private final T result;
+    private final boolean end;
+    private final boolean last;
+    private final Throwable failure;
+
+    ReadAheadItem(T result, boolean end, boolean last, Throwable failure) {
+      this.result = result;
+      this.end = end;
+      this.last = last;
+      this.failure = failure;
+    }
+  }
+
   protected static class ObjectWrapperResultHandler<T> implements ResultHandler<T> {
 
     protected T result;
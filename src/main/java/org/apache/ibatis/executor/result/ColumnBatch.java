@@ -0,0 +1,170 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The rows of a result set held column by column, instead of one object per row. A statement returns a column batch
+ * per result set when its result type is {@code ColumnBatch}, which suits queries returning many rows of a few values,
+ * such as aggregations, that are not worth a bean per row.
+ * <p>
+ * The columns are read with the type handlers the registry picks for their JDBC types. The int, bigint and double
+ * columns read by the default type handlers are held in an {@link IntArrayList}, a {@link LongArrayList} or a
+ * {@link DoubleArrayList}, which keep the values unboxed and the {@code null} values in a bit set. The other columns are
+ * held in a list of the objects their type handler returns. The row bounds of the query apply to the rows of the
+ * batch. A cursor cannot return column batches, as the rows of a batch are all read at once: a mapper method returning
+ * a {@code Cursor<ColumnBatch>} is rejected when its statement is built, and so is a cursor opened on a statement whose
+ * result type is {@code ColumnBatch}.
+ *
+ * <pre>
+ * &lt;select id="selectTotals" resultType="org.apache.ibatis.executor.result.ColumnBatch"&gt;
+ *   select region_id, count(*) as orders, sum(amount) as amount from orders group by region_id
+ * &lt;/select&gt;
+ * </pre>
+ *
+ * @since 3.5.7
+ */
+public class ColumnBatch implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<String> columnNames;
+  private final List<List<?>> columns;
+  private final int rowCount;
+
+  /**
+   * Creates a batch.
+   *
+   * @param columnNames
+   *          the names of the columns
+   * @param columns
+   *          the values of each column, all of the same size
+   */
+  public ColumnBatch(List<String> columnNames, List<? extends List<?>> columns) {
+    if (columnNames.size() != columns.size()) {
+      throw new IllegalArgumentException(
+          "The batch has " + columnNames.size() + " column names but " + columns.size() + " columns");
+    }
+    this.rowCount = columns.isEmpty() ? 0 : columns.get(0).size();
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).size() != rowCount) {
+        throw new IllegalArgumentException("The column '" + columnNames.get(i) + "' has " + columns.get(i).size()
+            + " values but the batch has " + rowCount + " rows");
+      }
+    }
+    this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+    this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public int getColumnCount() {
+    return columns.size();
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  /**
+   * Returns the values of a column.
+   *
+   * @param index
+   *          the index of the column, starting at 0
+   * @return the values, one per row
+   */
+  public List<?> getColumn(int index) {
+    return columns.get(index);
+  }
+
+  /**
+   * Returns the values of a column.
+   *
+   * @param columnName
+   *          the name of the column, ignoring case
+   * @return the values, one per row
+   * @throws IllegalArgumentException
+   *           if the batch has no such column
+   */
+  public List<?> getColumn(String columnName) {
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+        return columns.get(i);
+      }
+    }
+    throw new IllegalArgumentException("The batch has no column named '" + columnName + "'. Columns are " + columnNames);
+  }
+
+  /**
+   * Returns the values of an int column.
+   *
+   * @param columnName
+   *          the name of the column, ignoring case
+   * @return the values, one per row
+   * @throws ClassCastException
+   *           if the column does not hold int values
+   */
+  public IntArrayList getIntColumn(String columnName) {
+    return getColumn(columnName, IntArrayList.class);
+  }
+
+  /**
+   * Returns the values of a bigint column.
+   *
+   * @param columnName
+   *          the name of the column, ignoring case
+   * @return the values, one per row
+   * @throws ClassCastException
+   *           if the column does not hold long values
+   */
+  public LongArrayList getLongColumn(String columnName) {
+    return getColumn(columnName, LongArrayList.class);
+  }
+
+  /**
+   * Returns the values of a double column.
+   *
+   * @param columnName
+   *          the name of the column, ignoring case
+   * @return the values, one per row
+   * @throws ClassCastException
+   *           if the column does not hold double values
+   */
+  public DoubleArrayList getDoubleColumn(String columnName) {
+    return getColumn(columnName, DoubleArrayList.class);
+  }
+
+  private <T> T getColumn(String columnName, Class<T> columnType) {
+    List<?> column = getColumn(columnName);
+    if (!columnType.isInstance(column)) {
+      throw new ClassCastException("The column '" + columnName + "' is held in a " + column.getClass().getSimpleName()
+          + ", not in a " + columnType.getSimpleName());
+    }
+    return columnType.cast(column);
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnBatch{columnNames=" + columnNames + ", rowCount=" + rowCount + '}';
+  }
+
+}
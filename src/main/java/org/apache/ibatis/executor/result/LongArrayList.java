@@ -0,0 +1,104 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * A list of {@code Long} backed by an array of {@code long}, which holds the values of a single long column without boxing
+ * them. Like other lists it accepts {@code null} elements, which are tracked apart from the values.
+ *
+ * @since 3.5.7
+ * @see org.apache.ibatis.session.Configuration#setPrimitiveScalarResults(boolean)
+ * @see ColumnBatch
+ */
+public class LongArrayList extends PrimitiveArrayList<Long, long[]> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Appends a value.
+   *
+   * @param value
+   *          the value to append
+   */
+  public void addLong(long value) {
+    int index = append();
+    values[index] = value;
+  }
+
+  /**
+   * Returns the value at an index.
+   *
+   * @param index
+   *          the index of the value
+   * @return the value
+   * @throws NullPointerException
+   *           if the element at the index is {@code null}
+   */
+  public long getLong(int index) {
+    checkValue(index);
+    return values[index];
+  }
+
+  /**
+   * Returns the values of this list.
+   *
+   * @return a new array holding the values
+   * @throws NullPointerException
+   *           if an element is {@code null}
+   */
+  public long[] toLongArray() {
+    return copyValues();
+  }
+
+  @Override
+  long[] newArray(int length) {
+    return new long[length];
+  }
+
+  @Override
+  Long getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  void setValue(int index, Long element) {
+    values[index] = element;
+  }
+
+  @Override
+  boolean valueEquals(int index, Object o) {
+    return o instanceof Long && values[index] == (Long) o;
+  }
+
+  @Override
+  void writeValues(ObjectOutputStream out) throws IOException {
+    for (int i = 0; i < size; i++) {
+      out.writeLong(values[i]);
+    }
+  }
+
+  @Override
+  void readValues(ObjectInputStream in) throws IOException {
+    for (int i = 0; i < size; i++) {
+      values[i] = in.readLong();
+    }
+  }
+
+}
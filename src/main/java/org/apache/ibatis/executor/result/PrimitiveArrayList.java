@@ -0,0 +1,243 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+/**
+ * The base of the lists backed by an array of primitive values, which track their {@code null} elements apart from the
+ * values. The subclasses read and write the values of the array.
+ *
+ * @param <E>
+ *          the type of the elements
+ * @param <A>
+ *          the type of the array of values
+ * @since 3.5.7
+ */
+abstract class PrimitiveArrayList<E, A> extends AbstractList<E> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** The values, the array is replaced when the list grows. */
+  transient A values;
+  private transient int capacity;
+  int size;
+  /** The indexes of the null elements, or null if there is none. */
+  private BitSet nulls;
+
+  PrimitiveArrayList() {
+    this.values = newArray(0);
+  }
+
+  abstract A newArray(int length);
+
+  /**
+   * Returns the value at an index, which is not null, as an element.
+   */
+  abstract E getValue(int index);
+
+  /**
+   * Sets the value at an index from an element, which is not null.
+   */
+  abstract void setValue(int index, E element);
+
+  /**
+   * Returns whether an object is an element equal to the value at an index.
+   */
+  abstract boolean valueEquals(int index, Object o);
+
+  abstract void writeValues(ObjectOutputStream out) throws IOException;
+
+  abstract void readValues(ObjectInputStream in) throws IOException;
+
+  /**
+   * Appends a slot for a value.
+   *
+   * @return the index of the slot
+   */
+  int append() {
+    if (size == capacity) {
+      grow();
+    }
+    modCount++;
+    return size++;
+  }
+
+  /**
+   * Checks that the element at an index is a value.
+   */
+  void checkValue(int index) {
+    checkIndex(index);
+    if (isNull(index)) {
+      throw new NullPointerException("The element at index " + index + " is null");
+    }
+  }
+
+  /**
+   * Returns a copy of the values, which have to be all set.
+   */
+  A copyValues() {
+    if (nulls != null && !nulls.isEmpty()) {
+      throw new NullPointerException("The element at index " + nulls.nextSetBit(0) + " is null");
+    }
+    A copy = newArray(size);
+    System.arraycopy(values, 0, copy, 0, size);
+    return copy;
+  }
+
+  @Override
+  public E get(int index) {
+    checkIndex(index);
+    return isNull(index) ? null : getValue(index);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    E previous = get(index);
+    if (element == null) {
+      nulls().set(index);
+    } else {
+      if (nulls != null) {
+        nulls.clear(index);
+      }
+      setValue(index, element);
+    }
+    return previous;
+  }
+
+  @Override
+  public boolean add(E element) {
+    if (element == null) {
+      nulls().set(size);
+      append();
+    } else {
+      setValue(append(), element);
+    }
+    return true;
+  }
+
+  @Override
+  public void add(int index, E element) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (size == capacity) {
+      grow();
+    }
+    System.arraycopy(values, index, values, index + 1, size - index);
+    shiftNulls(index, 1);
+    size++;
+    modCount++;
+    set(index, element);
+  }
+
+  @Override
+  public E remove(int index) {
+    E previous = get(index);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    if (nulls != null) {
+      nulls.clear(index);
+    }
+    shiftNulls(index + 1, -1);
+    size--;
+    modCount++;
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    values = newArray(0);
+    capacity = 0;
+    size = 0;
+    nulls = null;
+    modCount++;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (o == null) {
+      return nulls == null || nulls.nextSetBit(0) >= size ? -1 : nulls.nextSetBit(0);
+    }
+    for (int i = 0; i < size; i++) {
+      if (!isNull(i) && valueEquals(i, o)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private boolean isNull(int index) {
+    return nulls != null && nulls.get(index);
+  }
+
+  private BitSet nulls() {
+    if (nulls == null) {
+      nulls = new BitSet();
+    }
+    return nulls;
+  }
+
+  /**
+   * Moves the null flags from an index on by a distance.
+   */
+  private void shiftNulls(int from, int distance) {
+    if (nulls == null || nulls.nextSetBit(from) < 0) {
+      return;
+    }
+    BitSet shifted = nulls.get(0, from);
+    for (int i = nulls.nextSetBit(from); i >= 0; i = nulls.nextSetBit(i + 1)) {
+      shifted.set(i + distance);
+    }
+    nulls = shifted;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  private void grow() {
+    capacity = Math.max(10, capacity + (capacity >> 1));
+    A grown = newArray(capacity);
+    System.arraycopy(values, 0, grown, 0, size);
+    values = grown;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    writeValues(out);
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    values = newArray(size);
+    capacity = size;
+    readValues(in);
+  }
+
+}
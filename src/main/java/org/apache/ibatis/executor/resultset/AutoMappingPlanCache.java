@@ -0,0 +1,143 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler.UnMappedColumnAutoMapping;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Keeps the auto-mapping plans of the result sets of recent queries, so that the next queries returning the same
+ * columns skip building them: the columns each result map maps explicitly, the properties the other columns are
+ * auto-mapped to, and the type handlers reading them. The plans are shared by the result sets whose column labels,
+ * JDBC types and Java class names are all the same, and the least recently used ones are dropped when the cache is
+ * full.
+ * <p>
+ * The plans are built from the type handlers and result maps in place when a result set is first read, so the cache
+ * is cleared when a type handler is registered and when a mapper resource is replaced. An auto-mapping warning of
+ * {@link org.apache.ibatis.session.AutoMappingUnknownColumnBehavior#WARNING} is logged once per plan.
+ *
+ * @since 3.5.7
+ * @see org.apache.ibatis.session.Configuration#setAutoMappingPlanCacheSize(int)
+ */
+public final class AutoMappingPlanCache {
+
+  private final int maxSize;
+  private final Map<ColumnLayout, Plans> plans;
+
+  /**
+   * Creates a cache.
+   *
+   * @param size
+   *          the number of column layouts to keep plans for
+   */
+  public AutoMappingPlanCache(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The size of the auto-mapping plan cache must be positive but was " + size);
+    }
+    this.maxSize = size;
+    this.plans = new LinkedHashMap<ColumnLayout, Plans>(Math.min(size, 256), .75F, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ColumnLayout, Plans> eldest) {
+        return size() > size;
+      }
+    };
+  }
+
+  Plans getPlans(List<String> columnNames, List<JdbcType> jdbcTypes, List<String> classNames) {
+    if (columnNames.contains(null)) {
+      return null;
+    }
+    ColumnLayout layout = new ColumnLayout(columnNames, jdbcTypes, classNames);
+    synchronized (plans) {
+      return plans.computeIfAbsent(layout, k -> new Plans());
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of column layouts the cache holds plans for.
+   *
+   * @return the number of column layouts
+   */
+  public int size() {
+    synchronized (plans) {
+      return plans.size();
+    }
+  }
+
+  /**
+   * Drops all plans.
+   */
+  public void clear() {
+    synchronized (plans) {
+      plans.clear();
+    }
+  }
+
+  /**
+   * The plans of a column layout, which can be read and completed concurrently.
+   */
+  static final class Plans {
+    final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
+    final Map<String, List<String>> mappedColumnNamesMap = new ConcurrentHashMap<>();
+    final Map<String, List<String>> unMappedColumnNamesMap = new ConcurrentHashMap<>();
+    final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsMap = new ConcurrentHashMap<>();
+  }
+
+  private static final class ColumnLayout {
+    private final List<String> columnNames;
+    private final List<JdbcType> jdbcTypes;
+    private final List<String> classNames;
+    private final int hashCode;
+
+    ColumnLayout(List<String> columnNames, List<JdbcType> jdbcTypes, List<String> classNames) {
+      this.columnNames = columnNames;
+      this.jdbcTypes = jdbcTypes;
+      this.classNames = classNames;
+      this.hashCode = 31 * (31 * columnNames.hashCode() + jdbcTypes.hashCode()) + classNames.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ColumnLayout)) {
+        return false;
+      }
+      ColumnLayout other = (ColumnLayout) o;
+      return hashCode == other.hashCode && columnNames.equals(other.columnNames) && jdbcTypes.equals(other.jdbcTypes)
+          && classNames.equals(other.classNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
@@ -20,13 +20,20 @@ import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.binding.MapperMethod.ParamMap;
@@ -39,8 +46,12 @@ import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.executor.loader.ResultLoader;
 import org.apache.ibatis.executor.loader.ResultLoaderMap;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.result.ColumnBatch;
 import org.apache.ibatis.executor.result.DefaultResultContext;
 import org.apache.ibatis.executor.result.DefaultResultHandler;
+import org.apache.ibatis.executor.result.DoubleArrayList;
+import org.apache.ibatis.executor.result.IntArrayList;
+import org.apache.ibatis.executor.result.LongArrayList;
 import org.apache.ibatis.executor.result.ResultMapException;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Discriminator;
@@ -52,15 +63,22 @@ import org.apache.ibatis.mapping.ResultMapping;
 import org.apache.ibatis.reflection.MetaClass;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
 import org.apache.ibatis.reflection.factory.ObjectFactory;
 import org.apache.ibatis.session.AutoMappingBehavior;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.IntResultHandler;
+import org.apache.ibatis.session.LongResultHandler;
 import org.apache.ibatis.session.ResultContext;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.DoubleTypeHandler;
+import org.apache.ibatis.type.IntegerTypeHandler;
 import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.LongTypeHandler;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.type.UnknownTypeHandler;
 
 /**
  * @author Clinton Begin
@@ -71,6 +89,11 @@ import org.apache.ibatis.type.TypeHandlerRegistry;
 public class DefaultResultSetHandler implements ResultSetHandler {
 
   private static final Object DEFERRED = new Object();
+  private static final int PARALLEL_MAPPING_BATCH_SIZE = 512;
+  /** The types of the values drivers may stream, which are valid only while the result set is on their row. */
+  private static final Set<JdbcType> STREAMED_JDBC_TYPES = EnumSet.of(JdbcType.BLOB, JdbcType.CLOB, JdbcType.NCLOB,
+      JdbcType.BINARY, JdbcType.VARBINARY, JdbcType.LONGVARBINARY, JdbcType.LONGVARCHAR, JdbcType.LONGNVARCHAR,
+      JdbcType.SQLXML, JdbcType.ARRAY, JdbcType.STRUCT, JdbcType.REF);
 
   private final Executor executor;
   private final Configuration configuration;
@@ -84,17 +107,18 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   private final ReflectorFactory reflectorFactory;
 
   // nested resultmaps
-  private final Map<CacheKey, Object> nestedResultObjects = new HashMap<>();
+  private final Map<RowKey, Object> nestedResultObjects = new HashMap<>();
   private final Map<String, Object> ancestorObjects = new HashMap<>();
   private Object previousRowValue;
+  private final Map<ResultMapping, Map<String, String>> columnPrefixes = new IdentityHashMap<>();
+  private final Map<ResultMap, Map<String, RowKeyColumns>> rowKeyColumns = new HashMap<>();
+  private final Map<String, Boolean> prefixedColumns = new HashMap<>();
+  private ResultSetWrapper rowKeyResultSet;
 
   // multiple resultsets
   private final Map<String, ResultMapping> nextResultMaps = new HashMap<>();
   private final Map<CacheKey, List<PendingRelation>> pendingRelations = new HashMap<>();
 
-  // Cached Automappings
-  private final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsCache = new HashMap<>();
-
   // temporary marking flag that indicate using constructor mapping (use field to reduce memory usage)
   private boolean useConstructorMappings;
 
@@ -103,7 +127,46 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     public ResultMapping propertyMapping;
   }
 
-  private static class UnMappedColumnAutoMapping {
+  /**
+   * The columns identifying the rows of a nested result map in a result set, resolved once per result set rather than
+   * once per row.
+   */
+  private static final class RowKeyColumns {
+    private final String[] columns;
+    private final int[] columnIndexes;
+    // null when the columns are read as strings
+    private final TypeHandler<?>[] typeHandlers;
+
+    RowKeyColumns(List<String> columns, List<Integer> columnIndexes, List<TypeHandler<?>> typeHandlers) {
+      this.columns = columns.toArray(new String[0]);
+      this.columnIndexes = new int[columnIndexes.size()];
+      for (int i = 0; i < this.columnIndexes.length; i++) {
+        this.columnIndexes[i] = columnIndexes.get(i);
+      }
+      this.typeHandlers = typeHandlers == null ? null : typeHandlers.toArray(new TypeHandler<?>[0]);
+    }
+  }
+
+  /**
+   * The columns of a simple result map read on the JDBC thread, and the properties they are set to on the fork-join
+   * pool.
+   */
+  private static final class RowMappingPlan {
+    private final String[] columns;
+    private final TypeHandler<?>[] typeHandlers;
+    private final String[] properties;
+    // whether the setter is skipped for a null value
+    private final boolean[] skipNulls;
+
+    RowMappingPlan(int size) {
+      this.columns = new String[size];
+      this.typeHandlers = new TypeHandler<?>[size];
+      this.properties = new String[size];
+      this.skipNulls = new boolean[size];
+    }
+  }
+
+  static class UnMappedColumnAutoMapping {
     private final String column;
     private final String property;
     private final TypeHandler<?> typeHandler;
@@ -230,9 +293,51 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
 
     ResultMap resultMap = resultMaps.get(0);
+    if (resultMap.getType() == ColumnBatch.class) {
+      throw new ExecutorException("Cursor results cannot be mapped to a ColumnBatch");
+    }
+    int readAheadSize = configuration.getCursorReadAheadSize();
+    if (readAheadSize > 0 && canReadAhead(rsw, resultMap)) {
+      return new DefaultCursor<>(this, resultMap, rsw, rowBounds, readAheadSize);
+    }
     return new DefaultCursor<>(this, resultMap, rsw, rowBounds);
   }
 
+  private boolean canReadAhead(ResultSetWrapper rsw, ResultMap resultMap) {
+    for (JdbcType jdbcType : rsw.getJdbcTypes()) {
+      if (STREAMED_JDBC_TYPES.contains(jdbcType)) {
+        return false;
+      }
+    }
+    // nested queries would run on the executor from another thread
+    return !hasNestedQueries(resultMap, new HashSet<>());
+  }
+
+  private boolean hasNestedQueries(ResultMap resultMap, Set<String> visitedResultMapIds) {
+    if (!visitedResultMapIds.add(resultMap.getId())) {
+      return false;
+    }
+    if (resultMap.hasNestedQueries()) {
+      return true;
+    }
+    for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+      String nestedResultMapId = resultMapping.getNestedResultMapId();
+      if (nestedResultMapId != null && hasNestedQueries(configuration.getResultMap(nestedResultMapId), visitedResultMapIds)) {
+        return true;
+      }
+    }
+    Discriminator discriminator = resultMap.getDiscriminator();
+    if (discriminator != null) {
+      for (String discriminatedMapId : discriminator.getDiscriminatorMap().values()) {
+        if (configuration.hasResultMap(discriminatedMapId)
+            && hasNestedQueries(configuration.getResultMap(discriminatedMapId), visitedResultMapIds)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   private ResultSetWrapper getFirstResultSet(Statement stmt) throws SQLException {
     ResultSet rs = stmt.getResultSet();
     while (rs == null) {
@@ -295,11 +400,41 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     try {
       if (parentMapping != null) {
         handleRowValues(rsw, resultMap, null, RowBounds.DEFAULT, parentMapping);
+      } else if (resultMap.getType() == ColumnBatch.class) {
+        ColumnBatch columnBatch = handleColumnarRowValues(rsw, rowBounds);
+        if (resultHandler == null) {
+          List<Object> columnBatches = objectFactory.create(List.class);
+          columnBatches.add(columnBatch);
+          multipleResults.add(columnBatches);
+        } else {
+          callResultHandler(resultHandler, new DefaultResultContext<>(), columnBatch);
+        }
       } else {
         if (resultHandler == null) {
-          DefaultResultHandler defaultResultHandler = new DefaultResultHandler(objectFactory);
-          handleRowValues(rsw, resultMap, defaultResultHandler, rowBounds, null);
-          multipleResults.add(defaultResultHandler.getResultList());
+          Class<?> primitiveType = configuration.isPrimitiveScalarResults() ? primitiveResultType(rsw, resultMap) : null;
+          if (primitiveType == int.class) {
+            IntArrayList list = new IntArrayList();
+            handleIntRowValues(rsw, new IntListResultHandler(list), rowBounds);
+            multipleResults.add(list);
+          } else if (primitiveType == long.class) {
+            LongArrayList list = new LongArrayList();
+            handleLongRowValues(rsw, new LongListResultHandler(list), rowBounds);
+            multipleResults.add(list);
+          } else {
+            DefaultResultHandler defaultResultHandler = new DefaultResultHandler(objectFactory);
+            if (configuration.isParallelRowMapping() && canMapRowsInParallel(rsw, resultMap)) {
+              handleRowValuesInParallel(rsw, resultMap, defaultResultHandler, rowBounds);
+            } else {
+              handleRowValues(rsw, resultMap, defaultResultHandler, rowBounds, null);
+            }
+            multipleResults.add(defaultResultHandler.getResultList());
+          }
+        } else if (configuration.isPrimitiveScalarResults() && resultHandler instanceof IntResultHandler
+            && primitiveResultType(rsw, resultMap) == int.class) {
+          handleIntRowValues(rsw, (IntResultHandler) resultHandler, rowBounds);
+        } else if (configuration.isPrimitiveScalarResults() && resultHandler instanceof LongResultHandler
+            && primitiveResultType(rsw, resultMap) == long.class) {
+          handleLongRowValues(rsw, (LongResultHandler) resultHandler, rowBounds);
         } else {
           handleRowValues(rsw, resultMap, resultHandler, rowBounds, null);
         }
@@ -356,6 +491,294 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  //
+  // HANDLE ROWS FOR SIMPLE RESULTMAP IN PARALLEL
+  //
+
+  private boolean canMapRowsInParallel(ResultSetWrapper rsw, ResultMap resultMap) {
+    if (resultMap.hasNestedResultMaps() || resultMap.hasNestedQueries() || resultMap.getDiscriminator() != null
+        || !resultMap.getConstructorResultMappings().isEmpty() || hasTypeHandlerForResultObject(rsw, resultMap.getType())) {
+      return false;
+    }
+    for (ResultMapping propertyMapping : resultMap.getPropertyResultMappings()) {
+      if (propertyMapping.isCompositeResult() || propertyMapping.getResultSet() != null) {
+        return false;
+      }
+    }
+    final Class<?> resultType = resultMap.getType();
+    return resultType.isInterface() || MetaClass.forClass(resultType, reflectorFactory).hasDefaultConstructor();
+  }
+
+  private void handleRowValuesInParallel(ResultSetWrapper rsw, ResultMap resultMap, DefaultResultHandler resultHandler, RowBounds rowBounds)
+      throws SQLException {
+    final DefaultResultContext<Object> resultContext = new DefaultResultContext<>();
+    final ResultSet resultSet = rsw.getResultSet();
+    skipRows(resultSet, rowBounds);
+    final RowMappingPlan plan = createRowMappingPlan(rsw, resultMap);
+    final int maxPendingBatches = ForkJoinPool.getCommonPoolParallelism() * 2;
+    final Deque<ForkJoinTask<Object[]>> pendingBatches = new ArrayDeque<>();
+    int remainingRows = rowBounds.getLimit();
+    try {
+      boolean moreRows = true;
+      while (moreRows && remainingRows > 0) {
+        final Object[][] rows = readRows(resultSet, plan, Math.min(remainingRows, PARALLEL_MAPPING_BATCH_SIZE));
+        remainingRows -= rows.length;
+        moreRows = rows.length == PARALLEL_MAPPING_BATCH_SIZE;
+        if (!moreRows && pendingBatches.isEmpty()) {
+          // a single batch is mapped on this thread
+          storeRows(resultHandler, resultContext, mapRows(rsw, resultMap, plan, rows), resultSet);
+        } else {
+          pendingBatches.add(ForkJoinPool.commonPool().submit(() -> mapRows(rsw, resultMap, plan, rows)));
+          if (pendingBatches.size() >= maxPendingBatches) {
+            storeRows(resultHandler, resultContext, pendingBatches.poll().join(), resultSet);
+          }
+        }
+      }
+      while (!pendingBatches.isEmpty()) {
+        storeRows(resultHandler, resultContext, pendingBatches.poll().join(), resultSet);
+      }
+    } finally {
+      for (ForkJoinTask<Object[]> batch : pendingBatches) {
+        batch.cancel(false);
+      }
+    }
+  }
+
+  private RowMappingPlan createRowMappingPlan(ResultSetWrapper rsw, ResultMap resultMap) throws SQLException {
+    // also creates the shared state of the result objects before the pool does
+    final MetaObject metaObject = configuration.newMetaObject(createEmptyResultObject(rsw, resultMap.getType()));
+    final List<UnMappedColumnAutoMapping> autoMappings = shouldApplyAutomaticMappings(resultMap, false)
+        ? createAutomaticMappings(rsw, resultMap, metaObject, null) : Collections.emptyList();
+    final List<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, null);
+    final List<ResultMapping> propertyMappings = new ArrayList<>();
+    for (ResultMapping propertyMapping : resultMap.getPropertyResultMappings()) {
+      final String column = propertyMapping.getColumn();
+      // issue #541 make property optional
+      if (column != null && propertyMapping.getProperty() != null
+          && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
+        propertyMappings.add(propertyMapping);
+      }
+    }
+    final RowMappingPlan plan = new RowMappingPlan(autoMappings.size() + propertyMappings.size());
+    int i = 0;
+    for (UnMappedColumnAutoMapping autoMapping : autoMappings) {
+      plan.columns[i] = autoMapping.column;
+      plan.typeHandlers[i] = autoMapping.typeHandler;
+      plan.properties[i] = autoMapping.property;
+      plan.skipNulls[i++] = !configuration.isCallSettersOnNulls() || autoMapping.primitive;
+    }
+    for (ResultMapping propertyMapping : propertyMappings) {
+      final String property = propertyMapping.getProperty();
+      plan.columns[i] = propertyMapping.getColumn();
+      plan.typeHandlers[i] = columnTypeHandler(rsw, propertyMapping.getTypeHandler(), propertyMapping.getColumn());
+      plan.properties[i] = property;
+      plan.skipNulls[i++] = !configuration.isCallSettersOnNulls() || metaObject.getSetterType(property).isPrimitive();
+    }
+    return plan;
+  }
+
+  private Object[][] readRows(ResultSet resultSet, RowMappingPlan plan, int maxRows) throws SQLException {
+    final List<Object[]> rows = new ArrayList<>(maxRows);
+    while (rows.size() < maxRows && !resultSet.isClosed() && resultSet.next()) {
+      final Object[] values = new Object[plan.columns.length];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = plan.typeHandlers[i].getResult(resultSet, plan.columns[i]);
+      }
+      rows.add(values);
+    }
+    return rows.toArray(new Object[0][]);
+  }
+
+  private Object[] mapRows(ResultSetWrapper rsw, ResultMap resultMap, RowMappingPlan plan, Object[][] rows) {
+    final Object[] rowValues = new Object[rows.length];
+    for (int r = 0; r < rows.length; r++) {
+      final Object rowValue = createEmptyResultObject(rsw, resultMap.getType());
+      final MetaObject metaObject = configuration.newMetaObject(rowValue);
+      final Object[] values = rows[r];
+      boolean foundValues = false;
+      for (int i = 0; i < values.length; i++) {
+        if (values[i] != null) {
+          foundValues = true;
+        }
+        if (values[i] != null || !plan.skipNulls[i]) {
+          // gcode issue #377, call setter on nulls (value is not 'found')
+          metaObject.setValue(plan.properties[i], values[i]);
+        }
+      }
+      rowValues[r] = foundValues || configuration.isReturnInstanceForEmptyRow() ? rowValue : null;
+    }
+    return rowValues;
+  }
+
+  private void storeRows(ResultHandler<?> resultHandler, DefaultResultContext<Object> resultContext, Object[] rowValues, ResultSet rs)
+      throws SQLException {
+    for (Object rowValue : rowValues) {
+      storeObject(resultHandler, resultContext, rowValue, null, rs);
+    }
+  }
+
+  //
+  // HANDLE ROWS OF A SINGLE INT OR LONG COLUMN
+  //
+
+  /**
+   * Returns {@code int.class} or {@code long.class} if the rows hold a single column mapped to an int or a long by the
+   * built-in type handler, which would box the values, and {@code null} otherwise.
+   */
+  private Class<?> primitiveResultType(ResultSetWrapper rsw, ResultMap resultMap) {
+    Class<?> type = resultMap.getType();
+    if (rsw.getColumnNames().size() != 1 || !resultMap.getResultMappings().isEmpty()
+        || resultMap.getDiscriminator() != null) {
+      return null;
+    }
+    if (type == Integer.class || type == int.class) {
+      TypeHandler<?> typeHandler = rsw.getTypeHandler(type, rsw.getColumnNames().get(0));
+      return typeHandler.getClass() == IntegerTypeHandler.class ? int.class : null;
+    }
+    if (type == Long.class || type == long.class) {
+      TypeHandler<?> typeHandler = rsw.getTypeHandler(type, rsw.getColumnNames().get(0));
+      return typeHandler.getClass() == LongTypeHandler.class ? long.class : null;
+    }
+    return null;
+  }
+
+  private void handleIntRowValues(ResultSetWrapper rsw, IntResultHandler handler, RowBounds rowBounds)
+      throws SQLException {
+    ResultSet resultSet = rsw.getResultSet();
+    skipRows(resultSet, rowBounds);
+    for (int count = 0; count < rowBounds.getLimit() && !resultSet.isClosed() && resultSet.next(); count++) {
+      int value = resultSet.getInt(1);
+      if (value == 0 && resultSet.wasNull()) {
+        handler.handleNull();
+      } else {
+        handler.handleInt(value);
+      }
+    }
+  }
+
+  private void handleLongRowValues(ResultSetWrapper rsw, LongResultHandler handler, RowBounds rowBounds)
+      throws SQLException {
+    ResultSet resultSet = rsw.getResultSet();
+    skipRows(resultSet, rowBounds);
+    for (int count = 0; count < rowBounds.getLimit() && !resultSet.isClosed() && resultSet.next(); count++) {
+      long value = resultSet.getLong(1);
+      if (value == 0 && resultSet.wasNull()) {
+        handler.handleNull();
+      } else {
+        handler.handleLong(value);
+      }
+    }
+  }
+
+  //
+  // HANDLE ROWS FOR COLUMNAR RESULTS
+  //
+
+  private ColumnBatch handleColumnarRowValues(ResultSetWrapper rsw, RowBounds rowBounds) throws SQLException {
+    List<String> columnNames = rsw.getColumnNames();
+    List<List<?>> columns = new ArrayList<>(columnNames.size());
+    ColumnReader[] readers = new ColumnReader[columnNames.size()];
+    for (int i = 0; i < readers.length; i++) {
+      readers[i] = createColumnReader(rsw, columnNames.get(i), i + 1, columns);
+    }
+    ResultSet resultSet = rsw.getResultSet();
+    skipRows(resultSet, rowBounds);
+    for (int count = 0; count < rowBounds.getLimit() && !resultSet.isClosed() && resultSet.next(); count++) {
+      for (ColumnReader reader : readers) {
+        reader.read(resultSet);
+      }
+    }
+    return new ColumnBatch(columnNames, columns);
+  }
+
+  private ColumnReader createColumnReader(ResultSetWrapper rsw, String columnName, int columnIndex,
+      List<List<?>> columns) {
+    TypeHandler<?> typeHandler = rsw.getTypeHandler(Object.class, columnName);
+    if (typeHandler.getClass() == IntegerTypeHandler.class) {
+      IntArrayList column = new IntArrayList();
+      columns.add(column);
+      return rs -> {
+        int value = rs.getInt(columnIndex);
+        if (value == 0 && rs.wasNull()) {
+          column.add(null);
+        } else {
+          column.addInt(value);
+        }
+      };
+    } else if (typeHandler.getClass() == LongTypeHandler.class) {
+      LongArrayList column = new LongArrayList();
+      columns.add(column);
+      return rs -> {
+        long value = rs.getLong(columnIndex);
+        if (value == 0 && rs.wasNull()) {
+          column.add(null);
+        } else {
+          column.addLong(value);
+        }
+      };
+    } else if (typeHandler.getClass() == DoubleTypeHandler.class) {
+      DoubleArrayList column = new DoubleArrayList();
+      columns.add(column);
+      return rs -> {
+        double value = rs.getDouble(columnIndex);
+        if (value == 0 && rs.wasNull()) {
+          column.add(null);
+        } else {
+          column.addDouble(value);
+        }
+      };
+    } else {
+      List<Object> column = new ArrayList<>();
+      columns.add(column);
+      if (typeHandlerRegistry.isDefaultTypeHandler(typeHandler)) {
+        return rs -> column.add(typeHandler.getResult(rs, columnIndex));
+      }
+      // custom type handlers may only read by column name
+      return rs -> column.add(typeHandler.getResult(rs, columnName));
+    }
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+    void read(ResultSet rs) throws SQLException;
+  }
+
+  private static class IntListResultHandler implements IntResultHandler {
+    private final IntArrayList list;
+
+    IntListResultHandler(IntArrayList list) {
+      this.list = list;
+    }
+
+    @Override
+    public void handleInt(int value) {
+      list.addInt(value);
+    }
+
+    @Override
+    public void handleNull() {
+      list.add(null);
+    }
+  }
+
+  private static class LongListResultHandler implements LongResultHandler {
+    private final LongArrayList list;
+
+    LongListResultHandler(LongArrayList list) {
+      this.list = list;
+    }
+
+    @Override
+    public void handleLong(long value) {
+      list.addLong(value);
+    }
+
+    @Override
+    public void handleNull() {
+      list.add(null);
+    }
+  }
+
   private void storeObject(ResultHandler<?> resultHandler, DefaultResultContext<Object> resultContext, Object rowValue, ResultMapping parentMapping, ResultSet rs) throws SQLException {
     if (parentMapping != null) {
       linkToParents(rs, parentMapping, rowValue);
@@ -412,7 +835,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // GET VALUE FROM ROW FOR NESTED RESULT MAP
   //
 
-  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, CacheKey combinedKey, String columnPrefix, Object partialObject) throws SQLException {
+  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, RowKey combinedKey, String columnPrefix, Object partialObject) throws SQLException {
     final String resultMapId = resultMap.getId();
     Object rowValue = partialObject;
     if (rowValue != null) {
@@ -436,7 +859,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         foundValues = lazyLoader.size() > 0 || foundValues;
         rowValue = foundValues || configuration.isReturnInstanceForEmptyRow() ? rowValue : null;
       }
-      if (combinedKey != CacheKey.NULL_CACHE_KEY) {
+      if (combinedKey != RowKey.NULL_ROW_KEY) {
         nestedResultObjects.put(combinedKey, rowValue);
       }
     }
@@ -477,7 +900,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       if (propertyMapping.isCompositeResult()
           || (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH)))
           || propertyMapping.getResultSet() != null) {
-        Object value = getPropertyMappingValue(rsw.getResultSet(), metaObject, propertyMapping, lazyLoader, columnPrefix);
+        Object value = getPropertyMappingValue(rsw, metaObject, propertyMapping, lazyLoader, columnPrefix);
         // issue #541 make property optional
         final String property = propertyMapping.getProperty();
         if (property == null) {
@@ -498,22 +921,33 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return foundValues;
   }
 
-  private Object getPropertyMappingValue(ResultSet rs, MetaObject metaResultObject, ResultMapping propertyMapping, ResultLoaderMap lazyLoader, String columnPrefix)
+  private Object getPropertyMappingValue(ResultSetWrapper rsw, MetaObject metaResultObject, ResultMapping propertyMapping, ResultLoaderMap lazyLoader, String columnPrefix)
       throws SQLException {
+    final ResultSet rs = rsw.getResultSet();
     if (propertyMapping.getNestedQueryId() != null) {
       return getNestedQueryMappingValue(rs, metaResultObject, propertyMapping, lazyLoader, columnPrefix);
     } else if (propertyMapping.getResultSet() != null) {
       addPendingChildRelation(rs, metaResultObject, propertyMapping);   // TODO is that OK?
       return DEFERRED;
     } else {
-      final TypeHandler<?> typeHandler = propertyMapping.getTypeHandler();
       final String column = prependPrefix(propertyMapping.getColumn(), columnPrefix);
+      final TypeHandler<?> typeHandler = columnTypeHandler(rsw, propertyMapping.getTypeHandler(), column);
       return typeHandler.getResult(rs, column);
     }
   }
 
+  /**
+   * Returns the type handler reading a column. The handler an {@link UnknownTypeHandler} would resolve from the result
+   * set metadata on every row is resolved once per result set.
+   */
+  private TypeHandler<?> columnTypeHandler(ResultSetWrapper rsw, TypeHandler<?> typeHandler, String column) {
+    // subclasses may read the column another way
+    return typeHandler.getClass() == UnknownTypeHandler.class ? rsw.getUnknownColumnTypeHandler(column) : typeHandler;
+  }
+
   private List<UnMappedColumnAutoMapping> createAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String columnPrefix) throws SQLException {
     final String mapKey = resultMap.getId() + ":" + columnPrefix;
+    final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsCache = rsw.getAutoMappingsMap();
     List<UnMappedColumnAutoMapping> autoMapping = autoMappingsCache.get(mapKey);
     if (autoMapping == null) {
       autoMapping = new ArrayList<>();
@@ -652,13 +1086,21 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     } else if (!constructorMappings.isEmpty()) {
       return createParameterizedResultObject(rsw, resultType, constructorMappings, constructorArgTypes, constructorArgs, columnPrefix);
     } else if (resultType.isInterface() || metaType.hasDefaultConstructor()) {
-      return objectFactory.create(resultType);
+      return createEmptyResultObject(rsw, resultType);
     } else if (shouldApplyAutomaticMappings(resultMap, false)) {
       return createByConstructorSignature(rsw, resultType, constructorArgTypes, constructorArgs);
     }
     throw new ExecutorException("Do not know how to create an instance of " + resultType);
   }
 
+  private Object createEmptyResultObject(ResultSetWrapper rsw, Class<?> resultType) {
+    if (resultType == Map.class && configuration.isCompactMapResults()
+        && objectFactory.getClass() == DefaultObjectFactory.class) {
+      return new RowMap(rsw.getRowMapSchema());
+    }
+    return objectFactory.create(resultType);
+  }
+
   Object createParameterizedResultObject(ResultSetWrapper rsw, Class<?> resultType, List<ResultMapping> constructorMappings,
                                          List<Class<?>> constructorArgTypes, List<Object> constructorArgs, String columnPrefix) {
     boolean foundValues = false;
@@ -673,8 +1115,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           final ResultMap resultMap = configuration.getResultMap(constructorMapping.getNestedResultMapId());
           value = getRowValue(rsw, resultMap, getColumnPrefix(columnPrefix, constructorMapping));
         } else {
-          final TypeHandler<?> typeHandler = constructorMapping.getTypeHandler();
-          value = typeHandler.getResult(rsw.getResultSet(), prependPrefix(column, columnPrefix));
+          final String prefixedColumn = prependPrefix(column, columnPrefix);
+          final TypeHandler<?> typeHandler = columnTypeHandler(rsw, constructorMapping.getTypeHandler(), prefixedColumn);
+          value = typeHandler.getResult(rsw.getResultSet(), prefixedColumn);
         }
       } catch (ResultMapException | SQLException e) {
         throw new ExecutorException("Could not process result for mapping: " + constructorMapping, e);
@@ -896,7 +1339,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     Object rowValue = previousRowValue;
     while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
       final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
-      final CacheKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
+      final RowKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
       Object partialObject = nestedResultObjects.get(rowKey);
       // issue #577 && #542
       if (mappedStatement.isResultOrdered()) {
@@ -924,7 +1367,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // NESTED RESULT MAP (JOIN MAPPING)
   //
 
-  private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String parentPrefix, CacheKey parentRowKey, boolean newObject) {
+  private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject, String parentPrefix, RowKey parentRowKey, boolean newObject) {
     boolean foundValues = false;
     for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
       final String nestedResultMapId = resultMapping.getNestedResultMapId();
@@ -943,8 +1386,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
               continue;
             }
           }
-          final CacheKey rowKey = createRowKey(nestedResultMap, rsw, columnPrefix);
-          final CacheKey combinedKey = combineKeys(rowKey, parentRowKey);
+          final RowKey combinedKey = createRowKey(nestedResultMap, rsw, columnPrefix).withParent(parentRowKey);
           Object rowValue = nestedResultObjects.get(combinedKey);
           boolean knownValue = rowValue != null;
           instantiateCollectionPropertyIfAppropriate(resultMapping, metaObject); // mandatory
@@ -964,6 +1406,21 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   }
 
   private String getColumnPrefix(String parentPrefix, ResultMapping resultMapping) {
+    // the same prefix is asked for on every row, build it once
+    Map<String, String> prefixes = columnPrefixes.get(resultMapping);
+    if (prefixes == null) {
+      prefixes = new HashMap<>();
+      columnPrefixes.put(resultMapping, prefixes);
+    }
+    String columnPrefix = prefixes.get(parentPrefix);
+    if (columnPrefix == null && !prefixes.containsKey(parentPrefix)) {
+      columnPrefix = buildColumnPrefix(parentPrefix, resultMapping);
+      prefixes.put(parentPrefix, columnPrefix);
+    }
+    return columnPrefix;
+  }
+
+  private String buildColumnPrefix(String parentPrefix, ResultMapping resultMapping) {
     final StringBuilder columnPrefixBuilder = new StringBuilder();
     if (parentPrefix != null) {
       columnPrefixBuilder.append(parentPrefix);
@@ -986,16 +1443,26 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       }
       return false;
     } else if (columnPrefix != null) {
-      for (String columnName : rsw.getColumnNames()) {
-        if (columnName.toUpperCase().startsWith(columnPrefix.toUpperCase())) {
-          return true;
-        }
+      resetRowKeyColumns(rsw);
+      Boolean found = prefixedColumns.get(columnPrefix);
+      if (found == null) {
+        found = hasColumnWithPrefix(rsw, columnPrefix);
+        prefixedColumns.put(columnPrefix, found);
       }
-      return false;
+      return found;
     }
     return true;
   }
 
+  private boolean hasColumnWithPrefix(ResultSetWrapper rsw, String columnPrefix) {
+    for (String columnName : rsw.getColumnNames()) {
+      if (columnName.toUpperCase().startsWith(columnPrefix.toUpperCase())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private ResultMap getNestedResultMap(ResultSet rs, String nestedResultMapId, String columnPrefix) throws SQLException {
     ResultMap nestedResultMap = configuration.getResultMap(nestedResultMapId);
     return resolveDiscriminatedResultMap(rs, nestedResultMap, columnPrefix);
@@ -1005,37 +1472,67 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // UNIQUE RESULT KEY
   //
 
-  private CacheKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
-    final CacheKey cacheKey = new CacheKey();
-    cacheKey.update(resultMap.getId());
-    List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
-    if (resultMappings.isEmpty()) {
-      if (Map.class.isAssignableFrom(resultMap.getType())) {
-        createRowKeyForMap(rsw, cacheKey);
+  private RowKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    final RowKeyColumns keyColumns = getRowKeyColumns(resultMap, rsw, columnPrefix);
+    final ResultSet rs = rsw.getResultSet();
+    final String[] columns = keyColumns.columns;
+    final int[] columnIndexes = keyColumns.columnIndexes;
+    final TypeHandler<?>[] typeHandlers = keyColumns.typeHandlers;
+    final Object[] values = new Object[columns.length];
+    boolean foundValues = false;
+    for (int i = 0; i < columns.length; i++) {
+      if (typeHandlers == null) {
+        values[i] = rs.getString(columnIndexes[i]);
+        foundValues = values[i] != null || foundValues;
       } else {
-        createRowKeyForUnmappedProperties(resultMap, rsw, cacheKey, columnPrefix);
+        final TypeHandler<?> th = typeHandlers[i];
+        // custom type handlers may only read by column name
+        values[i] = typeHandlerRegistry.isDefaultTypeHandler(th) ? th.getResult(rs, columnIndexes[i])
+            : th.getResult(rs, columns[i]);
+        foundValues = values[i] != null || configuration.isReturnInstanceForEmptyRow() || foundValues;
       }
-    } else {
-      createRowKeyForMappedProperties(resultMap, rsw, cacheKey, resultMappings, columnPrefix);
     }
-    if (cacheKey.getUpdateCount() < 2) {
-      return CacheKey.NULL_CACHE_KEY;
+    if (!foundValues) {
+      return RowKey.NULL_ROW_KEY;
     }
-    return cacheKey;
+    return new RowKey(resultMap.getId(), columnPrefix, values);
   }
 
-  private CacheKey combineKeys(CacheKey rowKey, CacheKey parentRowKey) {
-    if (rowKey.getUpdateCount() > 1 && parentRowKey.getUpdateCount() > 1) {
-      CacheKey combinedKey;
-      try {
-        combinedKey = rowKey.clone();
-      } catch (CloneNotSupportedException e) {
-        throw new ExecutorException("Error cloning cache key.  Cause: " + e, e);
+  private void resetRowKeyColumns(ResultSetWrapper rsw) {
+    if (rowKeyResultSet != rsw) {
+      rowKeyColumns.clear();
+      prefixedColumns.clear();
+      rowKeyResultSet = rsw;
+    }
+  }
+
+  private RowKeyColumns getRowKeyColumns(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    resetRowKeyColumns(rsw);
+    Map<String, RowKeyColumns> keyColumnsByPrefix = rowKeyColumns.get(resultMap);
+    if (keyColumnsByPrefix == null) {
+      keyColumnsByPrefix = new HashMap<>();
+      rowKeyColumns.put(resultMap, keyColumnsByPrefix);
+    }
+    RowKeyColumns keyColumns = keyColumnsByPrefix.get(columnPrefix);
+    if (keyColumns == null) {
+      List<String> columns = new ArrayList<>();
+      List<Integer> columnIndexes = new ArrayList<>();
+      List<TypeHandler<?>> typeHandlers = null;
+      List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
+      if (resultMappings.isEmpty()) {
+        if (Map.class.isAssignableFrom(resultMap.getType())) {
+          addRowKeyColumnsForMap(rsw, columns, columnIndexes);
+        } else {
+          addRowKeyColumnsForUnmappedProperties(resultMap, rsw, columnPrefix, columns, columnIndexes);
+        }
+      } else {
+        typeHandlers = new ArrayList<>();
+        addRowKeyColumnsForMappedProperties(resultMap, rsw, resultMappings, columnPrefix, columns, columnIndexes, typeHandlers);
       }
-      combinedKey.update(parentRowKey);
-      return combinedKey;
+      keyColumns = new RowKeyColumns(columns, columnIndexes, typeHandlers);
+      keyColumnsByPrefix.put(columnPrefix, keyColumns);
     }
-    return CacheKey.NULL_CACHE_KEY;
+    return keyColumns;
   }
 
   private List<ResultMapping> getResultMappingsForRowKey(ResultMap resultMap) {
@@ -1046,25 +1543,24 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return resultMappings;
   }
 
-  private void createRowKeyForMappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey, List<ResultMapping> resultMappings, String columnPrefix) throws SQLException {
+  private void addRowKeyColumnsForMappedProperties(ResultMap resultMap, ResultSetWrapper rsw, List<ResultMapping> resultMappings, String columnPrefix,
+      List<String> columns, List<Integer> columnIndexes, List<TypeHandler<?>> typeHandlers) throws SQLException {
+    List<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
     for (ResultMapping resultMapping : resultMappings) {
       if (resultMapping.isSimple()) {
         final String column = prependPrefix(resultMapping.getColumn(), columnPrefix);
-        final TypeHandler<?> th = resultMapping.getTypeHandler();
-        List<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
         // Issue #114
         if (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
-          final Object value = th.getResult(rsw.getResultSet(), column);
-          if (value != null || configuration.isReturnInstanceForEmptyRow()) {
-            cacheKey.update(column);
-            cacheKey.update(value);
-          }
+          columns.add(column);
+          columnIndexes.add(findColumnIndex(rsw, column));
+          typeHandlers.add(resultMapping.getTypeHandler());
         }
       }
     }
   }
 
-  private void createRowKeyForUnmappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey, String columnPrefix) throws SQLException {
+  private void addRowKeyColumnsForUnmappedProperties(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix,
+      List<String> columns, List<Integer> columnIndexes) throws SQLException {
     final MetaClass metaType = MetaClass.forClass(resultMap.getType(), reflectorFactory);
     List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
     for (String column : unmappedColumnNames) {
@@ -1078,24 +1574,28 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         }
       }
       if (metaType.findProperty(property, configuration.isMapUnderscoreToCamelCase()) != null) {
-        String value = rsw.getResultSet().getString(column);
-        if (value != null) {
-          cacheKey.update(column);
-          cacheKey.update(value);
-        }
+        columns.add(column);
+        columnIndexes.add(findColumnIndex(rsw, column));
       }
     }
   }
 
-  private void createRowKeyForMap(ResultSetWrapper rsw, CacheKey cacheKey) throws SQLException {
+  private void addRowKeyColumnsForMap(ResultSetWrapper rsw, List<String> columns, List<Integer> columnIndexes) {
+    for (String columnName : rsw.getColumnNames()) {
+      columns.add(columnName);
+      columnIndexes.add(findColumnIndex(rsw, columnName));
+    }
+  }
+
+  private int findColumnIndex(ResultSetWrapper rsw, String column) {
+    // the first column of the label, as reading by label does
     List<String> columnNames = rsw.getColumnNames();
-    for (String columnName : columnNames) {
-      final String value = rsw.getResultSet().getString(columnName);
-      if (value != null) {
-        cacheKey.update(columnName);
-        cacheKey.update(value);
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (columnNames.get(i).equalsIgnoreCase(column)) {
+        return i + 1;
       }
     }
+    throw new ExecutorException("Column '" + column + "' was not found in the result set.");
   }
 
   private void linkObjects(MetaObject metaObject, ResultMapping resultMapping, Object rowValue) {
@@ -26,8 +26,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler.UnMappedColumnAutoMapping;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
@@ -46,9 +47,13 @@ public class ResultSetWrapper {
   private final List<String> columnNames = new ArrayList<>();
   private final List<String> classNames = new ArrayList<>();
   private final List<JdbcType> jdbcTypes = new ArrayList<>();
-  private final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap = new HashMap<>();
-  private final Map<String, List<String>> mappedColumnNamesMap = new HashMap<>();
-  private final Map<String, List<String>> unMappedColumnNamesMap = new HashMap<>();
+  private final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap;
+  private final Map<String, List<String>> mappedColumnNamesMap;
+  private final Map<String, List<String>> unMappedColumnNamesMap;
+  private final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsMap;
+  private final Map<String, TypeHandler<?>> unknownColumnTypeHandlerMap = new HashMap<>();
+  private final boolean sharedPlans;
+  private RowMap.Schema rowMapSchema;
 
   public ResultSetWrapper(ResultSet rs, Configuration configuration) throws SQLException {
     super();
@@ -61,6 +66,20 @@ public class ResultSetWrapper {
       jdbcTypes.add(JdbcType.forCode(metaData.getColumnType(i)));
       classNames.add(metaData.getColumnClassName(i));
     }
+    AutoMappingPlanCache planCache = configuration.getAutoMappingPlanCache();
+    AutoMappingPlanCache.Plans plans = planCache == null ? null : planCache.getPlans(columnNames, jdbcTypes, classNames);
+    if (plans == null) {
+      this.typeHandlerMap = new HashMap<>();
+      this.mappedColumnNamesMap = new HashMap<>();
+      this.unMappedColumnNamesMap = new HashMap<>();
+      this.autoMappingsMap = new HashMap<>();
+    } else {
+      this.typeHandlerMap = plans.typeHandlerMap;
+      this.mappedColumnNamesMap = plans.mappedColumnNamesMap;
+      this.unMappedColumnNamesMap = plans.unMappedColumnNamesMap;
+      this.autoMappingsMap = plans.autoMappingsMap;
+    }
+    this.sharedPlans = plans != null;
   }
 
   public ResultSet getResultSet() {
@@ -79,6 +98,20 @@ public class ResultSetWrapper {
     return jdbcTypes;
   }
 
+  /**
+   * Returns the auto-mappings of the columns of this result set, by result map and column prefix.
+   */
+  Map<String, List<UnMappedColumnAutoMapping>> getAutoMappingsMap() {
+    return autoMappingsMap;
+  }
+
+  RowMap.Schema getRowMapSchema() {
+    if (rowMapSchema == null) {
+      rowMapSchema = new RowMap.Schema(columnNames);
+    }
+    return rowMapSchema;
+  }
+
   public JdbcType getJdbcType(String columnName) {
     for (int i = 0; i < columnNames.size(); i++) {
       if (columnNames.get(i).equalsIgnoreCase(columnName)) {
@@ -103,8 +136,11 @@ public class ResultSetWrapper {
     TypeHandler<?> handler = null;
     Map<Class<?>, TypeHandler<?>> columnHandlers = typeHandlerMap.get(columnName);
     if (columnHandlers == null) {
-      columnHandlers = new HashMap<>();
-      typeHandlerMap.put(columnName, columnHandlers);
+      columnHandlers = sharedPlans ? new ConcurrentHashMap<>() : new HashMap<>();
+      Map<Class<?>, TypeHandler<?>> existing = typeHandlerMap.putIfAbsent(columnName, columnHandlers);
+      if (existing != null) {
+        columnHandlers = existing;
+      }
     } else {
       handler = columnHandlers.get(propertyType);
     }
@@ -115,14 +151,7 @@ public class ResultSetWrapper {
       // See issue #59 comment 10
       if (handler == null || handler instanceof UnknownTypeHandler) {
         final int index = columnNames.indexOf(columnName);
-        final Class<?> javaType = resolveClass(classNames.get(index));
-        if (javaType != null && jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType, jdbcType);
-        } else if (javaType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType);
-        } else if (jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(jdbcType);
-        }
+        handler = typeHandlerRegistry.getColumnTypeHandler(classNames.get(index), jdbcType);
       }
       if (handler == null || handler instanceof UnknownTypeHandler) {
         handler = new ObjectTypeHandler();
@@ -132,16 +161,28 @@ public class ResultSetWrapper {
     return handler;
   }
 
-  private Class<?> resolveClass(String className) {
-    try {
-      // #699 className could be null
-      if (className != null) {
-        return Resources.classForName(className);
+  /**
+   * Gets the type handler an {@link UnknownTypeHandler} resolves when it reads a column, which is resolved once for this
+   * result set instead of on every row. Like the unknown type handler, it picks the last column of that name.
+   *
+   * @param columnName
+   *          the column name
+   * @return the type handler
+   * @since 3.5.7
+   */
+  public TypeHandler<?> getUnknownColumnTypeHandler(String columnName) {
+    TypeHandler<?> handler = unknownColumnTypeHandlerMap.get(columnName);
+    if (handler == null) {
+      final int index = columnNames.lastIndexOf(columnName);
+      if (index >= 0) {
+        handler = typeHandlerRegistry.getColumnTypeHandler(classNames.get(index), jdbcTypes.get(index));
       }
-    } catch (ClassNotFoundException e) {
-      // ignore
+      if (handler == null || handler instanceof UnknownTypeHandler) {
+        handler = new ObjectTypeHandler();
+      }
+      unknownColumnTypeHandlerMap.put(columnName, handler);
     }
-    return null;
+    return handler;
   }
 
   private void loadMappedAndUnmappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
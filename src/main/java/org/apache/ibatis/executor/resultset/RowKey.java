@@ -0,0 +1,129 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import org.apache.ibatis.reflection.ArrayUtil;
+
+/**
+ * The identity of a row of a nested result map: the result map, the column prefix it is applied with, the values of
+ * its key columns in a fixed order and the key of the row of the enclosing result map. The key of the enclosing row is
+ * referenced rather than copied, and the hash code mixes each value so that rows whose ids are related, as sequential
+ * ids of joined tables often are, do not collide.
+ */
+final class RowKey {
+
+  /** The key of a row with no key column values, whose objects are not looked up nor stored. */
+  static final RowKey NULL_ROW_KEY = new RowKey(null, null, new Object[0], null);
+
+  private final String resultMapId;
+  private final String columnPrefix;
+  private final Object[] values;
+  private final RowKey parent;
+  private final int hashCode;
+
+  RowKey(String resultMapId, String columnPrefix, Object[] values) {
+    this(resultMapId, columnPrefix, values, null);
+  }
+
+  private RowKey(String resultMapId, String columnPrefix, Object[] values, RowKey parent) {
+    this.resultMapId = resultMapId;
+    this.columnPrefix = columnPrefix;
+    this.values = values;
+    this.parent = parent;
+    this.hashCode = hash();
+  }
+
+  /**
+   * Returns the key of this row within the row of the enclosing result map.
+   *
+   * @param parentKey
+   *          the key of the row of the enclosing result map
+   * @return the combined key, or {@link #NULL_ROW_KEY} if either key is
+   */
+  RowKey withParent(RowKey parentKey) {
+    if (this == NULL_ROW_KEY || parentKey == NULL_ROW_KEY) {
+      return NULL_ROW_KEY;
+    }
+    return new RowKey(resultMapId, columnPrefix, values, parentKey);
+  }
+
+  private int hash() {
+    int h = mix(17, Objects.hashCode(resultMapId));
+    h = mix(h, Objects.hashCode(columnPrefix));
+    for (Object value : values) {
+      h = mix(h, value == null ? 0 : ArrayUtil.hashCode(value));
+    }
+    if (parent != null) {
+      h = mix(h, parent.hashCode);
+    }
+    // final avalanche, as in MurmurHash3
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    return h ^ (h >>> 16);
+  }
+
+  private static int mix(int h, int k) {
+    k *= 0xcc9e2d51;
+    k = Integer.rotateLeft(k, 15);
+    k *= 0x1b873593;
+    h ^= k;
+    h = Integer.rotateLeft(h, 13);
+    return h * 5 + 0xe6546b64;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RowKey)) {
+      return false;
+    }
+    RowKey that = (RowKey) o;
+    if (hashCode != that.hashCode || values.length != that.values.length
+        || !Objects.equals(resultMapId, that.resultMapId) || !Objects.equals(columnPrefix, that.columnPrefix)) {
+      return false;
+    }
+    for (int i = 0; i < values.length; i++) {
+      if (!ArrayUtil.equals(values[i], that.values[i])) {
+        return false;
+      }
+    }
+    return Objects.equals(parent, that.parent);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(":");
+    joiner.add(String.valueOf(resultMapId));
+    joiner.add(String.valueOf(columnPrefix));
+    for (Object value : values) {
+      joiner.add(ArrayUtil.toString(value));
+    }
+    return parent == null ? joiner.toString() : joiner + " in " + parent;
+  }
+
+}
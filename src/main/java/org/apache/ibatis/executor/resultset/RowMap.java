@@ -0,0 +1,281 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map holding a row of a result set, which shares the column names of the result set with the other rows and keeps
+ * its values in an array. The keys that are not column names are held in a map of their own.
+ *
+ * @see org.apache.ibatis.session.Configuration#setCompactMapResults(boolean)
+ */
+final class RowMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private static final Object ABSENT = new Object();
+
+  private final Schema schema;
+  private final Object[] values;
+  private int size;
+  /** The entries whose key is not a column name, or null if there is none. */
+  private Map<String, Object> others;
+  private Set<Entry<String, Object>> entrySet;
+
+  RowMap(Schema schema) {
+    this.schema = schema;
+    this.values = new Object[schema.keys.length];
+    Arrays.fill(values, ABSENT);
+  }
+
+  @Override
+  public int size() {
+    return size + (others == null ? 0 : others.size());
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int index = schema.indexOf(key);
+    if (index >= 0) {
+      return values[index] != ABSENT;
+    }
+    return others != null && others.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = schema.indexOf(key);
+    if (index >= 0) {
+      Object value = values[index];
+      return value == ABSENT ? null : value;
+    }
+    return others == null ? null : others.get(key);
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    int index = schema.indexOf(key);
+    if (index >= 0) {
+      Object previous = values[index];
+      values[index] = value;
+      if (previous == ABSENT) {
+        size++;
+        return null;
+      }
+      return previous;
+    }
+    if (others == null) {
+      others = new LinkedHashMap<>();
+    }
+    return others.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    int index = schema.indexOf(key);
+    if (index >= 0) {
+      Object previous = values[index];
+      if (previous == ABSENT) {
+        return null;
+      }
+      values[index] = ABSENT;
+      size--;
+      return previous;
+    }
+    return others == null ? null : others.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, ABSENT);
+    size = 0;
+    others = null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  /**
+   * Serializes the row as a {@link HashMap}, which does not depend on the column names of the result set.
+   */
+  private Object writeReplace() {
+    return new HashMap<>(this);
+  }
+
+  /**
+   * The column names of a result set, shared by the rows read from it.
+   */
+  static final class Schema {
+    private final String[] keys;
+    private final Map<String, Integer> indexes;
+
+    Schema(List<String> columnNames) {
+      Map<String, Integer> indexes = new HashMap<>();
+      for (String columnName : columnNames) {
+        indexes.putIfAbsent(columnName, indexes.size());
+      }
+      this.keys = new String[indexes.size()];
+      for (Entry<String, Integer> index : indexes.entrySet()) {
+        keys[index.getValue()] = index.getKey();
+      }
+      this.indexes = indexes;
+    }
+
+    int indexOf(Object key) {
+      Integer index = indexes.get(key);
+      return index == null ? -1 : index;
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return RowMap.this.size();
+    }
+
+    @Override
+    public void clear() {
+      RowMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+    private int next = nextIndex(0);
+    private int current = -1;
+    private Iterator<Entry<String, Object>> othersIterator;
+
+    @Override
+    public boolean hasNext() {
+      if (next < values.length) {
+        return true;
+      }
+      if (othersIterator == null) {
+        if (others == null) {
+          return false;
+        }
+        othersIterator = others.entrySet().iterator();
+      }
+      return othersIterator.hasNext();
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (next < values.length) {
+        current = next;
+        next = nextIndex(next + 1);
+        return new ValueEntry(current);
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      current = values.length;
+      return othersIterator.next();
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0) {
+        throw new IllegalStateException();
+      }
+      if (current < values.length) {
+        values[current] = ABSENT;
+        size--;
+      } else {
+        othersIterator.remove();
+      }
+      current = -1;
+    }
+
+    private int nextIndex(int from) {
+      int index = from;
+      while (index < values.length && values[index] == ABSENT) {
+        index++;
+      }
+      return index;
+    }
+  }
+
+  private final class ValueEntry implements Entry<String, Object> {
+    private final int index;
+
+    ValueEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return schema.keys[index];
+    }
+
+    @Override
+    public Object getValue() {
+      Object value = values[index];
+      return value == ABSENT ? null : value;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object previous = getValue();
+      if (values[index] == ABSENT) {
+        size++;
+      }
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> entry = (Entry<?, ?>) o;
+      return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = getValue();
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+}
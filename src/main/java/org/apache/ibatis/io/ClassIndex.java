@@ -0,0 +1,134 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+/**
+ * The class files listed at build time by {@link ClassIndexProcessor}.
+ * <p>
+ * Each module writes its index to a file of its own name in {@link #LOCATION}, so a JAR merging several modules keeps
+ * all of their indexes, which are read together. A package of a classpath root is listed from the indexes of the root
+ * when they list any class of it, and with the {@link VFS} otherwise, e.g. when the root has no index or holds the
+ * classes of a module without one.
+ */
+final class ClassIndex {
+
+  private static final Log log = LogFactory.getLog(ClassIndex.class);
+
+  /** The directory of the indexes in a classpath root, each index lists one class file path per line. */
+  static final String LOCATION = "META-INF/mybatis/class-index";
+
+  /** The class files of the indexes read so far from JAR files, by index URL. */
+  private static final Map<String, List<String>> indexes = new ConcurrentHashMap<>();
+
+  private ClassIndex() {
+    // Prevent Instantiation
+  }
+
+  /**
+   * Recursively lists the class files of a package, as {@link VFS#list(String)} would.
+   *
+   * @param path
+   *          the path of the package
+   * @return the paths of the class files, and of other resources of the packages listed with the VFS
+   * @throws IOException
+   *           If I/O errors occur
+   */
+  static List<String> list(String path) throws IOException {
+    List<URL> indexDirectories = VFS.getResources(LOCATION);
+    VFS vfs = VFS.getInstance();
+    if (indexDirectories.isEmpty()) {
+      return vfs.list(path);
+    }
+    Map<String, List<String>> classFilesByRoot = new HashMap<>();
+    for (URL indexDirectory : indexDirectories) {
+      String root = rootOf(indexDirectory, LOCATION);
+      List<String> classFiles = classFilesByRoot.computeIfAbsent(root, k -> new ArrayList<>());
+      for (String indexPath : vfs.list(indexDirectory, LOCATION)) {
+        if (!indexPath.endsWith("/")) {
+          classFiles.addAll(read(new URL(root + indexPath)));
+        }
+      }
+    }
+    String prefix = path.endsWith("/") ? path : path + "/";
+    List<String> names = new ArrayList<>();
+    for (URL url : VFS.getResources(path)) {
+      List<String> indexed = new ArrayList<>();
+      for (String name : classFilesByRoot.getOrDefault(rootOf(url, path), Collections.emptyList())) {
+        if (name.startsWith(prefix)) {
+          indexed.add(name);
+        }
+      }
+      // a package no index of the root lists may belong to a module merged into the root without an index
+      if (indexed.isEmpty()) {
+        names.addAll(vfs.list(url, path));
+      } else {
+        names.addAll(indexed);
+      }
+    }
+    return names;
+  }
+  private static String rootOf(URL url, String path) {
+    String location = url.toExternalForm();
+    if (location.endsWith("/")) {
+      location = location.substring(0, location.length() - 1);
+    }
+    String suffix = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    return location.endsWith(suffix) ? location.substring(0, location.length() - suffix.length()) : location;
+  }
+
+  private static List<String> read(URL indexUrl) throws IOException {
+    String key = indexUrl.toExternalForm();
+    List<String> names = indexes.get(key);
+    if (names == null) {
+      names = new ArrayList<>();
+      try (InputStream in = indexUrl.openStream();
+          BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+        for (String line; (line = reader.readLine()) != null;) {
+          line = line.trim();
+          if (!line.isEmpty() && !line.startsWith("#")) {
+            names.add(line);
+          }
+        }
+      }
+      if (log.isDebugEnabled()) {
+        log.debug("Read " + names.size() + " classes from " + key);
+      }
+      names = Collections.unmodifiableList(names);
+      // an index in a directory may be written again by the next build
+      if ("jar".equals(indexUrl.getProtocol())) {
+        indexes.put(key, names);
+      }
+    }
+    return names;
+  }
+
+}
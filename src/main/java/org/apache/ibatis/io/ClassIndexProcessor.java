@@ -0,0 +1,159 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the compiled classes to {@code META-INF/mybatis/class-index/<name>}, which {@link ResolverUtil}
+ * reads instead of walking the packages it lists in the classpath root holding it, e.g. when mappers, type aliases or
+ * type handlers are registered by package.
+ * <p>
+ * The processor is not registered as a service, it has to be enabled explicitly, e.g. with
+ * {@code javac -processor org.apache.ibatis.io.ClassIndexProcessor} or the {@code annotationProcessors} option of the
+ * maven-compiler-plugin. The name of the index is given by the {@code mybatis.classIndex.name} option, and defaults to
+ * the package all the compiled classes are in, so the indexes of the modules merged into a single JAR do not replace
+ * each other. The classes of a previous index of that name that are not compiled again are kept as long as their class
+ * files still exist, so that an incremental build keeps the index complete. Local and anonymous classes are not
+ * listed.
+ *
+ * @since 3.5.7
+ */
+public class ClassIndexProcessor extends AbstractProcessor {
+
+  /** The option naming the index. */
+  public static final String NAME_OPTION = "mybatis.classIndex.name";
+
+  private final Set<String> classFiles = new TreeSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton("*");
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Collections.singleton(NAME_OPTION);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    } else {
+      for (Element element : roundEnv.getRootElements()) {
+        addClass(element);
+      }
+    }
+    return false;
+  }
+
+  private void addClass(Element element) {
+    if (element instanceof TypeElement) {
+      String binaryName = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+      classFiles.add(binaryName.replace('.', '/') + ".class");
+      for (Element enclosed : element.getEnclosedElements()) {
+        addClass(enclosed);
+      }
+    }
+  }
+
+  private void writeIndex() {
+    if (classFiles.isEmpty()) {
+      return;
+    }
+    String location = ClassIndex.LOCATION + "/" + indexName();
+    Set<String> index = new TreeSet<>(classFiles);
+    Filer filer = processingEnv.getFiler();
+    try {
+      FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", location);
+      try (Reader in = previous.openReader(true); BufferedReader reader = new BufferedReader(in)) {
+        for (String line; (line = reader.readLine()) != null;) {
+          // the class file is looked up by its path, as a binary name may hold a '$' that is not a nesting
+          if (line.endsWith(".class") && classFileExists(filer, line)) {
+            index.add(line);
+          }
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // no previous index
+    }
+    try {
+      FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", location);
+      try (Writer writer = file.openWriter()) {
+        for (String classFile : index) {
+          writer.write(classFile);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Could not write " + location + ": " + e);
+    }
+  }
+
+  private String indexName() {
+    String name = processingEnv.getOptions().get(NAME_OPTION);
+    if (name != null && !name.trim().isEmpty()) {
+      return name.trim();
+    }
+    // the longest package path shared by the class files
+    String common = null;
+    for (String classFile : classFiles) {
+      String directory = classFile.substring(0, classFile.lastIndexOf('/') + 1);
+      if (common == null) {
+        common = directory;
+      } else {
+        while (!directory.startsWith(common)) {
+          common = common.substring(0, common.lastIndexOf('/', common.length() - 2) + 1);
+        }
+      }
+    }
+    return common == null || common.isEmpty() ? "default" : common.substring(0, common.length() - 1).replace('/', '.');
+  }
+
+  private static boolean classFileExists(Filer filer, String classFile) {
+    try {
+      FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", classFile);
+      return file.getLastModified() > 0 || new File(file.toUri()).isFile();
+    } catch (IOException | IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+}
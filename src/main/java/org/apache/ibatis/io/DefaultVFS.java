@@ -23,13 +23,18 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 
 import org.apache.ibatis.logging.Log;
@@ -46,6 +51,9 @@ public class DefaultVFS extends VFS {
   /** The magic header that indicates a JAR (ZIP) file. */
   private static final byte[] JAR_MAGIC = { 'P', 'K', 3, 4 };
 
+  /** The file entries of the JAR files listed so far, by path. */
+  private final Map<String, JarListing> jarListings = new ConcurrentHashMap<>();
+
   @Override
   public boolean isValid() {
     return true;
@@ -61,15 +69,30 @@ public class DefaultVFS extends VFS {
       // file is found, then we'll list child resources by reading the JAR.
       URL jarUrl = findJarForResource(url);
       if (jarUrl != null) {
-        is = jarUrl.openStream();
         if (log.isDebugEnabled()) {
           log.debug("Listing " + url);
         }
-        resources = listResources(new JarInputStream(is), path);
+        List<String> entries = listJarFile(jarUrl);
+        if (entries != null) {
+          resources = listResources(entries, path);
+        } else {
+          is = jarUrl.openStream();
+          resources = listResources(new JarInputStream(is), path);
+        }
       } else {
         List<String> children = new ArrayList<>();
         try {
-          if (isJar(url)) {
+          File directory = toFile(url);
+          if (directory != null && directory.isDirectory()) {
+            // listed directly, rather than read as text and checked line by line with the class loader
+            if (log.isDebugEnabled()) {
+              log.debug("Listing directory " + directory.getAbsolutePath());
+            }
+            String[] files = directory.list();
+            if (files != null) {
+              children = Arrays.asList(files);
+            }
+          } else if (isJar(url)) {
             // Some versions of JBoss VFS might give a JAR stream even if the resource
             // referenced by the URL isn't actually a JAR
             is = url.openStream();
@@ -189,25 +212,78 @@ public class DefaultVFS extends VFS {
     List<String> resources = new ArrayList<>();
     for (JarEntry entry; (entry = jar.getNextJarEntry()) != null;) {
       if (!entry.isDirectory()) {
-        // Add leading slash if it's missing
-        StringBuilder name = new StringBuilder(entry.getName());
-        if (name.charAt(0) != '/') {
-          name.insert(0, '/');
-        }
-
-        // Check file name
-        if (name.indexOf(path) == 0) {
-          if (log.isDebugEnabled()) {
-            log.debug("Found resource: " + name);
-          }
-          // Trim leading slash
-          resources.add(name.substring(1));
-        }
+        addIfMatching(resources, entry.getName(), path);
       }
     }
     return resources;
   }
 
+  private List<String> listResources(List<String> entries, String path) {
+    if (!path.startsWith("/")) {
+      path = "/" + path;
+    }
+    if (!path.endsWith("/")) {
+      path = path + "/";
+    }
+    List<String> resources = new ArrayList<>();
+    for (String entry : entries) {
+      addIfMatching(resources, entry, path);
+    }
+    return resources;
+  }
+
+  private void addIfMatching(List<String> resources, String entryName, String path) {
+    // Add leading slash if it's missing
+    StringBuilder name = new StringBuilder(entryName);
+    if (name.charAt(0) != '/') {
+      name.insert(0, '/');
+    }
+
+    // Check file name
+    if (name.indexOf(path) == 0) {
+      if (log.isDebugEnabled()) {
+        log.debug("Found resource: " + name);
+      }
+      // Trim leading slash
+      resources.add(name.substring(1));
+    }
+  }
+
+  /**
+   * Lists the file entries of a JAR file from its central directory, without reading the entries themselves. The
+   * entries are kept until the file changes, so the packages of a JAR file scanned several times are read once.
+   *
+   * @param jarUrl
+   *          the URL of the JAR file
+   * @return the names of the file entries, or null if the URL does not refer to a local file
+   * @throws IOException
+   *           If I/O errors occur
+   */
+  private List<String> listJarFile(URL jarUrl) throws IOException {
+    File file = toFile(jarUrl);
+    if (file == null || !file.isFile()) {
+      return null;
+    }
+    String key = file.getAbsolutePath();
+    JarListing listing = jarListings.get(key);
+    if (listing == null || listing.lastModified != file.lastModified() || listing.length != file.length()) {
+      listing = new JarListing(file);
+      jarListings.put(key, listing);
+    }
+    return listing.entries;
+  }
+
+  private static File toFile(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
   /**
    * Attempts to deconstruct the given URL to find a JAR file containing the resource referenced
    * by the URL. That is, assuming the URL references a JAR entry, this method will return a URL
@@ -343,4 +419,23 @@ public class DefaultVFS extends VFS {
 
     return false;
   }
+
+  private static final class JarListing {
+    private final long lastModified;
+    private final long length;
+    private final List<String> entries = new ArrayList<>();
+
+    JarListing(File file) throws IOException {
+      this.lastModified = file.lastModified();
+      this.length = file.length();
+      try (JarFile jarFile = new JarFile(file, false)) {
+        for (Enumeration<JarEntry> e = jarFile.entries(); e.hasMoreElements();) {
+          JarEntry entry = e.nextElement();
+          if (!entry.isDirectory()) {
+            entries.add(entry.getName());
+          }
+        }
+      }
+    }
+  }
 }
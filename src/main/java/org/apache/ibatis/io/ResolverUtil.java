@@ -246,7 +246,7 @@ public class ResolverUtil<T> {
     String path = getPackagePath(packageName);
 
     try {
-      List<String> children = VFS.getInstance().list(path);
+      List<String> children = ClassIndex.list(path);
       for (String child : children) {
         if (child.endsWith(".class")) {
           addIfMatching(test, child);
@@ -28,6 +28,7 @@ public class ParameterMap {
   private String id;
   private Class<?> type;
   private List<ParameterMapping> parameterMappings;
+  private String resource;
 
   private ParameterMap() {
   }
@@ -45,6 +46,14 @@ public class ParameterMap {
       return parameterMap.type;
     }
 
+    /**
+     * @since 3.5.7
+     */
+    public Builder resource(String resource) {
+      parameterMap.resource = resource;
+      return this;
+    }
+
     public ParameterMap build() {
       //lock down collections
       parameterMap.parameterMappings = Collections.unmodifiableList(parameterMap.parameterMappings);
@@ -64,4 +73,14 @@ public class ParameterMap {
     return parameterMappings;
   }
 
+  /**
+   * Returns the mapper resource this parameter map was loaded from.
+   *
+   * @return the resource, or {@code null} if the parameter map was built directly
+   * @since 3.5.7
+   */
+  public String getResource() {
+    return resource;
+  }
+
 }
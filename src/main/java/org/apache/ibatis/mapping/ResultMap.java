@@ -77,6 +77,7 @@ public class ResultMap {
   private boolean hasNestedResultMaps;
   private boolean hasNestedQueries;
   private Boolean autoMapping;
+  private String resource;
 
   private ResultMap() {
   }
@@ -103,6 +104,14 @@ public class ResultMap {
       return this;
     }
 
+    /**
+     * @since 3.5.7
+     */
+    public Builder resource(String resource) {
+      resultMap.resource = resource;
+      return this;
+    }
+
     public Class<?> type() {
       return resultMap.type;
     }
@@ -123,12 +132,12 @@ public class ResultMap {
         resultMap.hasNestedResultMaps = resultMap.hasNestedResultMaps || (resultMapping.getNestedResultMapId() != null && resultMapping.getResultSet() == null);
         final String column = resultMapping.getColumn();
         if (column != null) {
-          resultMap.mappedColumns.add(column.toUpperCase(Locale.ENGLISH));
+          resultMap.mappedColumns.add(column.toUpperCase(Locale.ENGLISH).intern());
         } else if (resultMapping.isCompositeResult()) {
           for (ResultMapping compositeResultMapping : resultMapping.getComposites()) {
             final String compositeColumn = compositeResultMapping.getColumn();
             if (compositeColumn != null) {
-              resultMap.mappedColumns.add(compositeColumn.toUpperCase(Locale.ENGLISH));
+              resultMap.mappedColumns.add(compositeColumn.toUpperCase(Locale.ENGLISH).intern());
             }
           }
         }
@@ -182,12 +191,15 @@ public class ResultMap {
           return paramIdx1 - paramIdx2;
         });
       }
-      // lock down collections
-      resultMap.resultMappings = Collections.unmodifiableList(resultMap.resultMappings);
-      resultMap.idResultMappings = Collections.unmodifiableList(resultMap.idResultMappings);
-      resultMap.constructorResultMappings = Collections.unmodifiableList(resultMap.constructorResultMappings);
-      resultMap.propertyResultMappings = Collections.unmodifiableList(resultMap.propertyResultMappings);
-      resultMap.mappedColumns = Collections.unmodifiableSet(resultMap.mappedColumns);
+      // lock down collections, sharing the lists that hold the same mappings
+      resultMap.resultMappings = compact(resultMap.resultMappings);
+      resultMap.idResultMappings = resultMap.idResultMappings.size() == resultMap.resultMappings.size()
+          ? resultMap.resultMappings : compact(resultMap.idResultMappings);
+      resultMap.constructorResultMappings = compact(resultMap.constructorResultMappings);
+      resultMap.propertyResultMappings = resultMap.propertyResultMappings.size() == resultMap.resultMappings.size()
+          ? resultMap.resultMappings : compact(resultMap.propertyResultMappings);
+      resultMap.mappedColumns = compact(resultMap.mappedColumns);
+      resultMap.mappedProperties = compact(resultMap.mappedProperties);
       return resultMap;
     }
 
@@ -208,6 +220,21 @@ public class ResultMap {
       return null;
     }
 
+    private static <T> List<T> compact(List<T> list) {
+      if (list.isEmpty()) {
+        return Collections.emptyList();
+      }
+      // sized to the mappings, the list of the builder may have spare capacity
+      return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static Set<String> compact(Set<String> set) {
+      if (set.isEmpty()) {
+        return Collections.emptySet();
+      }
+      return Collections.unmodifiableSet(set);
+    }
+
     /**
      * 找到的构造方法是否匹配
      * @param constructorArgNames <arg/>、<idArg/>标签的name属性集合
@@ -321,6 +348,16 @@ public class ResultMap {
     hasNestedResultMaps = true;
   }
 
+  /**
+   * Returns the mapper resource this result map was loaded from.
+   *
+   * @return the resource, or {@code null} if the result map was built directly
+   * @since 3.5.7
+   */
+  public String getResource() {
+    return resource;
+  }
+
   public Boolean getAutoMapping() {
     return autoMapping;
   }
@@ -134,8 +134,13 @@ public class ResultMapping {
 
     public ResultMapping build() {
       // lock down collections
-      resultMapping.flags = Collections.unmodifiableList(resultMapping.flags);
-      resultMapping.composites = Collections.unmodifiableList(resultMapping.composites);
+      resultMapping.flags = resultMapping.flags.isEmpty() ? Collections.emptyList()
+          : Collections.unmodifiableList(resultMapping.flags);
+      resultMapping.composites = resultMapping.composites.isEmpty() ? Collections.emptyList()
+          : Collections.unmodifiableList(resultMapping.composites);
+      // the same names are mapped by many result maps
+      resultMapping.column = intern(resultMapping.column);
+      resultMapping.property = intern(resultMapping.property);
       /*
        为这个ResultMapping对象挑选一个适合的类型处理器
        ① 首先判断typeHandler域是否有现成的类型处理器，如果有，就用现成的
@@ -164,6 +169,10 @@ public class ResultMapping {
       return resultMapping;
     }
 
+    private static String intern(String name) {
+      return name == null ? null : name.intern();
+    }
+
     private void validate() {
       // Issue #697: cannot define both nestedQueryId and nestedResultMapId
       if (resultMapping.nestedQueryId != null && resultMapping.nestedResultMapId != null) {
@@ -0,0 +1,133 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.parsing;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Reads an XML document with a streaming (StAX) reader into the same DOM tree as {@link XPathParser} builds, that is
+ * without comments and with the text and CDATA sections of each element kept apart.
+ * <p>
+ * The document type declaration is skipped: the document is neither validated nor completed with the attribute
+ * defaults of its DTD, and no external entity is resolved.
+ *
+ * @since 3.5.7
+ */
+public final class StaxDocumentReader {
+
+  private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+  private StaxDocumentReader() {
+    // Prevent Instantiation
+  }
+
+  public static Document read(InputStream inputStream) {
+    try {
+      return read(newInputFactory().createXMLStreamReader(inputStream));
+    } catch (XMLStreamException e) {
+      throw new BuilderException("Error creating document instance.  Cause: " + e, e);
+    }
+  }
+
+  public static Document read(Reader reader) {
+    try {
+      return read(newInputFactory().createXMLStreamReader(reader));
+    } catch (XMLStreamException e) {
+      throw new BuilderException("Error creating document instance.  Cause: " + e, e);
+    }
+  }
+
+  private static Document read(XMLStreamReader reader) throws XMLStreamException {
+    Document document;
+    try {
+      document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    } catch (Exception e) {
+      throw new BuilderException("Error creating document instance.  Cause: " + e, e);
+    }
+    try {
+      Node current = document;
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            Element element = document.createElement(reader.getLocalName());
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+              element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+            current.appendChild(element);
+            current = element;
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            current = current.getParentNode();
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.SPACE:
+            if (current != document) {
+              appendText(document, current, reader.getText(), Node.TEXT_NODE);
+            }
+            break;
+          case XMLStreamConstants.CDATA:
+            appendText(document, current, reader.getText(), Node.CDATA_SECTION_NODE);
+            break;
+          default:
+            // the DTD, comments and processing instructions are not used by the builders
+            break;
+        }
+      }
+      return document;
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static void appendText(Document document, Node parent, String text, short type) {
+    // the reader may split a long text or CDATA section into several events
+    Node last = parent.getLastChild();
+    if (last != null && last.getNodeType() == type) {
+      last.setNodeValue(last.getNodeValue() + text);
+    } else if (type == Node.TEXT_NODE) {
+      parent.appendChild(document.createTextNode(text));
+    } else {
+      parent.appendChild(document.createCDATASection(text));
+    }
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+      // the JDK reader reports CDATA sections as characters otherwise
+      factory.setProperty(REPORT_CDATA_EVENT, true);
+    }
+    return factory;
+  }
+
+}
@@ -19,8 +19,12 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -51,6 +55,8 @@ public class XPathParser {
   private EntityResolver entityResolver;
   private Properties variables;
   private XPath xpath;
+  /** The element paths of the expressions evaluated so far, {@code null} unless they are enabled. */
+  private Map<String, ElementPath> elementPaths;
 
   public XPathParser(String xml) {
     commonConstructor(false, null, null);
@@ -136,6 +142,19 @@ public class XPathParser {
     this.variables = variables;
   }
 
+  /**
+   * Makes {@link #evalNode(Object, String)} and {@link #evalNodes(Object, String)} evaluate the expressions made of
+   * child element steps only, such as {@code /mapper/resultMap} or {@code select|insert|update|delete}, by walking the
+   * document instead of through the XPath engine.
+   *
+   * @since 3.5.7
+   */
+  public void enableElementPaths() {
+    if (elementPaths == null) {
+      elementPaths = new ConcurrentHashMap<>();
+    }
+  }
+
   public String evalString(String expression) {
     return evalString(document, expression);
   }
@@ -200,6 +219,13 @@ public class XPathParser {
 
   public List<XNode> evalNodes(Object root, String expression) {
     List<XNode> xnodes = new ArrayList<>();
+    ElementPath path = elementPathOf(root, expression);
+    if (path != null) {
+      for (Node node : path.select((Node) root)) {
+        xnodes.add(new XNode(this, node, variables));
+      }
+      return xnodes;
+    }
     NodeList nodes = (NodeList) evaluate(expression, root, XPathConstants.NODESET);
     for (int i = 0; i < nodes.getLength(); i++) {
       xnodes.add(new XNode(this, nodes.item(i), variables));
@@ -212,13 +238,35 @@ public class XPathParser {
   }
 
   public XNode evalNode(Object root, String expression) {
-    Node node = (Node) evaluate(expression, root, XPathConstants.NODE);
+    ElementPath path = elementPathOf(root, expression);
+    Node node;
+    if (path != null) {
+      List<Node> nodes = path.select((Node) root);
+      node = nodes.isEmpty() ? null : nodes.get(0);
+    } else {
+      node = (Node) evaluate(expression, root, XPathConstants.NODE);
+    }
     if (node == null) {
       return null;
     }
     return new XNode(this, node, variables);
   }
 
+  private ElementPath elementPathOf(Object root, String expression) {
+    if (elementPaths == null || !(root instanceof Node)) {
+      return null;
+    }
+    ElementPath path = elementPaths.get(expression);
+    if (path == null) {
+      // only the paths are kept, the parser evaluates the few expressions of the builders over and over
+      path = ElementPath.parse(expression);
+      if (path != null) {
+        elementPaths.put(expression, path);
+      }
+    }
+    return path;
+  }
+
   private Object evaluate(String expression, Object root, QName returnType) {
     try {
       return xpath.evaluate(expression, root, returnType);
@@ -264,6 +312,72 @@ public class XPathParser {
     }
   }
 
+  /**
+   * A location path made of child element steps only, such as {@code /mapper/resultMap} or
+   * {@code select|insert|update|delete}, that is evaluated by walking the document instead of through the XPath engine.
+   */
+  private static final class ElementPath {
+    private static final Pattern SIMPLE_PATH = Pattern.compile("/?(\\*|[A-Za-z_][\\w.-]*)(/(\\*|[A-Za-z_][\\w.-]*))*");
+    private static final Pattern SIMPLE_UNION = Pattern.compile("[A-Za-z_][\\w.-]*(\\|[A-Za-z_][\\w.-]*)+");
+
+    private final boolean absolute;
+    /** The names accepted at each step, {@code *} accepting any element. */
+    private final String[][] steps;
+
+    private ElementPath(boolean absolute, String[][] steps) {
+      this.absolute = absolute;
+      this.steps = steps;
+    }
+
+    /**
+     * Returns the path of the expression, or {@code null} if it needs the XPath engine.
+     */
+    static ElementPath parse(String expression) {
+      if (SIMPLE_UNION.matcher(expression).matches()) {
+        return new ElementPath(false, new String[][] { expression.split("\\|") });
+      }
+      if (!SIMPLE_PATH.matcher(expression).matches()) {
+        return null;
+      }
+      boolean absolute = expression.startsWith("/");
+      String[] names = (absolute ? expression.substring(1) : expression).split("/");
+      String[][] steps = new String[names.length][];
+      for (int i = 0; i < names.length; i++) {
+        steps[i] = new String[] { names[i] };
+      }
+      return new ElementPath(absolute, steps);
+    }
+
+    /**
+     * Returns the matching elements in document order.
+     */
+    List<Node> select(Node root) {
+      Node start = absolute && root.getNodeType() != Node.DOCUMENT_NODE ? root.getOwnerDocument() : root;
+      List<Node> current = Collections.singletonList(start);
+      for (String[] names : steps) {
+        List<Node> next = new ArrayList<>();
+        for (Node parent : current) {
+          for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE && matches(child.getNodeName(), names)) {
+              next.add(child);
+            }
+          }
+        }
+        current = next;
+      }
+      return current;
+    }
+
+    private static boolean matches(String name, String[] names) {
+      for (String candidate : names) {
+        if ("*".equals(candidate) || candidate.equals(name)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
   private void commonConstructor(boolean validation, Properties variables, EntityResolver entityResolver) {
     this.validation = validation;
     this.entityResolver = entityResolver;
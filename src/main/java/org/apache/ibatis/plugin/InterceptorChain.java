@@ -25,20 +25,60 @@ import java.util.List;
 public class InterceptorChain {
 
   private final List<Interceptor> interceptors = new ArrayList<>();
+  /** Interceptors overriding {@link Interceptor#plugin(Object)} and chains of the others, in order. */
+  private volatile List<Object> plugins;
 
   public Object pluginAll(Object target) {
-    for (Interceptor interceptor : interceptors) {
-      target = interceptor.plugin(target);
+    for (Object plugin : getPlugins()) {
+      if (plugin instanceof PluginChain) {
+        target = ((PluginChain) plugin).wrap(target);
+      } else {
+        target = ((Interceptor) plugin).plugin(target);
+      }
     }
     return target;
   }
 
   public void addInterceptor(Interceptor interceptor) {
     interceptors.add(interceptor);
+    plugins = null;
   }
 
   public List<Interceptor> getInterceptors() {
     return Collections.unmodifiableList(interceptors);
   }
 
+  private List<Object> getPlugins() {
+    List<Object> current = plugins;
+    if (current == null) {
+      // consecutive interceptors that wrap with Plugin share a single proxy
+      current = new ArrayList<>();
+      List<Interceptor> chained = new ArrayList<>();
+      for (Interceptor interceptor : interceptors) {
+        if (usesDefaultPlugin(interceptor)) {
+          chained.add(interceptor);
+        } else {
+          if (!chained.isEmpty()) {
+            current.add(new PluginChain(chained));
+            chained.clear();
+          }
+          current.add(interceptor);
+        }
+      }
+      if (!chained.isEmpty()) {
+        current.add(new PluginChain(chained));
+      }
+      plugins = current;
+    }
+    return current;
+  }
+
+  private static boolean usesDefaultPlugin(Interceptor interceptor) {
+    try {
+      return interceptor.getClass().getMethod("plugin", Object.class).getDeclaringClass().equals(Interceptor.class);
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
 }
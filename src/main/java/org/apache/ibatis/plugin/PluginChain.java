@@ -0,0 +1,211 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.plugin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.reflection.ExceptionUtil;
+
+/**
+ * Wraps a target with a sequence of interceptors using a single proxy, behaving as if each interceptor had wrapped the
+ * target with {@link Plugin#wrap(Object, Interceptor)} in turn.
+ * <p>
+ * The interceptors of each method are resolved once per target class, so a call to a method that is not intercepted
+ * costs one reflective call whatever the number of interceptors, and an intercepted method only visits the
+ * interceptors that declare it. {@link Invocation#getTarget()} returns, as with nested proxies, an object that applies
+ * the interceptors added before the current one.
+ */
+final class PluginChain {
+
+  private final Interceptor[] interceptors;
+  private final List<Map<Class<?>, Set<Method>>> signatureMaps = new ArrayList<>();
+  private final ConcurrentMap<Class<?>, Dispatch[]> dispatches = new ConcurrentHashMap<>();
+
+  PluginChain(List<Interceptor> interceptors) {
+    this.interceptors = interceptors.toArray(new Interceptor[0]);
+    for (Interceptor interceptor : interceptors) {
+      signatureMaps.add(Plugin.getSignatureMap(interceptor));
+    }
+  }
+
+  Object wrap(Object target) {
+    return wrap(target, interceptors.length);
+  }
+
+  /**
+   * Wraps the target with the first {@code depth} interceptors.
+   */
+  private Object wrap(Object target, int depth) {
+    if (depth == 0) {
+      return target;
+    }
+    Dispatch dispatch = getDispatch(target.getClass(), depth);
+    if (dispatch.interfaces.length == 0) {
+      return target;
+    }
+    return Proxy.newProxyInstance(target.getClass().getClassLoader(), dispatch.interfaces,
+        new Handler(target, dispatch));
+  }
+
+  private Dispatch getDispatch(Class<?> type, int depth) {
+    Dispatch[] byDepth = dispatches.get(type);
+    if (byDepth == null) {
+      byDepth = dispatches.computeIfAbsent(type, k -> new Dispatch[interceptors.length + 1]);
+    }
+    Dispatch dispatch = byDepth[depth];
+    if (dispatch == null) {
+      // Dispatch is immutable, resolving it twice on a race is harmless
+      dispatch = new Dispatch(type, depth);
+      byDepth[depth] = dispatch;
+    }
+    return dispatch;
+  }
+
+  private static boolean isDeclared(Method method, Throwable t) {
+    if (t instanceof RuntimeException || t instanceof Error) {
+      return true;
+    }
+    for (Class<?> exceptionType : method.getExceptionTypes()) {
+      if (exceptionType.isInstance(t)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private final class Dispatch {
+    private final int depth;
+    private final Class<?>[] interfaces;
+    /** Indexes of the interceptors of each intercepted method, outermost first. */
+    private final Map<Method, int[]> chains = new HashMap<>();
+
+    Dispatch(Class<?> type, int depth) {
+      this.depth = depth;
+      Set<Class<?>> interfaceSet = new LinkedHashSet<>();
+      for (int i = depth - 1; i >= 0; i--) {
+        for (Class<?> c : Plugin.getAllInterfaces(type, signatureMaps.get(i))) {
+          interfaceSet.add(c);
+        }
+      }
+      this.interfaces = interfaceSet.toArray(new Class<?>[0]);
+      Map<Method, List<Integer>> chainLists = new HashMap<>();
+      for (int i = depth - 1; i >= 0; i--) {
+        for (Map.Entry<Class<?>, Set<Method>> entry : signatureMaps.get(i).entrySet()) {
+          if (interfaceSet.contains(entry.getKey())) {
+            for (Method method : entry.getValue()) {
+              // Plugin matches the signatures of the declaring interface only
+              if (method.getDeclaringClass().equals(entry.getKey())) {
+                chainLists.computeIfAbsent(method, k -> new ArrayList<>()).add(i);
+              }
+            }
+          }
+        }
+      }
+      chainLists.forEach((method, indexes) -> chains.put(method,
+          indexes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+  }
+
+  private final class Handler implements InvocationHandler {
+    // named as in Plugin, some interceptors read it to unwrap their target
+    private final Object target;
+    private final Dispatch dispatch;
+    private Object[] views;
+
+    Handler(Object target, Dispatch dispatch) {
+      this.target = target;
+      this.dispatch = dispatch;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      try {
+        int[] chain = dispatch.chains.get(method);
+        if (chain != null) {
+          return interceptors[chain[0]].intercept(new ChainedInvocation(this, method, args, chain, 0));
+        }
+        return method.invoke(target, args);
+      } catch (Exception e) {
+        throw ExceptionUtil.unwrapThrowable(e);
+      }
+    }
+
+    /**
+     * Returns the target wrapped with the interceptors added before the interceptor at the index.
+     */
+    Object viewBelow(int interceptorIndex) {
+      if (interceptorIndex == 0) {
+        return target;
+      }
+      if (views == null) {
+        views = new Object[dispatch.depth];
+      }
+      Object view = views[interceptorIndex];
+      if (view == null) {
+        view = wrap(target, interceptorIndex);
+        views[interceptorIndex] = view;
+      }
+      return view;
+    }
+  }
+
+  private final class ChainedInvocation extends Invocation {
+    private final Handler handler;
+    private final int[] chain;
+    private final int position;
+
+    ChainedInvocation(Handler handler, Method method, Object[] args, int[] chain, int position) {
+      super(handler.target, method, args);
+      this.handler = handler;
+      this.chain = chain;
+      this.position = position;
+    }
+
+    @Override
+    public Object getTarget() {
+      return handler.viewBelow(chain[position]);
+    }
+
+    @Override
+    public Object proceed() throws InvocationTargetException, IllegalAccessException {
+      int next = position + 1;
+      if (next == chain.length) {
+        return super.proceed();
+      }
+      try {
+        return interceptors[chain[next]].intercept(new ChainedInvocation(handler, getMethod(), getArgs(), chain, next));
+      } catch (Throwable t) {
+        // as if the inner interceptor had been called through its own proxy
+        Throwable thrown = t instanceof Exception ? ExceptionUtil.unwrapThrowable(t) : t;
+        throw new InvocationTargetException(
+            isDeclared(getMethod(), thrown) ? thrown : new UndeclaredThrowableException(thrown));
+      }
+    }
+  }
+
+}
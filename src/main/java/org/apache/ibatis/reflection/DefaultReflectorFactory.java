@@ -18,11 +18,32 @@ package org.apache.ibatis.reflection;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.apache.ibatis.reflection.invoker.DefaultInvokerFactory;
+import org.apache.ibatis.reflection.invoker.InvokerFactory;
+
 public class DefaultReflectorFactory implements ReflectorFactory {
   private boolean classCacheEnabled = true;
+  private final InvokerFactory invokerFactory;
   private final ConcurrentMap<Class<?>, Reflector> reflectorMap = new ConcurrentHashMap<>();
 
   public DefaultReflectorFactory() {
+    this(new DefaultInvokerFactory());
+  }
+
+  /**
+   * Instantiates a new reflector factory that creates property invokers with the given factory.
+   *
+   * @param invokerFactory
+   *          the invoker factory
+   * @since 3.5.7
+   * @see org.apache.ibatis.reflection.invoker.LambdaInvokerFactory
+   */
+  public DefaultReflectorFactory(InvokerFactory invokerFactory) {
+    this.invokerFactory = invokerFactory;
+  }
+
+  public InvokerFactory getInvokerFactory() {
+    return invokerFactory;
   }
 
   @Override
@@ -39,9 +60,18 @@ public class DefaultReflectorFactory implements ReflectorFactory {
   public Reflector findForClass(Class<?> type) {
     if (classCacheEnabled) {
       // synchronized (type) removed see issue #461
-      return reflectorMap.computeIfAbsent(type, Reflector::new);
+      Reflector reflector = reflectorMap.get(type);
+      if (reflector == null) {
+        // built outside of the map, so that reflectors built concurrently do not wait for each other
+        reflector = new Reflector(type, invokerFactory);
+        Reflector previous = reflectorMap.putIfAbsent(type, reflector);
+        if (previous != null) {
+          reflector = previous;
+        }
+      }
+      return reflector;
     } else {
-      return new Reflector(type);
+      return new Reflector(type, invokerFactory);
     }
   }
 
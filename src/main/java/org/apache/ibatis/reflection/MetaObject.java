@@ -110,35 +110,70 @@ public class MetaObject {
   }
 
   public Object getValue(String name) {
-    PropertyTokenizer prop = new PropertyTokenizer(name);
-    if (prop.hasNext()) {
-      MetaObject metaValue = metaObjectForProperty(prop.getIndexedName());
-      if (metaValue == SystemMetaObject.NULL_META_OBJECT) {
-        return null;
-      } else {
-        return metaValue.getValue(prop.getChildren());
-      }
-    } else {
-      return objectWrapper.get(prop);
-    }
+    return getValue(PropertyPath.compile(name), 0);
   }
 
   public void setValue(String name, Object value) {
-    PropertyTokenizer prop = new PropertyTokenizer(name);
-    if (prop.hasNext()) {
-      MetaObject metaValue = metaObjectForProperty(prop.getIndexedName());
-      if (metaValue == SystemMetaObject.NULL_META_OBJECT) {
-        if (value == null) {
-          // don't instantiate child path if value is null
-          return;
-        } else {
-          metaValue = objectWrapper.instantiatePropertyValue(name, prop, objectFactory);
-        }
+    setValue(PropertyPath.compile(name), 0, value);
+  }
+
+  private Object getValue(PropertyPath path, int segment) {
+    PropertyTokenizer prop = path.getToken(segment);
+    if (!prop.hasNext()) {
+      return objectWrapper.get(prop);
+    }
+    Object value = objectWrapper.get(path.getIndexedToken(segment));
+    // walk through plain beans without creating a MetaObject for each of them
+    for (segment++; value != null; segment++) {
+      prop = path.getToken(segment);
+      if (prop.getIndex() != null || !isBean(value)) {
+        return MetaObject.forObject(value, objectFactory, objectWrapperFactory, reflectorFactory).getValue(path, segment);
       }
-      metaValue.setValue(prop.getChildren(), value);
-    } else {
+      value = path.getBeanProperty(segment, value, reflectorFactory);
+      if (!prop.hasNext()) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  private void setValue(PropertyPath path, int segment, Object value) {
+    PropertyTokenizer prop = path.getToken(segment);
+    if (!prop.hasNext()) {
       objectWrapper.set(prop, value);
+      return;
+    }
+    Object parent = objectWrapper.get(path.getIndexedToken(segment));
+    if (parent == null) {
+      if (value == null) {
+        // don't instantiate child path if value is null
+        return;
+      }
+      objectWrapper.instantiatePropertyValue(path.getExpression(segment), prop, objectFactory).setValue(path, segment + 1, value);
+      return;
+    }
+    for (segment++; ; segment++) {
+      prop = path.getToken(segment);
+      if (prop.getIndex() != null || !isBean(parent)) {
+        break;
+      }
+      if (!prop.hasNext()) {
+        path.setBeanProperty(segment, parent, value, reflectorFactory);
+        return;
+      }
+      Object child = path.getBeanProperty(segment, parent, reflectorFactory);
+      if (child == null) {
+        // let the wrapper of the parent instantiate the missing child
+        break;
+      }
+      parent = child;
     }
+    MetaObject.forObject(parent, objectFactory, objectWrapperFactory, reflectorFactory).setValue(path, segment, value);
+  }
+
+  private boolean isBean(Object object) {
+    return !(object instanceof ObjectWrapper || object instanceof Map || object instanceof Collection)
+        && !objectWrapperFactory.hasWrapperFor(object);
   }
 
   public MetaObject metaObjectForProperty(String name) {
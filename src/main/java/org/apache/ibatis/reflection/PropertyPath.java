@@ -0,0 +1,130 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+
+/**
+ * A property expression (e.g. {@code items[0].address.city}) tokenized once and shared by all {@link MetaObject}s.
+ * <p>
+ * Walking a path through plain beans resolves the invokers of each segment from the {@link Reflector} of the bean class,
+ * so it creates neither tokenizers nor intermediate {@link MetaObject}s. Only the tokens are cached here; classes are
+ * never referenced, so the cache does not keep class loaders alive.
+ */
+final class PropertyPath {
+
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+  private static final int MAX_CACHED_PATHS = 4096;
+  private static final ConcurrentMap<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+
+  private final String[] expressions;
+  private final PropertyTokenizer[] tokens;
+  private final PropertyTokenizer[] indexedTokens;
+
+  private PropertyPath(String expression) {
+    List<String> expressionList = new ArrayList<>();
+    List<PropertyTokenizer> tokenList = new ArrayList<>();
+    PropertyTokenizer token = new PropertyTokenizer(expression);
+    expressionList.add(expression);
+    tokenList.add(token);
+    while (token.hasNext()) {
+      expressionList.add(token.getChildren());
+      token = token.next();
+      tokenList.add(token);
+    }
+    int size = tokenList.size();
+    this.expressions = expressionList.toArray(new String[size]);
+    this.tokens = tokenList.toArray(new PropertyTokenizer[size]);
+    this.indexedTokens = new PropertyTokenizer[size];
+    for (int i = 0; i < size; i++) {
+      PropertyTokenizer current = tokens[i];
+      indexedTokens[i] = current.hasNext() ? new PropertyTokenizer(current.getIndexedName()) : current;
+    }
+  }
+
+  static PropertyPath compile(String expression) {
+    PropertyPath path = PATHS.get(expression);
+    if (path == null) {
+      path = new PropertyPath(expression);
+      if (PATHS.size() < MAX_CACHED_PATHS) {
+        PropertyPath existing = PATHS.putIfAbsent(expression, path);
+        if (existing != null) {
+          path = existing;
+        }
+      }
+    }
+    return path;
+  }
+
+  /**
+   * Returns the remaining expression starting at the segment.
+   */
+  String getExpression(int segment) {
+    return expressions[segment];
+  }
+
+  /**
+   * Returns the token of the segment, the same one {@code new PropertyTokenizer(getExpression(segment))} would return.
+   */
+  PropertyTokenizer getToken(int segment) {
+    return tokens[segment];
+  }
+
+  /**
+   * Returns the token of the segment without its children.
+   */
+  PropertyTokenizer getIndexedToken(int segment) {
+    return indexedTokens[segment];
+  }
+
+  Object getBeanProperty(int segment, Object bean, ReflectorFactory reflectorFactory) {
+    String name = tokens[segment].getName();
+    try {
+      Invoker method = reflectorFactory.findForClass(bean.getClass()).getGetInvoker(name);
+      try {
+        return method.invoke(bean, NO_ARGUMENTS);
+      } catch (Throwable t) {
+        throw ExceptionUtil.unwrapThrowable(t);
+      }
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ReflectionException("Could not get property '" + name + "' from " + bean.getClass() + ".  Cause: " + t.toString(), t);
+    }
+  }
+
+  void setBeanProperty(int segment, Object bean, Object value, ReflectorFactory reflectorFactory) {
+    String name = tokens[segment].getName();
+    try {
+      Invoker method = reflectorFactory.findForClass(bean.getClass()).getSetInvoker(name);
+      Object[] params = {value};
+      try {
+        method.invoke(bean, params);
+      } catch (Throwable t) {
+        throw ExceptionUtil.unwrapThrowable(t);
+      }
+    } catch (Throwable t) {
+      throw new ReflectionException("Could not set property '" + name + "' of '" + bean.getClass() + "' with value '" + value + "' Cause: " + t.toString(), t);
+    }
+  }
+
+}
@@ -0,0 +1,64 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.invoker;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the {@link Invoker}s a {@link org.apache.ibatis.reflection.Reflector} uses to read and write properties.
+ *
+ * @since 3.5.7
+ */
+public interface InvokerFactory {
+
+  /**
+   * Creates an invoker for a getter method.
+   *
+   * @param method
+   *          the getter method
+   * @return the invoker
+   */
+  MethodInvoker createGetMethodInvoker(Method method);
+
+  /**
+   * Creates an invoker for a setter method.
+   *
+   * @param method
+   *          the setter method
+   * @return the invoker
+   */
+  MethodInvoker createSetMethodInvoker(Method method);
+
+  /**
+   * Creates an invoker that reads a field directly.
+   *
+   * @param field
+   *          the field
+   * @return the invoker
+   */
+  Invoker createGetFieldInvoker(Field field);
+
+  /**
+   * Creates an invoker that writes a field directly.
+   *
+   * @param field
+   *          the field
+   * @return the invoker
+   */
+  Invoker createSetFieldInvoker(Field field);
+
+}
@@ -0,0 +1,296 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.invoker;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.ibatis.lang.UsesJava8;
+import org.apache.ibatis.reflection.Reflector;
+
+/**
+ * Creates invokers that call getters and setters through classes spun by {@link LambdaMetafactory} and access fields
+ * through {@link MethodHandle}s, so that property access neither goes through {@link Method#invoke(Object, Object...)}
+ * nor wraps exceptions thrown by the accessor.
+ * <p>
+ * Primitive properties are unboxed inside the generated accessor. Values of another wrapper type are unboxed and widened
+ * through a {@link MethodHandle}, and setting {@code null} to a primitive property fails with an
+ * {@link IllegalArgumentException}, as they do with reflection.
+ * <p>
+ * Members that cannot be linked this way (e.g. JDK classes or classes that the MyBatis module cannot access) fall back
+ * to the invokers created by {@link DefaultInvokerFactory}.
+ *
+ * @since 3.5.7
+ */
+public class LambdaInvokerFactory extends DefaultInvokerFactory {
+
+  private static final int ALLOWED_MODES = MethodHandles.Lookup.PRIVATE | MethodHandles.Lookup.PROTECTED
+      | MethodHandles.Lookup.PACKAGE | MethodHandles.Lookup.PUBLIC;
+  private static final Constructor<Lookup> lookupConstructor;
+  private static final Method privateLookupInMethod;
+
+  static {
+    Method privateLookupIn;
+    try {
+      privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+    } catch (NoSuchMethodException e) {
+      privateLookupIn = null;
+    }
+    privateLookupInMethod = privateLookupIn;
+
+    Constructor<Lookup> lookup = null;
+    if (privateLookupInMethod == null) {
+      // JDK 1.8
+      try {
+        lookup = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+        lookup.setAccessible(true);
+      } catch (Exception e) {
+        lookup = null;
+      }
+    }
+    lookupConstructor = lookup;
+  }
+
+  @Override
+  public MethodInvoker createGetMethodInvoker(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    Class<?> returnType = method.getReturnType();
+    if (returnType != void.class && isLinkable(declaringClass)) {
+      try {
+        Lookup lookup = privateLookupIn(declaringClass);
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+            MethodType.methodType(Object.class, Object.class), lookup.unreflect(method),
+            MethodType.methodType(MethodType.methodType(returnType).wrap().returnType(), declaringClass));
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> getter = (Function<Object, Object>) site.getTarget().invokeWithArguments();
+        return new LambdaGetterInvoker(method, getter);
+      } catch (Throwable t) {
+        // fall back to reflection
+      }
+    }
+    return super.createGetMethodInvoker(method);
+  }
+
+  @Override
+  public MethodInvoker createSetMethodInvoker(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    Class<?> paramType = method.getParameterTypes()[0];
+    if (isLinkable(declaringClass)) {
+      try {
+        Lookup lookup = privateLookupIn(declaringClass);
+        MethodHandle handle = lookup.unreflect(method);
+        Class<?> boxedType = MethodType.methodType(paramType).wrap().returnType();
+        CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+            MethodType.methodType(void.class, Object.class, Object.class), handle,
+            MethodType.methodType(void.class, declaringClass, boxedType));
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) site.getTarget().invokeWithArguments();
+        return paramType.isPrimitive()
+            ? new LambdaPrimitiveSetterInvoker(method, setter, boxedType,
+                handle.asType(MethodType.methodType(void.class, Object.class, Object.class)))
+            : new LambdaSetterInvoker(method, setter);
+      } catch (Throwable t) {
+        // fall back to reflection
+      }
+    }
+    return super.createSetMethodInvoker(method);
+  }
+
+  @Override
+  public Invoker createGetFieldInvoker(Field field) {
+    if (isLinkable(field.getDeclaringClass())) {
+      try {
+        MethodHandle handle = privateLookupIn(field.getDeclaringClass()).unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+          handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return new HandleGetFieldInvoker(field, handle.asType(MethodType.methodType(Object.class, Object.class)));
+      } catch (Throwable t) {
+        // fall back to reflection
+      }
+    }
+    return super.createGetFieldInvoker(field);
+  }
+
+  @Override
+  public Invoker createSetFieldInvoker(Field field) {
+    if (isLinkable(field.getDeclaringClass())) {
+      try {
+        if (Modifier.isFinal(field.getModifiers()) && Reflector.canControlMemberAccessible()) {
+          // a method handle can write a final instance field only if the field is accessible
+          field.setAccessible(true);
+        }
+        MethodHandle handle = privateLookupIn(field.getDeclaringClass()).unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+          handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return new HandleSetFieldInvoker(field,
+            handle.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+      } catch (Throwable t) {
+        // fall back to reflection
+      }
+    }
+    return super.createSetFieldInvoker(field);
+  }
+
+  private static boolean isLinkable(Class<?> declaringClass) {
+    // classes of the bootstrap class loader are left to reflection
+    return declaringClass.getClassLoader() != null && (privateLookupInMethod != null || lookupConstructor != null);
+  }
+
+  private static Lookup privateLookupIn(Class<?> declaringClass) throws Exception {
+    if (privateLookupInMethod == null) {
+      return lookupConstructor.newInstance(declaringClass, ALLOWED_MODES);
+    } else {
+      return (Lookup) privateLookupInMethod.invoke(null, declaringClass, MethodHandles.lookup());
+    }
+  }
+
+  private static IllegalArgumentException nullToPrimitive(Class<?> type, String name) {
+    return new IllegalArgumentException("Cannot set null to primitive " + type.getName() + " '" + name + "'");
+  }
+
+  private static class LambdaGetterInvoker extends MethodInvoker {
+    private final Function<Object, Object> getter;
+
+    LambdaGetterInvoker(Method method, Function<Object, Object> getter) {
+      super(method);
+      this.getter = getter;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) {
+      return getter.apply(target);
+    }
+  }
+
+  private static class LambdaSetterInvoker extends MethodInvoker {
+    private final BiConsumer<Object, Object> setter;
+
+    LambdaSetterInvoker(Method method, BiConsumer<Object, Object> setter) {
+      super(method);
+      this.setter = setter;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) {
+      setter.accept(target, args[0]);
+      return null;
+    }
+  }
+
+  @UsesJava8
+  private static class LambdaPrimitiveSetterInvoker extends MethodInvoker {
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> boxedType;
+    private final MethodHandle convertingSetter;
+    private final String name;
+
+    LambdaPrimitiveSetterInvoker(Method method, BiConsumer<Object, Object> setter, Class<?> boxedType,
+        MethodHandle convertingSetter) {
+      super(method);
+      this.setter = setter;
+      this.boxedType = boxedType;
+      this.convertingSetter = convertingSetter;
+      this.name = method.getName();
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws InvocationTargetException {
+      Object value = args[0];
+      if (value == null) {
+        throw nullToPrimitive(getType(), name);
+      }
+      if (value.getClass() == boxedType) {
+        setter.accept(target, value);
+        return null;
+      }
+      // other values are unboxed and widened as reflection does, e.g. an Integer passed to a long setter
+      try {
+        convertingSetter.invokeExact(target, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        // a checked exception declared by the setter
+        throw new InvocationTargetException(t);
+      }
+      return null;
+    }
+  }
+
+  @UsesJava8
+  private static class HandleGetFieldInvoker extends GetFieldInvoker {
+    private final MethodHandle getter;
+
+    HandleGetFieldInvoker(Field field, MethodHandle getter) {
+      super(field);
+      this.getter = getter;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws IllegalAccessException {
+      try {
+        return getter.invokeExact(target);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        // field access does not throw checked exceptions
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  @UsesJava8
+  private static class HandleSetFieldInvoker extends SetFieldInvoker {
+    private final MethodHandle setter;
+    private final String name;
+
+    HandleSetFieldInvoker(Field field, MethodHandle setter) {
+      super(field);
+      this.setter = setter;
+      this.name = field.getName();
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws IllegalAccessException {
+      Object value = args[0];
+      if (value == null && getType().isPrimitive()) {
+        throw nullToPrimitive(getType(), name);
+      }
+      try {
+        setter.invokeExact(target, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        // field access does not throw checked exceptions
+        throw new IllegalStateException(t);
+      }
+      return null;
+    }
+  }
+
+}
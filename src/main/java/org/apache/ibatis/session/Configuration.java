@@ -15,10 +15,13 @@
  */
 package org.apache.ibatis.session;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -26,11 +29,16 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 import org.apache.ibatis.binding.MapperRegistry;
+import org.apache.ibatis.builder.BuilderException;
 import org.apache.ibatis.builder.CacheRefResolver;
 import org.apache.ibatis.builder.IncompleteElementException;
 import org.apache.ibatis.builder.ResultMapResolver;
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.builder.annotation.MethodResolver;
 import org.apache.ibatis.builder.xml.XMLStatementBuilder;
 import org.apache.ibatis.cache.Cache;
@@ -48,10 +56,12 @@ import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.ReuseExecutor;
 import org.apache.ibatis.executor.SimpleExecutor;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
+import org.apache.ibatis.executor.keygen.SelectKeyGenerator;
 import org.apache.ibatis.executor.loader.ProxyFactory;
 import org.apache.ibatis.executor.loader.cglib.CglibProxyFactory;
 import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.resultset.AutoMappingPlanCache;
 import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
 import org.apache.ibatis.executor.resultset.ResultSetHandler;
 import org.apache.ibatis.executor.statement.RoutingStatementHandler;
@@ -114,6 +124,18 @@ public class Configuration {
   protected boolean useActualParamName = true;
   protected boolean returnInstanceForEmptyRow;
   protected boolean shrinkWhitespacesInSql;
+  protected boolean parallelMapperParsing;
+  protected String mapperSnapshotFile;
+  protected boolean lazyStatementBuilding;
+  protected boolean streamingMapperParsing;
+  protected boolean reflectorWarmUp;
+  protected StartupProfiler startupProfiler;
+  protected boolean compactConfiguration;
+  protected boolean primitiveScalarResults;
+  protected boolean compactMapResults;
+  protected AutoMappingPlanCache autoMappingPlanCache;
+  protected boolean parallelRowMapping;
+  protected int cursorReadAheadSize;
 
   protected String logPrefix;
   protected Class<? extends Log> logImpl;
@@ -159,6 +181,21 @@ public class Configuration {
   protected final Map<String, ResultMap> resultMaps = new StrictMap<>("Result Maps collection");
   protected final Map<String, ParameterMap> parameterMaps = new StrictMap<>("Parameter Maps collection");
   protected final Map<String, KeyGenerator> keyGenerators = new StrictMap<>("Key Generators collection");
+  private final Map<String, LazyMappedStatement> lazyMappedStatements = new StrictMap<>("Mapped Statements collection");
+  private final Object lazyStatementLock = new Object();
+  private LazyStatementBuild lazyStatementBuild;
+  /**
+   * The statements by full and unambiguous short id, set on lookup once no element is left incomplete and cleared when
+   * a statement or an incomplete element is added.
+   */
+  private volatile Map<String, Object> statementIndex;
+  private volatile int statementChanges;
+  /**
+   * Write locked while a mapper resource is replaced or incomplete elements are resolved, and read locked by the
+   * lookups of the element maps, so lookups never see the maps half changed.
+   */
+  private final ReentrantReadWriteLock elementsLock = new ReentrantReadWriteLock();
+  private volatile boolean replacingMapperResource;
 
   protected final Set<String> loadedResources = new HashSet<>();
   protected final Map<String, XNode> sqlFragments = new StrictMap<>("XML fragments parsed from previous mappers");
@@ -297,6 +334,356 @@ public class Configuration {
     this.shrinkWhitespacesInSql = shrinkWhitespacesInSql;
   }
 
+  /**
+   * Returns whether the mapper XML files listed in the configuration XML are read and parsed concurrently.
+   *
+   * @return {@code true} if mapper XML files are parsed concurrently
+   * @since 3.5.7
+   */
+  public boolean isParallelMapperParsing() {
+    return parallelMapperParsing;
+  }
+
+  /**
+   * Sets whether the mapper XML files listed in the configuration XML are read and parsed concurrently. The parsed
+   * documents are still applied to this configuration sequentially, in declaration order, and only a few documents per
+   * thread are parsed ahead of the one being applied. The files are parsed sequentially on a single processor.
+   *
+   * @param parallelMapperParsing
+   *          {@code true} to parse mapper XML files concurrently
+   * @since 3.5.7
+   */
+  public void setParallelMapperParsing(boolean parallelMapperParsing) {
+    this.parallelMapperParsing = parallelMapperParsing;
+  }
+
+  /**
+   * Returns the file that keeps the parsed mapper XML files between restarts.
+   *
+   * @return the path of the snapshot file, or {@code null} if mapper XML files are always parsed
+   * @since 3.5.7
+   */
+  public String getMapperSnapshotFile() {
+    return mapperSnapshotFile;
+  }
+
+  /**
+   * Sets the file that keeps the parsed mapper XML files between restarts. A mapper XML file listed in the
+   * configuration XML whose size and modification time, or else content, are unchanged is then rebuilt from this file
+   * instead of being parsed and validated again. The file is created or updated when mapper XML files are added, changed or removed.
+   *
+   * @param mapperSnapshotFile
+   *          the path of the snapshot file, or {@code null} to always parse mapper XML files
+   * @since 3.5.7
+   */
+  public void setMapperSnapshotFile(String mapperSnapshotFile) {
+    this.mapperSnapshotFile = mapperSnapshotFile;
+  }
+
+  /**
+   * Returns whether mapped statements are built the first time they are looked up rather than when their mapper is
+   * loaded.
+   *
+   * @return {@code true} if mapped statements are built on first use
+   * @since 3.5.7
+   */
+  public boolean isLazyStatementBuilding() {
+    return lazyStatementBuilding;
+  }
+
+  /**
+   * Sets whether mapped statements are built the first time they are looked up rather than when their mapper is
+   * loaded. Loading a mapper then only registers the ids of its statements, and errors in a statement are reported
+   * when it is first used.
+   *
+   * @param lazyStatementBuilding
+   *          {@code true} to build mapped statements on first use
+   * @since 3.5.7
+   */
+  public void setLazyStatementBuilding(boolean lazyStatementBuilding) {
+    this.lazyStatementBuilding = lazyStatementBuilding;
+  }
+
+  /**
+   * Returns whether mapper XML files are read with a streaming (StAX) reader instead of a validating DOM parser.
+   *
+   * @return {@code true} if mapper XML files are read with a streaming reader
+   * @since 3.5.7
+   */
+  public boolean isStreamingMapperParsing() {
+    return streamingMapperParsing;
+  }
+
+  /**
+   * Sets whether mapper XML files are read with a streaming (StAX) reader instead of a validating DOM parser. The
+   * streaming reader does not validate the files against the mapper DTD.
+   *
+   * @param streamingMapperParsing
+   *          {@code true} to read mapper XML files with a streaming reader
+   * @since 3.5.7
+   */
+  public void setStreamingMapperParsing(boolean streamingMapperParsing) {
+    this.streamingMapperParsing = streamingMapperParsing;
+  }
+
+  /**
+   * Returns whether the reflectors of the result and parameter types are built when a {@link SqlSessionFactory} is
+   * built from this configuration.
+   *
+   * @return {@code true} if reflectors are built in advance
+   * @since 3.5.7
+   */
+  public boolean isReflectorWarmUp() {
+    return reflectorWarmUp;
+  }
+
+  /**
+   * Sets whether the reflectors of the result and parameter types, and of the nested properties they map, are built
+   * concurrently by {@link SqlSessionFactoryBuilder#build(Configuration)}, instead of by the first statements that use
+   * them. The statements built on first use, see {@link #setLazyStatementBuilding(boolean)}, are not looked at.
+   *
+   * @param reflectorWarmUp
+   *          {@code true} to build reflectors in advance
+   * @since 3.5.7
+   */
+  public void setReflectorWarmUp(boolean reflectorWarmUp) {
+    this.reflectorWarmUp = reflectorWarmUp;
+  }
+
+  /**
+   * Returns whether the phases of building this configuration are profiled.
+   *
+   * @return {@code true} if this configuration has a startup profiler
+   * @since 3.5.7
+   */
+  public boolean isStartupProfiling() {
+    return startupProfiler != null;
+  }
+
+  /**
+   * Sets whether the time spent and the memory allocated by each phase of building this configuration, and a
+   * {@link SqlSessionFactory} from it, are recorded. The report is logged at debug level when the factory is built.
+   *
+   * @param startupProfiling
+   *          {@code true} to profile the phases of building this configuration
+   * @since 3.5.7
+   * @see #getStartupProfiler()
+   */
+  public void setStartupProfiling(boolean startupProfiling) {
+    if (!startupProfiling) {
+      startupProfiler = null;
+    } else if (startupProfiler == null) {
+      startupProfiler = new StartupProfiler();
+    }
+  }
+
+  /**
+   * Returns the profiler of the phases of building this configuration.
+   *
+   * @return the startup profiler, or {@code null} if the phases are not profiled
+   * @since 3.5.7
+   */
+  public StartupProfiler getStartupProfiler() {
+    return startupProfiler;
+  }
+
+  /**
+   * Sets the profiler of the phases of building this configuration.
+   *
+   * @param startupProfiler
+   *          the startup profiler, or {@code null} not to profile the phases
+   * @since 3.5.7
+   */
+  public void setStartupProfiler(StartupProfiler startupProfiler) {
+    this.startupProfiler = startupProfiler;
+  }
+
+  /**
+   * Returns whether this configuration is compacted when a {@link SqlSessionFactory} is built from it.
+   *
+   * @return {@code true} if this configuration is compacted
+   * @since 3.5.7
+   * @see #compact()
+   */
+  public boolean isCompactConfiguration() {
+    return compactConfiguration;
+  }
+
+  /**
+   * Sets whether {@link SqlSessionFactoryBuilder#build(Configuration)} compacts this configuration, see
+   * {@link #compact()}. Mappers added afterwards, or loaded again, can then no longer include the SQL fragments of
+   * the other mappers.
+   *
+   * @param compactConfiguration
+   *          {@code true} to compact this configuration
+   * @since 3.5.7
+   */
+  public void setCompactConfiguration(boolean compactConfiguration) {
+    this.compactConfiguration = compactConfiguration;
+  }
+
+  /**
+   * Returns whether the results of a single int or long column are held in lists backed by primitive arrays.
+   *
+   * @return {@code true} if such results are not boxed
+   * @since 3.5.7
+   */
+  public boolean isPrimitiveScalarResults() {
+    return primitiveScalarResults;
+  }
+
+  /**
+   * Sets whether the statements returning a single int or long column read by the built-in type handlers put their
+   * results in an {@link org.apache.ibatis.executor.result.IntArrayList} or
+   * {@link org.apache.ibatis.executor.result.LongArrayList}, instead of a list of boxed values created by the
+   * {@link ObjectFactory}. The mapper methods returning {@code int[]} or {@code long[]} then read them without boxing.
+   *
+   * @param primitiveScalarResults
+   *          {@code true} not to box such results
+   * @since 3.5.7
+   */
+  public void setPrimitiveScalarResults(boolean primitiveScalarResults) {
+    this.primitiveScalarResults = primitiveScalarResults;
+  }
+
+  /**
+   * Returns whether the rows mapped to a {@code Map} share the column names of their result set.
+   *
+   * @return {@code true} if such rows are compact
+   * @since 3.5.7
+   */
+  public boolean isCompactMapResults() {
+    return compactMapResults;
+  }
+
+  /**
+   * Sets whether the rows mapped to a {@code java.util.Map}, e.g. by {@code resultType="map"}, are held in maps that
+   * share the column names of their result set and keep the values in an array, instead of in a {@code HashMap} created
+   * by the {@link ObjectFactory}. This applies only with the default {@link ObjectFactory}. The rows remain modifiable,
+   * and are serialized as a {@code HashMap}.
+   *
+   * @param compactMapResults
+   *          {@code true} to hold such rows in compact maps
+   * @since 3.5.7
+   */
+  public void setCompactMapResults(boolean compactMapResults) {
+    this.compactMapResults = compactMapResults;
+  }
+
+  /**
+   * Returns the number of result set column layouts whose auto-mapping plans are kept across queries.
+   *
+   * @return the number of column layouts, {@code 0} if the plans are built for each query
+   * @since 3.5.7
+   */
+  public int getAutoMappingPlanCacheSize() {
+    return autoMappingPlanCache == null ? 0 : autoMappingPlanCache.getMaxSize();
+  }
+
+  /**
+   * Sets the number of result set column layouts whose auto-mapping plans are kept across queries, see
+   * {@link AutoMappingPlanCache}. The queries returning the same columns as a recent one then skip matching the columns
+   * to properties and resolving their type handlers.
+   *
+   * @param autoMappingPlanCacheSize
+   *          the number of column layouts, {@code 0} to build the plans for each query
+   * @since 3.5.7
+   */
+  public void setAutoMappingPlanCacheSize(int autoMappingPlanCacheSize) {
+    this.autoMappingPlanCache = autoMappingPlanCacheSize > 0 ? new AutoMappingPlanCache(autoMappingPlanCacheSize) : null;
+  }
+
+  /**
+   * Returns the cache of auto-mapping plans.
+   *
+   * @return the cache, or {@code null} if the plans are built for each query
+   * @since 3.5.7
+   */
+  public AutoMappingPlanCache getAutoMappingPlanCache() {
+    return autoMappingPlanCache;
+  }
+
+  /**
+   * Returns whether the rows of large result sets are mapped to objects on the common fork-join pool.
+   *
+   * @return {@code true} if the rows are mapped in parallel
+   * @since 3.5.7
+   */
+  public boolean isParallelRowMapping() {
+    return parallelRowMapping;
+  }
+
+  /**
+   * Sets whether the rows of large result sets returned as a list are mapped to objects on the common fork-join pool.
+   * The column values are still read by the type handlers on the calling thread, in batches of rows, while the result
+   * objects are created and their properties set by the pool, and the list keeps the order of the rows. This applies
+   * only to result maps without nested result maps, nested queries, discriminators or constructor mappings, whose
+   * result type is created by the {@link ObjectFactory}, which then has to be thread safe.
+   *
+   * @param parallelRowMapping
+   *          {@code true} to map the rows in parallel
+   * @since 3.5.7
+   */
+  public void setParallelRowMapping(boolean parallelRowMapping) {
+    this.parallelRowMapping = parallelRowMapping;
+  }
+
+  /**
+   * Returns the number of results a cursor fetches ahead of its consumer.
+   *
+   * @return the read-ahead size, {@code 0} if the cursors fetch each result when it is asked for
+   * @since 3.5.7
+   */
+  public int getCursorReadAheadSize() {
+    return cursorReadAheadSize;
+  }
+
+  /**
+   * Sets the number of results a cursor fetches ahead of its consumer. When positive, the rows of a cursor are fetched
+   * and mapped by a background thread into a queue of that size while the previous results are consumed, and the
+   * thread stops when the cursor is closed. The JDBC connection is then used by two threads, so the session should not
+   * run other statements while a cursor is open. Cursors whose result set has LOB columns, whose values may be streamed
+   * and valid only while the result set is on their row, or whose result map has nested queries fetch each result when
+   * it is asked for.
+   *
+   * @param cursorReadAheadSize
+   *          the read-ahead size, {@code 0} to fetch each result when it is asked for
+   * @since 3.5.7
+   */
+  public void setCursorReadAheadSize(int cursorReadAheadSize) {
+    this.cursorReadAheadSize = cursorReadAheadSize;
+  }
+
+  /**
+   * Releases the parsed XML that is only needed to add statements. The incomplete elements are resolved first, and
+   * the SQL fragments, which hold the documents they were parsed from, are dropped unless statements left incomplete
+   * or built on first use may still include them.
+   *
+   * @since 3.5.7
+   */
+  public void compact() {
+    try {
+      buildAllStatements();
+    } catch (IncompleteElementException e) {
+      // reported when the statements are looked up
+      return;
+    }
+    if (!incompleteStatements.isEmpty() || !incompleteMethods.isEmpty() || countUnbuiltLazyStatements() > 0) {
+      return;
+    }
+    sqlFragments.clear();
+  }
+
+  /**
+   * Returns the number of elements of each kind this configuration holds, along with the parsed XML it retains.
+   *
+   * @return the footprint of this configuration
+   * @since 3.5.7
+   */
+  public ConfigurationFootprint getFootprint() {
+    return new ConfigurationFootprint(this);
+  }
+
   public String getDatabaseId() {
     return databaseId;
   }
@@ -345,6 +732,16 @@ public class Configuration {
     return loadedResources.contains(resource);
   }
 
+  /**
+   * Returns the resources loaded so far, mapper XML files as well as mapper interfaces.
+   *
+   * @return an unmodifiable view of the loaded resources
+   * @since 3.5.7
+   */
+  public Set<String> getLoadedResources() {
+    return Collections.unmodifiableSet(loadedResources);
+  }
+
   public Environment getEnvironment() {
     return environment;
   }
@@ -683,6 +1080,11 @@ public class Configuration {
   }
 
   public void addKeyGenerator(String id, KeyGenerator keyGenerator) {
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null) {
+      build.keyGenerators.put(id, keyGenerator);
+      return;
+    }
     keyGenerators.put(id, keyGenerator);
   }
 
@@ -695,11 +1097,19 @@ public class Configuration {
   }
 
   public KeyGenerator getKeyGenerator(String id) {
-    return keyGenerators.get(id);
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null && build.keyGenerators.containsKey(id)) {
+      return build.keyGenerators.get(id);
+    }
+    return readElements(() -> keyGenerators.get(id));
   }
 
   public boolean hasKeyGenerator(String id) {
-    return keyGenerators.containsKey(id);
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null && build.keyGenerators.containsKey(id)) {
+      return true;
+    }
+    return readElements(() -> keyGenerators.containsKey(id));
   }
 
   public void addCache(Cache cache) {
@@ -737,11 +1147,11 @@ public class Configuration {
   }
 
   public ResultMap getResultMap(String id) {
-    return resultMaps.get(id);
+    return readElements(() -> resultMaps.get(id));
   }
 
   public boolean hasResultMap(String id) {
-    return resultMaps.containsKey(id);
+    return readElements(() -> resultMaps.containsKey(id));
   }
 
   public void addParameterMap(ParameterMap pm) {
@@ -757,25 +1167,194 @@ public class Configuration {
   }
 
   public ParameterMap getParameterMap(String id) {
-    return parameterMaps.get(id);
+    return readElements(() -> parameterMaps.get(id));
   }
 
   public boolean hasParameterMap(String id) {
-    return parameterMaps.containsKey(id);
+    return readElements(() -> parameterMaps.containsKey(id));
   }
 
   public void addMappedStatement(MappedStatement ms) {
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null) {
+      build.statements.put(ms.getId(), ms);
+      return;
+    }
+    checkNotLazyMappedStatement(ms.getId());
     mappedStatements.put(ms.getId(), ms);
+    checkShortNameOfBothStatementMaps(ms.getId());
+    statementsChanged();
+  }
+
+  /**
+   * Adds a statement that is built the first time it is looked up. The builder is then run once, and the statements
+   * and key generators it adds to this configuration are kept apart, so that looking up other statements meanwhile is
+   * safe.
+   *
+   * @param resource
+   *          the mapper resource the statement is loaded from
+   * @param id
+   *          the fully qualified statement id
+   * @param hasSelectKey
+   *          whether the builder also adds the select key statement of this statement
+   * @param builder
+   *          adds the statement to this configuration
+   * @since 3.5.7
+   * @see #setLazyStatementBuilding(boolean)
+   */
+  public void addLazyMappedStatement(String resource, String id, boolean hasSelectKey, Runnable builder) {
+    LazyMappedStatement statement = new LazyMappedStatement(resource, id, hasSelectKey, builder);
+    for (String statementId : statement.ids) {
+      if (mappedStatements.containsKey(statementId)) {
+        throw new IllegalArgumentException("Mapped Statements collection already contains value for " + statementId);
+      }
+      lazyMappedStatements.put(statementId, statement);
+      checkShortNameOfBothStatementMaps(statementId);
+    }
+    statementsChanged();
+  }
+
+  /**
+   * Replaces the statements, result maps, parameter maps and SQL fragments loaded from a mapper resource with the ones
+   * added by the loader. Statements looked up by id resolve to the previous ones until the loader has completed and
+   * the new elements are resolved, and the previous elements are restored if either fails. Other lookups wait until
+   * the elements are replaced or restored. The cache of the namespace is left in place.
+   *
+   * @param resource
+   *          the mapper resource the elements were loaded from
+   * @param namespace
+   *          the namespace of the mapper
+   * @param loader
+   *          loads the mapper resource again into this configuration
+   * @since 3.5.7
+   * @see org.apache.ibatis.builder.xml.XMLMapperReloader
+   */
+  public void replaceMapperResource(String resource, String namespace, Runnable loader) {
+    elementsLock.writeLock().lock();
+    try {
+      // publishes the index of the current statements, it is kept until the new ones are in place
+      buildAllStatements();
+      indexStatements();
+      MapperResourceElements previous = removeMapperResource(resource, namespace);
+      replacingMapperResource = true;
+      try {
+        loader.run();
+        buildAllStatements();
+      } catch (RuntimeException e) {
+        removeMapperResource(resource, namespace);
+        previous.restore();
+        throw e;
+      } finally {
+        replacingMapperResource = false;
+        statementsChanged();
+        indexStatements();
+        // the plans are keyed by result map id, which may now map other columns
+        if (autoMappingPlanCache != null) {
+          autoMappingPlanCache.clear();
+        }
+      }
+    } finally {
+      elementsLock.writeLock().unlock();
+    }
+  }
+
+  private MapperResourceElements removeMapperResource(String resource, String namespace) {
+    MapperResourceElements removed = new MapperResourceElements(resource);
+    removeEntries(mappedStatements, removed.statements, (id, ms) -> resource.equals(ms.getResource()));
+    removeEntries(lazyMappedStatements, removed.lazyStatements, (id, statement) -> resource.equals(statement.resource));
+    // the short names may have been ambiguous between the two statement maps only
+    removed.statements.keySet().forEach(this::resolveShortNameOfBothStatementMaps);
+    removed.lazyStatements.keySet().forEach(this::resolveShortNameOfBothStatementMaps);
+    removeEntries(keyGenerators, removed.keyGenerators,
+        (id, keyGenerator) -> removed.statements.containsKey(id) || removed.lazyStatements.containsKey(id));
+    removeEntries(resultMaps, removed.resultMaps, (id, rm) -> resource.equals(rm.getResource()));
+    removeEntries(parameterMaps, removed.parameterMaps, (id, pm) -> resource.equals(pm.getResource()));
+    // fragments are only defined in mapper XML files, those of the namespace are taken as those of the resource
+    removeEntries(sqlFragments, removed.sqlFragments,
+        (id, fragment) -> id.startsWith(namespace + ".") && id.indexOf('.', namespace.length() + 1) < 0);
+    removed.loaded = loadedResources.remove(resource);
+    return removed;
+  }
+
+  /**
+   * Moves the entries of the full ids that match to the removed map, along with their short names.
+   */
+  private static <V> void removeEntries(Map<String, V> map, Map<String, V> removed, BiPredicate<String, V> matcher) {
+    for (Map.Entry<String, V> entry : map.entrySet()) {
+      String id = entry.getKey();
+      if (id.indexOf('.') >= 0 && matcher.test(id, entry.getValue())) {
+        removed.put(id, entry.getValue());
+      }
+    }
+    StrictMap<V> strictMap = (StrictMap<V>) map;
+    removed.keySet().forEach(strictMap::removeWithShortName);
+  }
+
+  /**
+   * Marks the short name of the statement id as ambiguous in both statement maps when both hold a statement of that
+   * name, as each map only tells the ambiguities between its own statements.
+   */
+  private void checkShortNameOfBothStatementMaps(String id) {
+    int lastDot = id.lastIndexOf('.');
+    if (lastDot < 0) {
+      return;
+    }
+    String shortName = id.substring(lastDot + 1);
+    if (mappedStatements.containsKey(shortName) && lazyMappedStatements.containsKey(shortName)) {
+      ((StrictMap<MappedStatement>) mappedStatements).markAmbiguous(shortName);
+      ((StrictMap<LazyMappedStatement>) lazyMappedStatements).markAmbiguous(shortName);
+    }
+  }
+
+  private void resolveShortNameOfBothStatementMaps(String id) {
+    int lastDot = id.lastIndexOf('.');
+    if (lastDot < 0) {
+      return;
+    }
+    String shortName = id.substring(lastDot + 1);
+    ((StrictMap<MappedStatement>) mappedStatements).resolveAmbiguity(shortName);
+    ((StrictMap<LazyMappedStatement>) lazyMappedStatements).resolveAmbiguity(shortName);
+    checkShortNameOfBothStatementMaps(id);
+  }
+
+  private void checkNotLazyMappedStatement(String id) {
+    if (lazyMappedStatements.containsKey(id)) {
+      throw new IllegalArgumentException("Mapped Statements collection already contains value for " + id);
+    }
   }
 
   public Collection<String> getMappedStatementNames() {
     buildAllStatements();
-    return mappedStatements.keySet();
+    if (lazyMappedStatements.isEmpty()) {
+      return mappedStatements.keySet();
+    }
+    return readElements(() -> {
+      Set<String> names = new HashSet<>(mappedStatements.keySet());
+      names.addAll(lazyMappedStatements.keySet());
+      return names;
+    });
   }
 
   public Collection<MappedStatement> getMappedStatements() {
     buildAllStatements();
-    return mappedStatements.values();
+    if (lazyMappedStatements.isEmpty()) {
+      return mappedStatements.values();
+    }
+    // the statements are built while holding the lock, a lazy build must not see the maps change
+    elementsLock.readLock().lock();
+    try {
+      List<MappedStatement> statements = new ArrayList<>(mappedStatements.values());
+      for (Map.Entry<String, LazyMappedStatement> entry : lazyMappedStatements.entrySet()) {
+        Object value = entry.getValue();
+        // skips the ambiguous short names
+        if (value instanceof LazyMappedStatement) {
+          statements.add(((LazyMappedStatement) value).get(entry.getKey()));
+        }
+      }
+      return statements;
+    } finally {
+      elementsLock.readLock().unlock();
+    }
   }
 
   public Collection<XMLStatementBuilder> getIncompleteStatements() {
@@ -784,6 +1363,7 @@ public class Configuration {
 
   public void addIncompleteStatement(XMLStatementBuilder incompleteStatement) {
     incompleteStatements.add(incompleteStatement);
+    statementsChanged();
   }
 
   public Collection<CacheRefResolver> getIncompleteCacheRefs() {
@@ -792,6 +1372,7 @@ public class Configuration {
 
   public void addIncompleteCacheRef(CacheRefResolver incompleteCacheRef) {
     incompleteCacheRefs.add(incompleteCacheRef);
+    statementsChanged();
   }
 
   public Collection<ResultMapResolver> getIncompleteResultMaps() {
@@ -800,10 +1381,12 @@ public class Configuration {
 
   public void addIncompleteResultMap(ResultMapResolver resultMapResolver) {
     incompleteResultMaps.add(resultMapResolver);
+    statementsChanged();
   }
 
   public void addIncompleteMethod(MethodResolver builder) {
     incompleteMethods.add(builder);
+    statementsChanged();
   }
 
   public Collection<MethodResolver> getIncompleteMethods() {
@@ -816,9 +1399,27 @@ public class Configuration {
 
   public MappedStatement getMappedStatement(String id, boolean validateIncompleteStatements) {
     if (validateIncompleteStatements) {
+      MappedStatement ms = getIndexedStatement(id);
+      if (ms != null) {
+        return ms;
+      }
       buildAllStatements();
+      indexStatements();
+    }
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null && build.statement.ids.contains(id)) {
+      MappedStatement ms = build.statements.get(id);
+      if (ms != null) {
+        return ms;
+      }
+    } else if (!lazyMappedStatements.isEmpty()) {
+      LazyMappedStatement lazyStatement = readElements(() -> !mappedStatements.containsKey(id)
+          && lazyMappedStatements.containsKey(id) ? lazyMappedStatements.get(id) : null);
+      if (lazyStatement != null) {
+        return lazyStatement.get(id);
+      }
     }
-    return mappedStatements.get(id);
+    return readElements(() -> mappedStatements.get(id));
   }
 
   public Map<String, XNode> getSqlFragments() {
@@ -855,9 +1456,19 @@ public class Configuration {
 
   public boolean hasStatement(String statementName, boolean validateIncompleteStatements) {
     if (validateIncompleteStatements) {
+      Map<String, Object> index = statementIndex;
+      if (index != null && index.containsKey(statementName)) {
+        return true;
+      }
       buildAllStatements();
+      indexStatements();
+    }
+    LazyStatementBuild build = currentLazyStatementBuild();
+    if (build != null && build.statement.ids.contains(statementName)) {
+      return build.statements.containsKey(statementName);
     }
-    return mappedStatements.containsKey(statementName);
+    return readElements(
+        () -> mappedStatements.containsKey(statementName) || lazyMappedStatements.containsKey(statementName));
   }
 
   public void addCacheRef(String namespace, String referencedNamespace) {
@@ -870,27 +1481,41 @@ public class Configuration {
    * statement validation.
    */
   protected void buildAllStatements() {
-    parsePendingResultMaps();
-    if (!incompleteCacheRefs.isEmpty()) {
-      synchronized (incompleteCacheRefs) {
-        incompleteCacheRefs.removeIf(x -> x.resolveCacheRef() != null);
-      }
+    if (incompleteResultMaps.isEmpty() && incompleteCacheRefs.isEmpty() && incompleteStatements.isEmpty()
+        && incompleteMethods.isEmpty()) {
+      return;
     }
-    if (!incompleteStatements.isEmpty()) {
-      synchronized (incompleteStatements) {
-        incompleteStatements.removeIf(x -> {
-          x.parseStatementNode();
-          return true;
-        });
-      }
+    if (elementsLock.getReadHoldCount() > 0 && !elementsLock.isWriteLockedByCurrentThread()) {
+      // the read lock cannot be upgraded, the elements are to be resolved before it is taken
+      throw new IllegalStateException(
+          "Incomplete elements cannot be resolved while the mapped statements are read or built lazily");
     }
-    if (!incompleteMethods.isEmpty()) {
-      synchronized (incompleteMethods) {
-        incompleteMethods.removeIf(x -> {
-          x.resolve();
-          return true;
-        });
+    elementsLock.writeLock().lock();
+    try (StartupProfiler.Phase phase = StartupProfiler.phase(this, "incomplete elements", null)) {
+      parsePendingResultMaps();
+      if (!incompleteCacheRefs.isEmpty()) {
+        synchronized (incompleteCacheRefs) {
+          incompleteCacheRefs.removeIf(x -> x.resolveCacheRef() != null);
+        }
+      }
+      if (!incompleteStatements.isEmpty()) {
+        synchronized (incompleteStatements) {
+          incompleteStatements.removeIf(x -> {
+            x.parseStatementNode();
+            return true;
+          });
+        }
+      }
+      if (!incompleteMethods.isEmpty()) {
+        synchronized (incompleteMethods) {
+          incompleteMethods.removeIf(x -> {
+            x.resolve();
+            return true;
+          });
+        }
       }
+    } finally {
+      elementsLock.writeLock().unlock();
     }
   }
 
@@ -967,6 +1592,219 @@ public class Configuration {
     }
   }
 
+  private MappedStatement getIndexedStatement(String id) {
+    Map<String, Object> index = statementIndex;
+    Object statement = index == null ? null : index.get(id);
+    if (statement instanceof MappedStatement) {
+      return (MappedStatement) statement;
+    }
+    return statement == null ? null : ((LazyMappedStatement) statement).getIfBuilt(id);
+  }
+
+  private void indexStatements() {
+    if (statementIndex != null || !incompleteResultMaps.isEmpty() || !incompleteCacheRefs.isEmpty()
+        || !incompleteStatements.isEmpty() || !incompleteMethods.isEmpty()) {
+      return;
+    }
+    elementsLock.readLock().lock();
+    try {
+      int changes = statementChanges;
+      Map<String, Object> index = new HashMap<>();
+      for (Map.Entry<String, LazyMappedStatement> entry : lazyMappedStatements.entrySet()) {
+        Object value = entry.getValue();
+        if (value instanceof LazyMappedStatement) {
+          index.put(entry.getKey(), value);
+        }
+      }
+      for (Map.Entry<String, MappedStatement> entry : mappedStatements.entrySet()) {
+        Object value = entry.getValue();
+        if (value instanceof MappedStatement) {
+          index.put(entry.getKey(), value);
+        } else {
+          // an ambiguous short name
+          index.remove(entry.getKey());
+        }
+      }
+      if (changes == statementChanges) {
+        statementIndex = index;
+      }
+    } finally {
+      elementsLock.readLock().unlock();
+    }
+  }
+
+  private <T> T readElements(Supplier<T> reader) {
+    elementsLock.readLock().lock();
+    try {
+      return reader.get();
+    } finally {
+      elementsLock.readLock().unlock();
+    }
+  }
+
+  private void statementsChanged() {
+    if (!replacingMapperResource) {
+      statementIndex = null;
+    }
+    statementChanges++;
+  }
+
+  private LazyStatementBuild currentLazyStatementBuild() {
+    LazyStatementBuild build = lazyStatementBuild;
+    return build != null && build.thread == Thread.currentThread() ? build : null;
+  }
+
+  int countUnbuiltLazyStatements() {
+    // the statements are registered under their short name as well
+    Set<Object> unbuilt = Collections.newSetFromMap(new IdentityHashMap<>());
+    elementsLock.readLock().lock();
+    try {
+      synchronized (lazyStatementLock) {
+        for (Object statement : lazyMappedStatements.values()) {
+          if (statement instanceof LazyMappedStatement && ((LazyMappedStatement) statement).builder != null) {
+            unbuilt.add(statement);
+          }
+        }
+      }
+    } finally {
+      elementsLock.readLock().unlock();
+    }
+    return unbuilt.size();
+  }
+
+  private final class LazyMappedStatement {
+    private final String resource;
+    private final List<String> ids;
+    /** Cleared once the statements are built, it holds the parsed XML of the statement. */
+    private Runnable builder;
+    private volatile Map<String, MappedStatement> statements;
+
+    LazyMappedStatement(String resource, String id, boolean hasSelectKey, Runnable builder) {
+      this.resource = resource;
+      this.ids = hasSelectKey ? Arrays.asList(id, id + SelectKeyGenerator.SELECT_KEY_SUFFIX)
+          : Collections.singletonList(id);
+      this.builder = builder;
+    }
+
+    /**
+     * Returns the statement of the id, which may be a short name, building it if needed.
+     */
+    MappedStatement get(String id) {
+      Map<String, MappedStatement> built = statements;
+      if (built == null) {
+        // builders are not thread safe and may share parsed documents, so statements are built one at a time, and
+        // the elements they refer to are kept from changing meanwhile
+        elementsLock.readLock().lock();
+        try {
+          synchronized (lazyStatementLock) {
+            built = statements;
+            if (built == null) {
+              built = build();
+              statements = built;
+            }
+          }
+        } finally {
+          elementsLock.readLock().unlock();
+        }
+      }
+      MappedStatement ms = find(built, id);
+      if (ms == null) {
+        throw new IllegalArgumentException("Mapped Statements collection does not contain value for " + id);
+      }
+      return ms;
+    }
+
+    /**
+     * Returns the statement of the id if it has already been built.
+     */
+    MappedStatement getIfBuilt(String id) {
+      Map<String, MappedStatement> built = statements;
+      return built == null ? null : find(built, id);
+    }
+
+    private MappedStatement find(Map<String, MappedStatement> built, String id) {
+      for (String statementId : ids) {
+        if (statementId.equals(id) || statementId.endsWith("." + id)) {
+          MappedStatement ms = built.get(statementId);
+          if (ms != null) {
+            return ms;
+          }
+        }
+      }
+      return null;
+    }
+
+    private Map<String, MappedStatement> build() {
+      LazyStatementBuild previous = lazyStatementBuild;
+      LazyStatementBuild build = new LazyStatementBuild(this);
+      lazyStatementBuild = build;
+      try {
+        builder.run();
+      } catch (RuntimeException e) {
+        throw new BuilderException("Error building mapped statement '" + ids.get(0) + "'. Cause: " + e, e);
+      } finally {
+        lazyStatementBuild = previous;
+      }
+      builder = null;
+      return build.statements;
+    }
+  }
+
+  /**
+   * The elements of a mapper resource removed while it is loaded again, along with the elements left incomplete then.
+   */
+  private final class MapperResourceElements {
+    private final String resource;
+    private final Map<String, MappedStatement> statements = new HashMap<>();
+    private final Map<String, LazyMappedStatement> lazyStatements = new HashMap<>();
+    private final Map<String, KeyGenerator> keyGenerators = new HashMap<>();
+    private final Map<String, ResultMap> resultMaps = new HashMap<>();
+    private final Map<String, ParameterMap> parameterMaps = new HashMap<>();
+    private final Map<String, XNode> sqlFragments = new HashMap<>();
+    private final List<XMLStatementBuilder> pendingStatements = new ArrayList<>(incompleteStatements);
+    private final List<CacheRefResolver> pendingCacheRefs = new ArrayList<>(incompleteCacheRefs);
+    private final List<ResultMapResolver> pendingResultMaps = new ArrayList<>(incompleteResultMaps);
+    private final List<MethodResolver> pendingMethods = new ArrayList<>(incompleteMethods);
+    private boolean loaded;
+
+    MapperResourceElements(String resource) {
+      this.resource = resource;
+    }
+
+    void restore() {
+      // put one by one, so that the short names are added again
+      statements.forEach(mappedStatements::put);
+      lazyStatements.forEach(lazyMappedStatements::put);
+      statements.keySet().forEach(Configuration.this::checkShortNameOfBothStatementMaps);
+      lazyStatements.keySet().forEach(Configuration.this::checkShortNameOfBothStatementMaps);
+      keyGenerators.forEach(Configuration.this.keyGenerators::put);
+      resultMaps.forEach(Configuration.this.resultMaps::put);
+      parameterMaps.forEach(Configuration.this.parameterMaps::put);
+      sqlFragments.forEach(Configuration.this.sqlFragments::put);
+      incompleteStatements.retainAll(pendingStatements);
+      incompleteCacheRefs.retainAll(pendingCacheRefs);
+      incompleteResultMaps.retainAll(pendingResultMaps);
+      incompleteMethods.retainAll(pendingMethods);
+      if (loaded) {
+        loadedResources.add(resource);
+      }
+    }
+  }
+
+  /**
+   * The statements and key generators added by a lazy statement builder, visible to the building thread only.
+   */
+  private static final class LazyStatementBuild {
+    private final Thread thread = Thread.currentThread();
+    private final LazyMappedStatement statement;
+    private final Map<String, MappedStatement> statements = new HashMap<>();
+    private final Map<String, KeyGenerator> keyGenerators = new HashMap<>();
+
+    LazyStatementBuild(LazyMappedStatement statement) {
+      this.statement = statement;
+    }
+  }
+
   protected static class StrictMap<V> extends HashMap<String, V> {
 
     private static final long serialVersionUID = -4950446264854982944L;
@@ -1049,6 +1887,54 @@ public class Configuration {
       }
     }
 
+    /**
+     * Marks a short name as ambiguous, because a value of that name is also held elsewhere.
+     */
+    @SuppressWarnings("unchecked")
+    void markAmbiguous(String shortKey) {
+      super.put(shortKey, (V) new Ambiguity(shortKey));
+    }
+
+    /**
+     * Removes the value of the key, and of its short name unless other keys have that short name.
+     */
+    V removeWithShortName(String key) {
+      V value = super.remove(key);
+      if (value != null && key.contains(".")) {
+        final String shortKey = getShortName(key);
+        if (super.get(shortKey) == value) {
+          super.remove(shortKey);
+        } else {
+          resolveAmbiguity(shortKey);
+        }
+      }
+      return value;
+    }
+
+    /**
+     * Gives an ambiguous short name the value of the only key left with that short name, or removes it when none is.
+     */
+    @SuppressWarnings("unchecked")
+    void resolveAmbiguity(String shortKey) {
+      if (!(super.get(shortKey) instanceof Ambiguity)) {
+        return;
+      }
+      final String suffix = "." + shortKey;
+      V value = null;
+      int count = 0;
+      for (Map.Entry<String, V> entry : entrySet()) {
+        if (entry.getKey().endsWith(suffix)) {
+          value = entry.getValue();
+          count++;
+        }
+      }
+      if (count == 0) {
+        super.remove(shortKey);
+      } else if (count == 1) {
+        super.put(shortKey, value);
+      }
+    }
+
     private String getShortName(String key) {
       final String[] keyParts = key.split("\\.");
       return keyParts[keyParts.length - 1];
@@ -0,0 +1,214 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMap;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.parsing.XNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * The number of elements of each kind a configuration holds, along with the parsed XML it retains, to find out what
+ * makes a configuration large. The elements registered under both their full and their short name are counted once.
+ *
+ * @since 3.5.7
+ * @see Configuration#getFootprint()
+ */
+public final class ConfigurationFootprint {
+
+  private final int mappedStatements;
+  private final int unbuiltStatements;
+  private final int resultMaps;
+  private final int resultMappings;
+  private final int parameterMaps;
+  private final int caches;
+  private final int sqlFragments;
+  private final int xmlDocuments;
+  private final int xmlNodes;
+  private final int incompleteElements;
+  private final int mappingNames;
+  private final int duplicateMappingNames;
+
+  ConfigurationFootprint(Configuration configuration) {
+    this.mappedStatements = distinct(configuration.mappedStatements, MappedStatement.class).size();
+    this.unbuiltStatements = configuration.countUnbuiltLazyStatements();
+    Set<ResultMap> distinctResultMaps = distinct(configuration.resultMaps, ResultMap.class);
+    this.resultMaps = distinctResultMaps.size();
+    this.parameterMaps = distinct(configuration.parameterMaps, ParameterMap.class).size();
+    this.caches = distinct(configuration.caches, Cache.class).size();
+    this.incompleteElements = configuration.incompleteStatements.size() + configuration.incompleteCacheRefs.size()
+        + configuration.incompleteResultMaps.size() + configuration.incompleteMethods.size();
+
+    int mappings = 0;
+    Set<String> names = new HashSet<>();
+    Map<String, Boolean> nameInstances = new IdentityHashMap<>();
+    for (ResultMap resultMap : distinctResultMaps) {
+      mappings += resultMap.getResultMappings().size();
+      for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+        addName(resultMapping.getColumn(), names, nameInstances);
+        addName(resultMapping.getProperty(), names, nameInstances);
+      }
+    }
+    this.resultMappings = mappings;
+    this.mappingNames = nameInstances.size();
+    this.duplicateMappingNames = nameInstances.size() - names.size();
+
+    Set<XNode> fragments = distinct(configuration.sqlFragments, XNode.class);
+    Set<Document> documents = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (XNode fragment : fragments) {
+      Node node = fragment.getNode();
+      documents.add(node.getNodeType() == Node.DOCUMENT_NODE ? (Document) node : node.getOwnerDocument());
+    }
+    documents.remove(null);
+    int nodes = 0;
+    for (Document document : documents) {
+      nodes += countNodes(document);
+    }
+    this.sqlFragments = fragments.size();
+    this.xmlDocuments = documents.size();
+    this.xmlNodes = nodes;
+  }
+
+  private static <T> Set<T> distinct(Map<String, ?> elements, Class<T> type) {
+    Set<T> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Object element : elements.values()) {
+      // skips the ambiguous short names
+      if (type.isInstance(element)) {
+        distinct.add(type.cast(element));
+      }
+    }
+    return distinct;
+  }
+
+  private static void addName(String name, Set<String> names, Map<String, Boolean> nameInstances) {
+    if (name != null) {
+      names.add(name);
+      nameInstances.put(name, Boolean.TRUE);
+    }
+  }
+
+  private static int countNodes(Node node) {
+    int count = 1;
+    for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+      count += countNodes(child);
+    }
+    return count;
+  }
+
+  public int getMappedStatements() {
+    return mappedStatements;
+  }
+
+  /**
+   * Returns the number of statements that are built on first use and have not been used yet.
+   *
+   * @return the number of unbuilt statements
+   * @see Configuration#setLazyStatementBuilding(boolean)
+   */
+  public int getUnbuiltStatements() {
+    return unbuiltStatements;
+  }
+
+  public int getResultMaps() {
+    return resultMaps;
+  }
+
+  public int getResultMappings() {
+    return resultMappings;
+  }
+
+  public int getParameterMaps() {
+    return parameterMaps;
+  }
+
+  public int getCaches() {
+    return caches;
+  }
+
+  public int getSqlFragments() {
+    return sqlFragments;
+  }
+
+  /**
+   * Returns the number of parsed mapper documents the SQL fragments keep in memory.
+   *
+   * @return the number of retained documents
+   * @see Configuration#compact()
+   */
+  public int getXmlDocuments() {
+    return xmlDocuments;
+  }
+
+  /**
+   * Returns the number of nodes of the parsed mapper documents the SQL fragments keep in memory.
+   *
+   * @return the number of retained nodes
+   */
+  public int getXmlNodes() {
+    return xmlNodes;
+  }
+
+  public int getIncompleteElements() {
+    return incompleteElements;
+  }
+
+  /**
+   * Returns the number of column and property name instances held by the result mappings.
+   *
+   * @return the number of name instances
+   */
+  public int getMappingNames() {
+    return mappingNames;
+  }
+
+  /**
+   * Returns the number of column and property name instances that are equal to another instance, and could be shared.
+   *
+   * @return the number of duplicate name instances
+   */
+  public int getDuplicateMappingNames() {
+    return duplicateMappingNames;
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigurationFootprint{"
+        + "mappedStatements=" + mappedStatements
+        + ", unbuiltStatements=" + unbuiltStatements
+        + ", resultMaps=" + resultMaps
+        + ", resultMappings=" + resultMappings
+        + ", parameterMaps=" + parameterMaps
+        + ", caches=" + caches
+        + ", sqlFragments=" + sqlFragments
+        + ", xmlDocuments=" + xmlDocuments
+        + ", xmlNodes=" + xmlNodes
+        + ", incompleteElements=" + incompleteElements
+        + ", mappingNames=" + mappingNames
+        + ", duplicateMappingNames=" + duplicateMappingNames
+        + '}';
+  }
+
+}
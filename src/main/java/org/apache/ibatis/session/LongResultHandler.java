@@ -0,0 +1,55 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import org.apache.ibatis.executor.ExecutorException;
+
+/**
+ * A {@link ResultHandler} of the values of a single long column. When {@code primitiveScalarResults} is enabled and the
+ * column is read by the built-in type handler of {@code Long}, each value is given to {@link #handleLong(long)} as it is
+ * read, without being boxed. Otherwise the values are boxed and given to {@link #handleResult(ResultContext)}.
+ *
+ * @since 3.5.7
+ * @see Configuration#setPrimitiveScalarResults(boolean)
+ */
+public interface LongResultHandler extends ResultHandler<Long> {
+
+  /**
+   * Handles the value of a row.
+   *
+   * @param value
+   *          the value
+   */
+  void handleLong(long value);
+
+  /**
+   * Handles a row whose value is {@code NULL}, which fails by default.
+   */
+  default void handleNull() {
+    throw new ExecutorException("A NULL value cannot be handled as a long.");
+  }
+
+  @Override
+  default void handleResult(ResultContext<? extends Long> resultContext) {
+    Long value = resultContext.getResultObject();
+    if (value == null) {
+      handleNull();
+    } else {
+      handleLong(value);
+    }
+  }
+
+}
@@ -0,0 +1,170 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+/**
+ * Builds the reflectors of the result and parameter types of a configuration concurrently, along with those of the
+ * nested properties they map, so that the first statements executed do not pay for it.
+ *
+ * @see Configuration#setReflectorWarmUp(boolean)
+ */
+final class ReflectorWarmUp {
+
+  private static final Log log = LogFactory.getLog(ReflectorWarmUp.class);
+
+  private final Configuration configuration;
+  private final TypeHandlerRegistry typeHandlerRegistry;
+  /** The property paths to resolve, by type. */
+  private final Map<Class<?>, Set<String>> types = new LinkedHashMap<>();
+
+  private ReflectorWarmUp(Configuration configuration) {
+    this.configuration = configuration;
+    this.typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+  }
+
+  static void run(Configuration configuration) {
+    ReflectorFactory reflectorFactory = configuration.getReflectorFactory();
+    if (!reflectorFactory.isClassCacheEnabled()) {
+      return;
+    }
+    ReflectorWarmUp warmUp = new ReflectorWarmUp(configuration);
+    warmUp.collectTypes();
+    warmUp.warmUp(reflectorFactory);
+  }
+
+  private void collectTypes() {
+    for (Object resultMap : configuration.getResultMaps()) {
+      // skips the ambiguous short names
+      if (resultMap instanceof ResultMap) {
+        addResultMap((ResultMap) resultMap);
+      }
+    }
+    // statements built on first use are left so
+    if (!configuration.isLazyStatementBuilding()) {
+      for (Object statement : configuration.getMappedStatements()) {
+        if (statement instanceof MappedStatement) {
+          addStatement((MappedStatement) statement);
+        }
+      }
+    }
+  }
+
+  private void addResultMap(ResultMap resultMap) {
+    Set<String> paths = addType(resultMap.getType());
+    for (ResultMapping resultMapping : resultMap.getResultMappings()) {
+      String property = resultMapping.getProperty();
+      if (paths != null && property != null && !resultMapping.isCompositeResult()) {
+        paths.add(property);
+      }
+      addType(resultMapping.getJavaType());
+    }
+  }
+
+  private void addStatement(MappedStatement statement) {
+    for (ResultMap resultMap : statement.getResultMaps()) {
+      addResultMap(resultMap);
+    }
+    Set<String> paths = addType(statement.getParameterMap().getType());
+    for (ParameterMapping parameterMapping : statement.getParameterMap().getParameterMappings()) {
+      if (paths != null) {
+        paths.add(parameterMapping.getProperty());
+      }
+      addType(parameterMapping.getJavaType());
+    }
+  }
+
+  /**
+   * Adds a type mapped as a bean.
+   *
+   * @return the property paths of the type, or null if the type is not mapped as a bean
+   */
+  private Set<String> addType(Class<?> type) {
+    if (type == null || type.isPrimitive() || type.isArray() || type.isInterface() || type == Object.class
+        || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)
+        || typeHandlerRegistry.hasTypeHandler(type)) {
+      return null;
+    }
+    return types.computeIfAbsent(type, k -> new HashSet<>());
+  }
+
+  private void warmUp(ReflectorFactory reflectorFactory) {
+    int threads = Math.min(types.size(), Runtime.getRuntime().availableProcessors());
+    if (threads < 2) {
+      types.forEach((type, paths) -> warmUp(reflectorFactory, type, paths));
+      return;
+    }
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "mybatis-reflector-warm-up-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<?>> futures = new ArrayList<>(types.size());
+      types.forEach((type, paths) -> futures.add(executor.submit(() -> warmUp(reflectorFactory, type, paths))));
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // not thrown, failures are logged by the tasks
+      log.debug("Error warming up reflectors. Cause: " + e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void warmUp(ReflectorFactory reflectorFactory, Class<?> type, Set<String> paths) {
+    try {
+      // the reflectors of the types along the property paths are built as well
+      MetaClass metaClass = MetaClass.forClass(type, reflectorFactory);
+      for (String path : paths) {
+        if (path.indexOf('.') > 0) {
+          metaClass.hasSetter(path);
+          metaClass.hasGetter(path);
+        }
+      }
+    } catch (RuntimeException e) {
+      // the same failure is reported when the type is first used
+      log.debug("Could not build the reflector of " + type.getName() + ". Cause: " + e);
+    }
+  }
+
+}
@@ -20,9 +20,12 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.util.Properties;
 
+import org.apache.ibatis.builder.StartupProfiler;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.exceptions.ExceptionFactory;
 import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
 
 /**
@@ -89,6 +92,23 @@ public class SqlSessionFactoryBuilder {
   }
 
   public SqlSessionFactory build(Configuration config) {
+    if (config.isReflectorWarmUp()) {
+      try (StartupProfiler.Phase phase = StartupProfiler.phase(config, "reflector warm-up", null)) {
+        ReflectorWarmUp.run(config);
+      }
+    }
+    if (config.isCompactConfiguration()) {
+      try (StartupProfiler.Phase phase = StartupProfiler.phase(config, "compaction", null)) {
+        config.compact();
+      }
+    }
+    if (config.getStartupProfiler() != null) {
+      // the log implementation of the configuration is set by now
+      Log log = LogFactory.getLog(SqlSessionFactoryBuilder.class);
+      if (log.isDebugEnabled()) {
+        log.debug(config.getStartupProfiler().toString());
+      }
+    }
     return new DefaultSqlSessionFactory(config);
   }
 
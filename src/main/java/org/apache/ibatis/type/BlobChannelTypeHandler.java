@@ -0,0 +1,74 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The {@link TypeHandler} for {@link Blob}/{@link ReadableByteChannel}. The value is neither read nor written as a
+ * whole, the channel reads the stream of the driver.
+ * <p>
+ * Like the stream returned by {@link BlobInputStreamTypeHandler}, a channel read from a result is only guaranteed to be
+ * readable while the result set is positioned on its row: until a {@link org.apache.ibatis.cursor.Cursor} moves to the
+ * next result, or until a {@link org.apache.ibatis.session.ResultHandler} returns.
+ *
+ * @since 3.5.7
+ */
+public class BlobChannelTypeHandler extends BaseTypeHandler<ReadableByteChannel> {
+
+  /**
+   * Set a {@link ReadableByteChannel} into {@link PreparedStatement}.
+   * @see PreparedStatement#setBlob(int, java.io.InputStream)
+   */
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, ReadableByteChannel parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setBlob(i, Channels.newInputStream(parameter));
+  }
+
+  @Override
+  public ReadableByteChannel getNullableResult(ResultSet rs, String columnName)
+      throws SQLException {
+    return toChannel(rs.getBlob(columnName));
+  }
+
+  @Override
+  public ReadableByteChannel getNullableResult(ResultSet rs, int columnIndex)
+      throws SQLException {
+    return toChannel(rs.getBlob(columnIndex));
+  }
+
+  @Override
+  public ReadableByteChannel getNullableResult(CallableStatement cs, int columnIndex)
+      throws SQLException {
+    return toChannel(cs.getBlob(columnIndex));
+  }
+
+  private ReadableByteChannel toChannel(Blob blob) throws SQLException {
+    if (blob == null) {
+      return null;
+    } else {
+      return Channels.newChannel(blob.getBinaryStream());
+    }
+  }
+
+}
@@ -24,6 +24,11 @@ import java.sql.SQLException;
 
 /**
  * The {@link TypeHandler} for {@link Blob}/{@link InputStream} using method supported at JDBC 4.0.
+ * <p>
+ * The value is not read in memory, the stream returned for a result reads the stream of the driver. It is only
+ * guaranteed to be readable while the result set is positioned on its row: until a
+ * {@link org.apache.ibatis.cursor.Cursor} moves to the next result, or until a
+ * {@link org.apache.ibatis.session.ResultHandler} returns.
  * @since 3.4.0
  * @author Kazuki Shimizu
  */
@@ -0,0 +1,181 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The {@link TypeHandler} for {@link Blob}/{@link Path}, which binds the content of a file and copies a result to a
+ * file, without holding the value in memory.
+ * <p>
+ * The file of a parameter is opened when the driver starts reading it, and closed once it has been read. The file of a
+ * result is a temporary file that the caller is responsible for deleting. This handler is not registered by default,
+ * it has to be set on the parameters and results it applies to.
+ *
+ * @since 3.5.7
+ */
+public class BlobPathTypeHandler extends BaseTypeHandler<Path> {
+
+  /**
+   * Set the content of a file into {@link PreparedStatement}.
+   * @see PreparedStatement#setBlob(int, InputStream, long)
+   */
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, Path parameter, JdbcType jdbcType)
+      throws SQLException {
+    long length;
+    try {
+      length = Files.size(parameter);
+    } catch (IOException e) {
+      throw new TypeException("Error reading the size of " + parameter + ". Cause: " + e, e);
+    }
+    ps.setBlob(i, new FileContentInputStream(parameter, length), length);
+  }
+
+  @Override
+  public Path getNullableResult(ResultSet rs, String columnName)
+      throws SQLException {
+    return toFile(rs.getBlob(columnName));
+  }
+
+  @Override
+  public Path getNullableResult(ResultSet rs, int columnIndex)
+      throws SQLException {
+    return toFile(rs.getBlob(columnIndex));
+  }
+
+  @Override
+  public Path getNullableResult(CallableStatement cs, int columnIndex)
+      throws SQLException {
+    return toFile(cs.getBlob(columnIndex));
+  }
+
+  /**
+   * Creates the file a result is copied to.
+   *
+   * @return a new empty file
+   * @throws IOException
+   *           if the file cannot be created
+   */
+  protected Path createFile() throws IOException {
+    return Files.createTempFile("mybatis-blob-", ".tmp");
+  }
+
+  private Path toFile(Blob blob) throws SQLException {
+    if (blob == null) {
+      return null;
+    }
+    Path file = null;
+    try (InputStream in = blob.getBinaryStream()) {
+      file = createFile();
+      Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+      return file;
+    } catch (IOException e) {
+      if (file != null) {
+        try {
+          Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+          // Intentionally ignore. Prefer previous error.
+        }
+      }
+      throw new TypeException("Error copying a BLOB to a file. Cause: " + e, e);
+    }
+  }
+
+  /**
+   * Reads the content of a file, opening it on the first read and closing it once the expected length has been read.
+   */
+  private static final class FileContentInputStream extends InputStream {
+    private final Path path;
+    private long remaining;
+    private InputStream in;
+    private boolean closed;
+
+    FileContentInputStream(Path path, long length) {
+      this.path = path;
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!open()) {
+        return -1;
+      }
+      int b = in.read();
+      if (b < 0 || --remaining == 0) {
+        close();
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!open()) {
+        return -1;
+      }
+      int n = in.read(b, off, (int) Math.min(len, remaining));
+      if (n < 0) {
+        close();
+        return -1;
+      }
+      remaining -= n;
+      if (remaining == 0) {
+        close();
+      }
+      return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return closed || in == null ? 0 : in.available();
+    }
+
+    private boolean open() throws IOException {
+      if (closed) {
+        return false;
+      }
+      if (remaining <= 0) {
+        close();
+        return false;
+      }
+      if (in == null) {
+        in = Files.newInputStream(path);
+      }
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      if (in != null) {
+        in.close();
+      }
+    }
+  }
+
+}
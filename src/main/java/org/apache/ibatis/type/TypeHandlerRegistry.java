@@ -22,6 +22,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.channels.ReadableByteChannel;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,12 +39,16 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.binding.MapperMethod.ParamMap;
+import org.apache.ibatis.executor.resultset.AutoMappingPlanCache;
 import org.apache.ibatis.io.ResolverUtil;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.Configuration;
@@ -57,10 +62,17 @@ public final class TypeHandlerRegistry {
   private final Map<JdbcType, TypeHandler<?>>  jdbcTypeHandlerMap = new EnumMap<>(JdbcType.class);
   private final Map<Type, Map<JdbcType, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
   private final TypeHandler<Object> unknownTypeHandler;
+  private final Configuration configuration;
   private final Map<Class<?>, TypeHandler<?>> allTypeHandlersMap = new HashMap<>();
 
   private static final Map<JdbcType, TypeHandler<?>> NULL_TYPE_HANDLER_MAP = Collections.emptyMap();
 
+  /** The type handlers of the result columns by Java class name and JDBC type, empty for the columns without one. */
+  private final Map<ColumnType, Optional<TypeHandler<?>>> columnTypeHandlerMap = new ConcurrentHashMap<>();
+
+  /** The type handlers registered by the constructor, which read the columns by index as well as by name. */
+  private final Set<TypeHandler<?>> defaultTypeHandlers = Collections.newSetFromMap(new IdentityHashMap<>());
+
   private Class<? extends TypeHandler> defaultEnumTypeHandler = EnumTypeHandler.class;
 
   /**
@@ -78,6 +90,7 @@ public final class TypeHandlerRegistry {
    */
   public TypeHandlerRegistry(Configuration configuration) {
     this.unknownTypeHandler = new UnknownTypeHandler(configuration);
+    this.configuration = configuration;
 
     register(Boolean.class, new BooleanTypeHandler());
     register(boolean.class, new BooleanTypeHandler());
@@ -136,6 +149,7 @@ public final class TypeHandlerRegistry {
     register(JdbcType.NUMERIC, new BigDecimalTypeHandler());
 
     register(InputStream.class, new BlobInputStreamTypeHandler());
+    register(ReadableByteChannel.class, new BlobChannelTypeHandler());
     register(Byte[].class, new ByteObjectArrayTypeHandler());
     register(Byte[].class, JdbcType.BLOB, new BlobByteObjectArrayTypeHandler());
     register(Byte[].class, JdbcType.LONGVARBINARY, new BlobByteObjectArrayTypeHandler());
@@ -177,6 +191,11 @@ public final class TypeHandlerRegistry {
     // issue #273
     register(Character.class, new CharacterTypeHandler());
     register(char.class, new CharacterTypeHandler());
+
+    defaultTypeHandlers.addAll(jdbcTypeHandlerMap.values());
+    for (Map<JdbcType, TypeHandler<?>> handlers : typeHandlerMap.values()) {
+      defaultTypeHandlers.addAll(handlers.values());
+    }
   }
 
   /**
@@ -323,12 +342,69 @@ public final class TypeHandlerRegistry {
     return soleHandler;
   }
 
+  /**
+   * Returns the type handler of a result column whose Java type is not known from the mapping, from the Java class name
+   * and the JDBC type the driver reports for it. The resolved type handlers, and the columns without one, are kept until
+   * another type handler is registered, so that the class name is loaded once.
+   *
+   * @param javaClassName
+   *          the Java class name of the column, or {@code null}
+   * @param jdbcType
+   *          the JDBC type of the column, or {@code null}
+   * @return the type handler, or {@code null} if none is registered
+   * @since 3.5.7
+   */
+  public TypeHandler<?> getColumnTypeHandler(String javaClassName, JdbcType jdbcType) {
+    ColumnType columnType = new ColumnType(javaClassName, jdbcType);
+    Optional<TypeHandler<?>> handler = columnTypeHandlerMap.get(columnType);
+    if (handler == null) {
+      handler = Optional.ofNullable(resolveColumnTypeHandler(javaClassName, jdbcType));
+      columnTypeHandlerMap.put(columnType, handler);
+    }
+    return handler.orElse(null);
+  }
+
+  private TypeHandler<?> resolveColumnTypeHandler(String javaClassName, JdbcType jdbcType) {
+    Class<?> javaType = null;
+    // #699 className could be null
+    if (javaClassName != null) {
+      try {
+        javaType = Resources.classForName(javaClassName);
+      } catch (ClassNotFoundException e) {
+        // resolved by the JDBC type only
+      }
+    }
+    if (javaType != null && jdbcType != null) {
+      return getTypeHandler(javaType, jdbcType);
+    } else if (javaType != null) {
+      return getTypeHandler(javaType);
+    } else if (jdbcType != null) {
+      return getTypeHandler(jdbcType);
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether the type handler is one of the instances this registry registers by default, which read the
+   * columns by index as well as by name. The type handlers registered afterwards, even of the same classes, may only
+   * implement one of them.
+   *
+   * @param typeHandler
+   *          the type handler
+   * @return {@code true} if the type handler is registered by default
+   * @since 3.5.7
+   */
+  public boolean isDefaultTypeHandler(TypeHandler<?> typeHandler) {
+    return defaultTypeHandlers.contains(typeHandler);
+  }
+
   public TypeHandler<Object> getUnknownTypeHandler() {
     return unknownTypeHandler;
   }
 
   public void register(JdbcType jdbcType, TypeHandler<?> handler) {
     jdbcTypeHandlerMap.put(jdbcType, handler);
+    typeHandlersChanged();
   }
 
   //
@@ -411,6 +487,18 @@ public final class TypeHandlerRegistry {
     }
     //Map<Class<?>, TypeHandler<?>>
     allTypeHandlersMap.put(handler.getClass(), handler);
+    typeHandlersChanged();
+  }
+
+  /**
+   * Drops the type handlers resolved for the registered ones, including those of the cached auto-mapping plans.
+   */
+  private void typeHandlersChanged() {
+    columnTypeHandlerMap.clear();
+    AutoMappingPlanCache planCache = configuration.getAutoMappingPlanCache();
+    if (planCache != null) {
+      planCache.clear();
+    }
   }
 
   //
@@ -502,4 +590,28 @@ public final class TypeHandlerRegistry {
     return Collections.unmodifiableCollection(allTypeHandlersMap.values());
   }
 
+  private static final class ColumnType {
+    private final String javaClassName;
+    private final JdbcType jdbcType;
+
+    ColumnType(String javaClassName, JdbcType jdbcType) {
+      this.javaClassName = javaClassName;
+      this.jdbcType = jdbcType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof ColumnType)) {
+        return false;
+      }
+      ColumnType other = (ColumnType) o;
+      return Objects.equals(javaClassName, other.javaClassName) && jdbcType == other.jdbcType;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(javaClassName) + Objects.hashCode(jdbcType);
+    }
+  }
+
 }
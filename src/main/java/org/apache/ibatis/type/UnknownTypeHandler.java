@@ -20,11 +20,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
-import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.Configuration;
 
 /**
@@ -106,18 +103,16 @@ public class UnknownTypeHandler extends BaseTypeHandler<Object> {
 
   private TypeHandler<?> resolveTypeHandler(ResultSet rs, String column) {
     try {
-      Map<String,Integer> columnIndexLookup;
-      columnIndexLookup = new HashMap<>();
       ResultSetMetaData rsmd = rs.getMetaData();
-      int count = rsmd.getColumnCount();
       boolean useColumnLabel = config.isUseColumnLabel();
-      for (int i = 1; i <= count; i++) {
-        String name = useColumnLabel ? rsmd.getColumnLabel(i) : rsmd.getColumnName(i);
-        columnIndexLookup.put(name,i);
+      // the last column of that name, as a name to index map would keep
+      int columnIndex = rsmd.getColumnCount();
+      while (columnIndex > 0
+          && !column.equals(useColumnLabel ? rsmd.getColumnLabel(columnIndex) : rsmd.getColumnName(columnIndex))) {
+        columnIndex--;
       }
-      Integer columnIndex = columnIndexLookup.get(column);
       TypeHandler<?> handler = null;
-      if (columnIndex != null) {
+      if (columnIndex > 0) {
         handler = resolveTypeHandler(rsmd, columnIndex);
       }
       if (handler == null || handler instanceof UnknownTypeHandler) {
@@ -130,17 +125,9 @@ public class UnknownTypeHandler extends BaseTypeHandler<Object> {
   }
 
   private TypeHandler<?> resolveTypeHandler(ResultSetMetaData rsmd, Integer columnIndex) {
-    TypeHandler<?> handler = null;
     JdbcType jdbcType = safeGetJdbcTypeForColumn(rsmd, columnIndex);
-    Class<?> javaType = safeGetClassForColumn(rsmd, columnIndex);
-    if (javaType != null && jdbcType != null) {
-      handler = typeHandlerRegistrySupplier.get().getTypeHandler(javaType, jdbcType);
-    } else if (javaType != null) {
-      handler = typeHandlerRegistrySupplier.get().getTypeHandler(javaType);
-    } else if (jdbcType != null) {
-      handler = typeHandlerRegistrySupplier.get().getTypeHandler(jdbcType);
-    }
-    return handler;
+    String javaClassName = safeGetClassNameForColumn(rsmd, columnIndex);
+    return typeHandlerRegistrySupplier.get().getColumnTypeHandler(javaClassName, jdbcType);
   }
 
   private JdbcType safeGetJdbcTypeForColumn(ResultSetMetaData rsmd, Integer columnIndex) {
@@ -151,9 +138,9 @@ public class UnknownTypeHandler extends BaseTypeHandler<Object> {
     }
   }
 
-  private Class<?> safeGetClassForColumn(ResultSetMetaData rsmd, Integer columnIndex) {
+  private String safeGetClassNameForColumn(ResultSetMetaData rsmd, Integer columnIndex) {
     try {
-      return Resources.classForName(rsmd.getColumnClassName(columnIndex));
+      return rsmd.getColumnClassName(columnIndex);
     } catch (Exception e) {
       return null;
     }
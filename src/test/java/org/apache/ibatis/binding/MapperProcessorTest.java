@@ -0,0 +1,183 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.binding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MapperProcessorTest {
+
+  private static final String BASE_MAPPER = "package generated;\n"
+      + "import org.apache.ibatis.annotations.*;\n"
+      + "public interface BaseMapper<T> {\n"
+      + "  @Select(\"select name from users where id = #{id}\")\n"
+      + "  T selectById(int id);\n"
+      + "}\n";
+
+  private static final String USER_MAPPER = "package generated;\n"
+      + "import java.util.List;\n"
+      + "import org.apache.ibatis.annotations.*;\n"
+      + "@Mapper\n"
+      + "public interface UserMapper extends BaseMapper<String> {\n"
+      + "  @Update(\"create table users (id int, name varchar(20))\")\n"
+      + "  void createTable();\n"
+      + "  @Insert(\"insert into users (id, name) values (#{id}, #{name})\")\n"
+      + "  int insert(@Param(\"id\") int id, @Param(\"name\") String name);\n"
+      + "  @Select(\"select count(*) from users\")\n"
+      + "  int count();\n"
+      + "  @Select(\"select name from users where id in (${ids}) order by id\")\n"
+      + "  List<String> selectNames(@Param(\"ids\") String ids);\n"
+      + "  @Select(\"select name from users where id = #{id}\")\n"
+      + "  <T> T selectAs(int id);\n"
+      + "  String notBound(int... ids);\n"
+      + "  default String describe(int id) {\n"
+      + "    return id + \":\" + selectById(id);\n"
+      + "  }\n"
+      + "  @Mapper\n"
+      + "  interface Nested {\n"
+      + "    @Select(\"select count(*) from users\")\n"
+      + "    Long count();\n"
+      + "  }\n"
+      + "}\n";
+
+  @TempDir
+  static Path outputDirectory;
+
+  private static ClassLoader classLoader;
+
+  @BeforeAll
+  static void compile() throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+    File classes = new File(Mapper.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    List<String> options = Arrays.asList("-d", outputDirectory.toString(), "-s", outputDirectory.toString(),
+        "-classpath", classes.getPath());
+    JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+        Arrays.asList(new Source("generated/BaseMapper", BASE_MAPPER), new Source("generated/UserMapper", USER_MAPPER)));
+    task.setProcessors(Collections.singletonList(new MapperProcessor()));
+    assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+    fileManager.close();
+    classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+        MapperProcessorTest.class.getClassLoader());
+  }
+
+  @Test
+  void shouldGenerateImplementations() throws Exception {
+    assertTrue(Files.exists(outputDirectory.resolve("generated/UserMapper_MyBatisImpl.java")));
+    assertTrue(Files.exists(outputDirectory.resolve("generated/UserMapper_Nested_MyBatisImpl.java")));
+    Class<?> implementation = classLoader.loadClass("generated.UserMapper_MyBatisImpl");
+    Method[] methods = (Method[]) implementation.getField(GeneratedMapper.METHODS_FIELD).get(null);
+    assertThat(methods).extracting(Method::getName).containsExactlyInAnyOrder("createTable", "insert", "count",
+        "selectNames", "selectAs", "notBound", "selectById");
+  }
+
+  @Test
+  void shouldExecuteStatementsThroughGeneratedMapper() throws Throwable {
+    @SuppressWarnings("unchecked")
+    Class<Object> userMapperType = (Class<Object>) classLoader.loadClass("generated.UserMapper");
+    Class<?> nestedMapperType = classLoader.loadClass("generated.UserMapper$Nested");
+    UnpooledDataSource dataSource = new UnpooledDataSource("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:mapperprocessor",
+        "sa", "");
+    Configuration configuration = new Configuration(
+        new Environment("test", new JdbcTransactionFactory(), dataSource));
+    configuration.addMapper(userMapperType);
+    configuration.addMapper(nestedMapperType);
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      Object mapper = sqlSession.getMapper(userMapperType);
+      assertEquals("generated.UserMapper_MyBatisImpl", mapper.getClass().getName());
+      assertThat(Proxy.isProxyClass(mapper.getClass())).isFalse();
+      invoke(mapper, "createTable");
+      assertEquals(1, invoke(mapper, "insert", 1, "foo"));
+      assertEquals(1, invoke(mapper, "insert", 2, "bar"));
+      assertEquals(2, invoke(mapper, "count"));
+      assertEquals(Arrays.asList("foo", "bar"), invoke(mapper, "selectNames", "1, 2"));
+      assertEquals("bar", invoke(mapper, "selectById", 2));
+      assertEquals("foo", invoke(mapper, "selectAs", 1));
+      assertEquals("1:foo", invoke(mapper, "describe", 1));
+      BindingException e = assertThrows(BindingException.class, () -> invoke(mapper, "notBound", new int[] { 1 }));
+      assertThat(e.getMessage()).contains("Invalid bound statement (not found): generated.UserMapper.notBound");
+
+      Object nestedMapper = sqlSession.getMapper(nestedMapperType);
+      assertEquals("generated.UserMapper_Nested_MyBatisImpl", nestedMapper.getClass().getName());
+      assertEquals(2L, invoke(nestedMapper, "count"));
+    }
+  }
+
+  private static Object invoke(Object mapper, String name, Object... args) throws Throwable {
+    for (Method method : mapper.getClass().getInterfaces()[0].getMethods()) {
+      if (method.getName().equals(name) && !method.isBridge()) {
+        try {
+          return method.invoke(mapper, args);
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      }
+    }
+    throw new NoSuchMethodException(name);
+  }
+
+  private static class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    Source(String name, String code) {
+      super(URI.create("string:///" + name + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+
+}
@@ -0,0 +1,124 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.binding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.binding.MapperMethod.ParamMap;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+class ParamMapTest {
+
+  @Test
+  void shouldReadArgumentsThroughLayout() {
+    ParamMap<Object> paramMap = new ParamMap.Layout(new String[] { "id", "param1", "name", "param2" },
+        new int[] { 0, 0, 2, 2 }).newParamMap(new Object[] { 1, RowBounds.DEFAULT, "foo" });
+    assertEquals(1, paramMap.get("id"));
+    assertEquals(1, paramMap.get("param1"));
+    assertEquals("foo", paramMap.get(new String("name")));
+    assertEquals("foo", paramMap.get("param2"));
+    assertTrue(paramMap.containsKey("name"));
+    assertFalse(paramMap.containsKey("param3"));
+    assertEquals("bar", paramMap.getOrDefault("param3", "bar"));
+    assertEquals(4, paramMap.size());
+  }
+
+  @Test
+  void shouldReportMissingParameter() {
+    ParamMap<Object> paramMap = new ParamMap.Layout(new String[] { "id", "param1" }, new int[] { 0, 0 })
+        .newParamMap(new Object[] { 1 });
+    BindingException e = assertThrows(BindingException.class, () -> paramMap.get("name"));
+    assertThat(e.getMessage()).startsWith("Parameter 'name' not found. Available parameters are [")
+        .contains("id", "param1");
+  }
+
+  @Test
+  void shouldBehaveAsHashMapOnceModified() {
+    ParamMap<Object> paramMap = new ParamMap.Layout(new String[] { "id", "param1" }, new int[] { 0, 0 })
+        .newParamMap(new Object[] { 1 });
+    paramMap.put("id", 2);
+    paramMap.put("extra", 3);
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("id", 2);
+    expected.put("param1", 1);
+    expected.put("extra", 3);
+    assertEquals(expected, paramMap);
+    assertEquals(expected.keySet(), paramMap.keySet());
+    assertEquals(2, paramMap.get("id"));
+  }
+
+  @Test
+  void shouldBeEqualToHashMapWithSameEntries() throws Exception {
+    ParamMap<Object> paramMap = new ParamMap.Layout(new String[] { "id", "param1" }, new int[] { 0, 0 })
+        .newParamMap(new Object[] { 1 });
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("id", 1);
+    expected.put("param1", 1);
+    assertEquals(expected, paramMap);
+    assertEquals(expected.hashCode(), paramMap.hashCode());
+    @SuppressWarnings("unchecked")
+    Map<String, Object> deserialized = (Map<String, Object>) serializeAndDeserialize(paramMap);
+    assertEquals(ParamMap.class, deserialized.getClass());
+    assertEquals(expected, deserialized);
+  }
+
+  @Test
+  void shouldResolveNamedAndGenericParameters() throws Exception {
+    Configuration configuration = new Configuration();
+    ParamNameResolver resolver = new ParamNameResolver(configuration,
+        Mapper.class.getMethod("select", int.class, RowBounds.class, String.class, String.class));
+    @SuppressWarnings("unchecked")
+    Map<String, Object> params = (Map<String, Object>) resolver
+        .getNamedParams(new Object[] { 1, RowBounds.DEFAULT, "foo", "bar" });
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("id", 1);
+    expected.put("param1", 1);
+    expected.put("param2", "foo");
+    expected.put("name", "bar");
+    expected.put("param3", "bar");
+    assertEquals(expected, params);
+  }
+
+  private static Object serializeAndDeserialize(Object object) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return in.readObject();
+    }
+  }
+
+  interface Mapper {
+    void select(@Param("id") int id, RowBounds rowBounds, @Param("param2") String param2, @Param("name") String name);
+  }
+
+}
@@ -0,0 +1,178 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.domain.blog.mappers.AuthorMapper;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LazyStatementBuildingTest {
+
+  private static final String BROKEN_MAPPER = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+      + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+      + "<mapper namespace=\"broken\">\n"
+      + "  <select id=\"unknownResultMap\" resultMap=\"missing\">select 1</select>\n"
+      + "  <select id=\"valid\" resultType=\"int\">select 1</select>\n"
+      + "</mapper>\n";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldRegisterSameStatementsAsEagerBuilding() throws Exception {
+    Configuration eager = build(false, "");
+    Configuration lazy = build(true, "");
+    assertThat(lazy.getMappedStatementNames()).containsExactlyInAnyOrderElementsOf(eager.getMappedStatementNames());
+    for (String id : eager.getMappedStatementNames()) {
+      MappedStatement expected = eager.getMappedStatement(id);
+      MappedStatement actual = lazy.getMappedStatement(id);
+      assertThat(actual.getId()).isEqualTo(expected.getId());
+      assertThat(actual.getSqlSource().getClass()).isEqualTo(expected.getSqlSource().getClass());
+      assertThat(actual.getKeyGenerator().getClass()).isEqualTo(expected.getKeyGenerator().getClass());
+      assertThat(actual.getResultMaps()).extracting(ResultMap::getId)
+          .containsExactlyElementsOf(expected.getResultMaps().stream().map(ResultMap::getId).collect(Collectors.toList()));
+      assertThat(actual.getCache() == null).isEqualTo(expected.getCache() == null);
+    }
+    assertThat(lazy.getMappedStatements()).hasSameSizeAs(eager.getMappedStatements());
+  }
+
+  @Test
+  void shouldBuildAnnotatedStatementsOnFirstUse() throws Exception {
+    Configuration lazy = build(true, "");
+    String id = AuthorMapper.class.getName() + ".selectAuthor2";
+    assertThat(lazy.hasStatement(id)).isTrue();
+    assertThat(lazy.getMappedStatement(id).getId()).isEqualTo(id);
+  }
+
+  @Test
+  void shouldReportBrokenStatementOnFirstUse() throws Exception {
+    Configuration lazy = build(true, "    <mapper url=\"" + writeBrokenMapper() + "\"/>\n");
+    assertThat(lazy.hasStatement("broken.unknownResultMap")).isTrue();
+    assertThat(lazy.getMappedStatement("broken.valid").getResultMaps().get(0).getType()).isEqualTo(Integer.class);
+    BuilderException e = assertThrows(BuilderException.class, () -> lazy.getMappedStatement("broken.unknownResultMap"));
+    assertThat(e.getMessage()).contains("broken.unknownResultMap").contains("missing");
+    // not cached, the next lookup fails the same way
+    assertThrows(BuilderException.class, () -> lazy.getMappedStatement("broken.unknownResultMap"));
+  }
+
+  @Test
+  void shouldRejectDuplicateStatementsWhenLoading() throws Exception {
+    Configuration lazy = build(true, "");
+    assertThrows(IllegalArgumentException.class, () -> lazy.addLazyMappedStatement("test",
+        "org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors", false, () -> { }));
+    MappedStatement statement = lazy.getMappedStatement("org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors");
+    assertThrows(IllegalArgumentException.class, () -> lazy.addMappedStatement(
+        new MappedStatement.Builder(lazy, "org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors",
+            statement.getSqlSource(), statement.getSqlCommandType()).build()));
+  }
+
+  @Test
+  void shouldTellShortNamesOfEagerAndLazyStatementsAmbiguous() throws Exception {
+    Configuration lazy = build(true, "");
+    MappedStatement statement = lazy.getMappedStatement("org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors");
+    lazy.addMappedStatement(new MappedStatement.Builder(lazy, "other.selectAllAuthors", statement.getSqlSource(),
+        statement.getSqlCommandType()).build());
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> lazy.getMappedStatement("selectAllAuthors"));
+    assertThat(e.getMessage()).contains("selectAllAuthors is ambiguous");
+    assertThat(lazy.getMappedStatement("other.selectAllAuthors").getId()).isEqualTo("other.selectAllAuthors");
+
+    // and the other way round
+    lazy.addMappedStatement(new MappedStatement.Builder(lazy, "eager.countAuthors", statement.getSqlSource(),
+        statement.getSqlCommandType()).build());
+    assertThat(lazy.getMappedStatement("countAuthors").getId()).isEqualTo("eager.countAuthors");
+    lazy.addLazyMappedStatement("test", "lazy.countAuthors", false, () -> { });
+    e = assertThrows(IllegalArgumentException.class, () -> lazy.getMappedStatement("countAuthors"));
+    assertThat(e.getMessage()).contains("countAuthors is ambiguous");
+    assertThat(lazy.getMappedStatementNames()).contains("countAuthors", "eager.countAuthors", "lazy.countAuthors");
+  }
+
+  @Test
+  void shouldBuildStatementOnceWhenLookedUpConcurrently() throws Exception {
+    Configuration lazy = build(true, "");
+    String id = "org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAuthorWithInlineParams";
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<MappedStatement>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return lazy.getMappedStatement(id);
+        }));
+      }
+      start.countDown();
+      MappedStatement first = results.get(0).get();
+      for (Future<MappedStatement> result : results) {
+        assertThat(result.get()).isSameAs(first);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private String writeBrokenMapper() throws Exception {
+    Path mapper = directory.resolve("BrokenMapper.xml");
+    Files.write(mapper, BROKEN_MAPPER.getBytes(StandardCharsets.UTF_8));
+    return mapper.toUri().toString();
+  }
+
+  private static Configuration build(boolean lazy, String extraMappers) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"lazyStatementBuilding\" value=\"" + lazy + "\"/>\n"
+        + "  </settings>\n"
+        + "  <typeAliases>\n"
+        + "    <typeAlias alias=\"Author\" type=\"org.apache.ibatis.domain.blog.Author\"/>\n"
+        + "    <typeAlias alias=\"Blog\" type=\"org.apache.ibatis.domain.blog.Blog\"/>\n"
+        + "    <typeAlias alias=\"Comment\" type=\"org.apache.ibatis.domain.blog.Comment\"/>\n"
+        + "    <typeAlias alias=\"Post\" type=\"org.apache.ibatis.domain.blog.Post\"/>\n"
+        + "    <typeAlias alias=\"Section\" type=\"org.apache.ibatis.domain.blog.Section\"/>\n"
+        + "    <typeAlias alias=\"Tag\" type=\"org.apache.ibatis.domain.blog.Tag\"/>\n"
+        + "  </typeAliases>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/BlogMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/PostMapper.xml\"/>\n"
+        + extraMappers
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    return new XMLConfigBuilder(new StringReader(config)).parse();
+  }
+
+}
@@ -0,0 +1,139 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.Test;
+
+class StartupProfilerTest {
+
+  @Test
+  void shouldProfilePhases() {
+    Configuration configuration = build(true);
+    new SqlSessionFactoryBuilder().build(configuration);
+
+    StartupProfiler profiler = configuration.getStartupProfiler();
+    List<StartupProfiler.Entry> entries = profiler.getEntries();
+    assertThat(entries).extracting(StartupProfiler.Entry::getName, StartupProfiler.Entry::getDetail,
+        StartupProfiler.Entry::getDepth).containsSubsequence(
+            tuple("typeAliases", null, 0),
+            tuple("mappers", null, 0),
+            tuple("mapper", "org/apache/ibatis/builder/AuthorMapper.xml", 1),
+            tuple("mapper document", "org/apache/ibatis/builder/AuthorMapper.xml", 2),
+            tuple("mapper", "org.apache.ibatis.builder.CachedAuthorMapper", 1),
+            tuple("mapper annotations", "org.apache.ibatis.builder.CachedAuthorMapper", 2),
+            tuple("reflector warm-up", null, 0));
+    assertThat(entries).allSatisfy(entry -> assertThat(entry.getElapsedNanos()).isNotNegative());
+    assertThat(profiler.toString()).contains("  mapper org/apache/ibatis/builder/AuthorMapper.xml", " ms ");
+  }
+
+  @Test
+  void shouldNotProfileByDefault() {
+    Configuration configuration = build(false);
+    assertThat(configuration.getStartupProfiler()).isNull();
+    assertThat(configuration.isStartupProfiling()).isFalse();
+  }
+
+  @Test
+  void shouldNestPhasesOfSameThread() {
+    StartupProfiler profiler = new StartupProfiler();
+    try (StartupProfiler.Phase outer = profiler.start("outer", null)) {
+      try (StartupProfiler.Phase inner = profiler.start("inner", "detail")) {
+        // only the phase of the current thread is nested
+        Thread thread = new Thread(() -> profiler.start("other", null).close());
+        thread.start();
+        thread.join();
+      }
+      profiler.start("running", null);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // phases that are not closed are left out
+    assertThat(profiler.getEntries()).extracting(StartupProfiler.Entry::getName, StartupProfiler.Entry::getDepth)
+        .containsExactly(tuple("outer", 0), tuple("inner", 1), tuple("other", 0));
+  }
+
+  @Test
+  void shouldProfileResolutionOfIncompleteElements() {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"startupProfiling\" value=\"true\"/>\n"
+        + "  </settings>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/MultipleCrossIncludePersonMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/submitted/xml_external_ref/MultipleCrossIncludePetMapper.xml\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    Configuration configuration = new XMLConfigBuilder(new StringReader(config)).parse();
+    // the person mapper refers to a result map of the pet mapper
+    assertThat(configuration.getStartupProfiler().getEntries()).extracting(StartupProfiler.Entry::getName,
+        StartupProfiler.Entry::getDetail, StartupProfiler.Entry::getDepth).containsSubsequence(
+            tuple("mapper", "org/apache/ibatis/submitted/xml_external_ref/MultipleCrossIncludePetMapper.xml", 1),
+            tuple("incomplete elements", null, 2));
+  }
+
+  @Test
+  void shouldClosePhaseOfFailingMapper() {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"startupProfiling\" value=\"true\"/>\n"
+        + "  </settings>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/MissingMapper.xml\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    XMLConfigBuilder builder = new XMLConfigBuilder(new StringReader(config));
+    assertThatThrownBy(builder::parse).isInstanceOf(BuilderException.class);
+
+    StartupProfiler profiler = builder.getConfiguration().getStartupProfiler();
+    profiler.start("next", null).close();
+    assertThat(profiler.getEntries()).extracting(StartupProfiler.Entry::getName, StartupProfiler.Entry::getDepth)
+        .containsSubsequence(tuple("mappers", 0), tuple("mapper", 1), tuple("next", 0));
+  }
+
+  private static Configuration build(boolean profiling) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"startupProfiling\" value=\"" + profiling + "\"/>\n"
+        + "    <setting name=\"reflectorWarmUp\" value=\"true\"/>\n"
+        + "  </settings>\n"
+        + "  <typeAliases>\n"
+        + "    <typeAlias alias=\"Author\" type=\"org.apache.ibatis.domain.blog.Author\"/>\n"
+        + "  </typeAliases>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+        + "    <mapper class=\"org.apache.ibatis.builder.CachedAuthorMapper\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    return new XMLConfigBuilder(new StringReader(config)).parse();
+  }
+
+}
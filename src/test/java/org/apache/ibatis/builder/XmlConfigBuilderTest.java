@@ -23,7 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.BufferedReader;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.math.RoundingMode;
 import java.sql.CallableStatement;
@@ -33,6 +35,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import org.apache.ibatis.builder.mapper.CustomMapper;
 import org.apache.ibatis.builder.typehandler.CustomIntegerTypeHandler;
@@ -49,8 +52,10 @@ import org.apache.ibatis.io.JBoss6VFS;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.logging.slf4j.Slf4jImpl;
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ResultSetType;
 import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.defaults.RawSqlSource;
 import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
 import org.apache.ibatis.session.AutoMappingBehavior;
 import org.apache.ibatis.session.AutoMappingUnknownColumnBehavior;
@@ -101,6 +106,17 @@ class XmlConfigBuilderTest {
       assertNull(config.getConfigurationFactory());
       assertThat(config.getTypeHandlerRegistry().getTypeHandler(RoundingMode.class)).isInstanceOf(EnumTypeHandler.class);
       assertThat(config.isShrinkWhitespacesInSql()).isFalse();
+      assertThat(config.isParallelMapperParsing()).isFalse();
+      assertThat(config.isLazyStatementBuilding()).isFalse();
+      assertThat(config.isStreamingMapperParsing()).isFalse();
+      assertThat(config.isReflectorWarmUp()).isFalse();
+      assertThat(config.isStartupProfiling()).isFalse();
+      assertThat(config.isCompactConfiguration()).isFalse();
+      assertThat(config.isPrimitiveScalarResults()).isFalse();
+      assertThat(config.isCompactMapResults()).isFalse();
+      assertThat(config.getAutoMappingPlanCacheSize()).isZero();
+      assertThat(config.isParallelRowMapping()).isFalse();
+      assertThat(config.getCursorReadAheadSize()).isZero();
       assertThat(config.getDefaultSqlProviderType()).isNull();
     }
   }
@@ -197,6 +213,17 @@ class XmlConfigBuilderTest {
       assertThat(config.getVfsImpl().getName()).isEqualTo(JBoss6VFS.class.getName());
       assertThat(config.getConfigurationFactory().getName()).isEqualTo(String.class.getName());
       assertThat(config.isShrinkWhitespacesInSql()).isTrue();
+      assertThat(config.isParallelMapperParsing()).isTrue();
+      assertThat(config.isLazyStatementBuilding()).isTrue();
+      assertThat(config.isStreamingMapperParsing()).isTrue();
+      assertThat(config.isReflectorWarmUp()).isTrue();
+      assertThat(config.isStartupProfiling()).isTrue();
+      assertThat(config.isCompactConfiguration()).isTrue();
+      assertThat(config.isPrimitiveScalarResults()).isTrue();
+      assertThat(config.isCompactMapResults()).isTrue();
+      assertThat(config.getAutoMappingPlanCacheSize()).isEqualTo(64);
+      assertThat(config.isParallelRowMapping()).isTrue();
+      assertThat(config.getCursorReadAheadSize()).isEqualTo(128);
       assertThat(config.getDefaultSqlProviderType().getName()).isEqualTo(MySqlProvider.class.getName());
 
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blogauthor")).isEqualTo(Author.class);
@@ -306,6 +333,77 @@ class XmlConfigBuilderTest {
       .hasMessageContaining("The properties element cannot specify both a URL and a resource based property file reference.  Please specify one or the other.");
   }
 
+  @Test
+  void shouldParseMappersInParallelLikeSequentially() throws Exception {
+    String resource = "org/apache/ibatis/builder/MapperConfig.xml";
+    String config;
+    try (Reader reader = Resources.getResourceAsReader(resource)) {
+      config = new BufferedReader(reader).lines().collect(Collectors.joining("\n"));
+    }
+    Configuration sequential = new XMLConfigBuilder(new StringReader(config)).parse();
+    Configuration parallel = new XMLConfigBuilder(new StringReader(
+        config.replace("<settings>", "<settings>\n    <setting name=\"parallelMapperParsing\" value=\"true\"/>")))
+            .parse();
+
+    assertThat(parallel.isParallelMapperParsing()).isTrue();
+    assertThat(parallel.getMappedStatementNames()).isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(sequential.getMappedStatementNames());
+    assertThat(parallel.getResultMapNames()).containsExactlyInAnyOrderElementsOf(sequential.getResultMapNames());
+    assertThat(parallel.getCacheNames()).containsExactlyInAnyOrderElementsOf(sequential.getCacheNames());
+    assertThat(parallel.getSqlFragments().keySet())
+        .containsExactlyInAnyOrderElementsOf(sequential.getSqlFragments().keySet());
+  }
+
+  @Test
+  void shouldParseMappersWithStreamingReaderLikeValidatingParser() throws Exception {
+    String resource = "org/apache/ibatis/builder/MapperConfig.xml";
+    String config;
+    try (Reader reader = Resources.getResourceAsReader(resource)) {
+      config = new BufferedReader(reader).lines().collect(Collectors.joining("\n"));
+    }
+    Configuration validated = new XMLConfigBuilder(new StringReader(config)).parse();
+    Configuration streamed = new XMLConfigBuilder(new StringReader(
+        config.replace("<settings>", "<settings>\n    <setting name=\"streamingMapperParsing\" value=\"true\"/>")))
+            .parse();
+
+    assertThat(streamed.isStreamingMapperParsing()).isTrue();
+    assertThat(streamed.getMappedStatementNames()).isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(validated.getMappedStatementNames());
+    assertThat(streamed.getResultMapNames()).containsExactlyInAnyOrderElementsOf(validated.getResultMapNames());
+    for (String id : validated.getMappedStatementNames()) {
+      if (!id.contains(".")) {
+        // short names may be ambiguous
+        continue;
+      }
+      MappedStatement expected = validated.getMappedStatement(id);
+      MappedStatement actual = streamed.getMappedStatement(id);
+      assertThat(actual.getSqlSource().getClass()).isEqualTo(expected.getSqlSource().getClass());
+      if (expected.getSqlSource() instanceof RawSqlSource) {
+        assertThat(actual.getBoundSql(null).getSql()).isEqualTo(expected.getBoundSql(null).getSql());
+      }
+    }
+  }
+
+  @Test
+  void shouldReportMissingMapperResourceWhenParsingInParallel() {
+    final String MAPPER_CONFIG = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+            + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+            + "<configuration>\n"
+            + "  <settings>\n"
+            + "    <setting name=\"parallelMapperParsing\" value=\"true\"/>\n"
+            + "  </settings>\n"
+            + "  <mappers>\n"
+            + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+            + "    <mapper resource=\"a/b/c/MissingMapper.xml\"/>\n"
+            + "  </mappers>\n"
+            + "</configuration>\n";
+
+    XMLConfigBuilder builder = new XMLConfigBuilder(new StringReader(MAPPER_CONFIG));
+    when(builder::parse);
+    then(caughtException()).isInstanceOf(BuilderException.class)
+      .hasMessageContaining("Could not find resource a/b/c/MissingMapper.xml");
+  }
+
   static class MySqlProvider {
     @SuppressWarnings("unused")
     public static String provideSql() {
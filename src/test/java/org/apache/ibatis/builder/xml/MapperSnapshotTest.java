@@ -0,0 +1,204 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.scripting.defaults.RawSqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MapperSnapshotTest {
+
+  @TempDir
+  Path directory;
+
+  private Path snapshot;
+  private Path postMapper;
+
+  @BeforeEach
+  void copyMapper() throws Exception {
+    snapshot = directory.resolve("cache/mappers.bin");
+    postMapper = directory.resolve("PostMapper.xml");
+    try (InputStream in = Resources.getResourceAsStream("org/apache/ibatis/builder/PostMapper.xml")) {
+      Files.copy(in, postMapper, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  @Test
+  void shouldBuildSameConfigurationFromSnapshot() throws Exception {
+    Configuration parsed = build(false);
+    assertThat(snapshot).exists();
+    byte[] written = Files.readAllBytes(snapshot);
+
+    Configuration restored = build(false);
+    assertThat(Files.readAllBytes(snapshot)).isEqualTo(written);
+    assertSameMappers(parsed, restored);
+
+    Configuration restoredInParallel = build(true);
+    assertSameMappers(parsed, restoredInParallel);
+  }
+
+  @Test
+  void shouldReparseChangedMapper() throws Exception {
+    build(false);
+    String content = new String(Files.readAllBytes(postMapper), StandardCharsets.UTF_8);
+    Files.write(postMapper, content.replace("<mapper namespace=\"org.apache.ibatis.domain.blog.mappers.PostMapper\">",
+        "<mapper namespace=\"org.apache.ibatis.domain.blog.mappers.PostMapper\">\n"
+            + "  <select id=\"countPosts\" resultType=\"int\">select count(*) from post</select>")
+        .getBytes(StandardCharsets.UTF_8));
+
+    Configuration reparsed = build(false);
+    assertThat(reparsed.hasStatement("org.apache.ibatis.domain.blog.mappers.PostMapper.countPosts")).isTrue();
+    Configuration restored = build(false);
+    assertThat(restored.hasStatement("org.apache.ibatis.domain.blog.mappers.PostMapper.countPosts")).isTrue();
+    assertSameMappers(reparsed, restored);
+  }
+
+  @Test
+  void shouldNotReadMapperWithSameSizeAndModificationTime() throws Exception {
+    build(false);
+    FileTime lastModified = Files.getLastModifiedTime(postMapper);
+    String content = new String(Files.readAllBytes(postMapper), StandardCharsets.UTF_8);
+    // an invalid document of the same size, which is not read
+    Files.write(postMapper, content.replace("<mapper ", "<wrong  ").getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(postMapper, lastModified);
+
+    Configuration restored = build(false);
+    assertThat(restored.hasStatement("org.apache.ibatis.domain.blog.mappers.PostMapper.selectPostLite")).isTrue();
+  }
+
+  @Test
+  void shouldRestoreTouchedMapperWithSameContent() throws Exception {
+    Configuration parsed = build(false);
+    byte[] written = Files.readAllBytes(snapshot);
+    Files.setLastModifiedTime(postMapper, FileTime.fromMillis(Files.getLastModifiedTime(postMapper).toMillis() - 60_000));
+
+    Configuration restored = build(false);
+    assertSameMappers(parsed, restored);
+    assertThat(Files.readAllBytes(snapshot)).isNotEqualTo(written);
+    written = Files.readAllBytes(snapshot);
+    build(false);
+    assertThat(Files.readAllBytes(snapshot)).isEqualTo(written);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedSnapshot() throws Exception {
+    Files.createDirectories(snapshot.getParent());
+    Files.write(snapshot, new byte[] { 1, 2, 3 });
+    Configuration parsed = build(false);
+    assertThat(parsed.hasStatement("org.apache.ibatis.domain.blog.mappers.PostMapper.selectPostLite")).isTrue();
+    assertThat(Files.size(snapshot)).isGreaterThan(3);
+  }
+
+  @Test
+  void shouldIgnoreSnapshotWithInvalidLengths() throws Exception {
+    Configuration parsed = build(false);
+    byte[] written = Files.readAllBytes(snapshot);
+    for (int length : new int[] { -1, Integer.MAX_VALUE }) {
+      // the length of the grammar digest, after the magic number and the version
+      ByteBuffer.wrap(written).putInt(8, length);
+      Files.write(snapshot, written);
+      assertSameMappers(parsed, build(false));
+      written = Files.readAllBytes(snapshot);
+    }
+  }
+
+  @Test
+  void shouldReparseMapperWithCorruptedDocument() throws Exception {
+    Configuration parsed = build(false);
+    byte[] written = Files.readAllBytes(snapshot);
+    // the end of the last document
+    Arrays.fill(written, written.length - 16, written.length, (byte) 0x7f);
+    Files.write(snapshot, written);
+
+    Configuration reparsed = build(false);
+    assertSameMappers(parsed, reparsed);
+    assertThat(Files.readAllBytes(snapshot)).isNotEqualTo(written);
+    assertSameMappers(parsed, build(false));
+  }
+
+  private Configuration build(boolean parallel) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"mapperSnapshotFile\" value=\"" + snapshot + "\"/>\n"
+        + "    <setting name=\"parallelMapperParsing\" value=\"" + parallel + "\"/>\n"
+        + "  </settings>\n"
+        + "  <typeAliases>\n"
+        + "    <typeAlias alias=\"Author\" type=\"org.apache.ibatis.domain.blog.Author\"/>\n"
+        + "    <typeAlias alias=\"Blog\" type=\"org.apache.ibatis.domain.blog.Blog\"/>\n"
+        + "    <typeAlias alias=\"Comment\" type=\"org.apache.ibatis.domain.blog.Comment\"/>\n"
+        + "    <typeAlias alias=\"Post\" type=\"org.apache.ibatis.domain.blog.Post\"/>\n"
+        + "    <typeAlias alias=\"Section\" type=\"org.apache.ibatis.domain.blog.Section\"/>\n"
+        + "    <typeAlias alias=\"Tag\" type=\"org.apache.ibatis.domain.blog.Tag\"/>\n"
+        + "  </typeAliases>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/BlogMapper.xml\"/>\n"
+        + "    <mapper url=\"" + postMapper.toUri() + "\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    return new XMLConfigBuilder(new StringReader(config)).parse();
+  }
+
+  private static void assertSameMappers(Configuration expected, Configuration actual) {
+    assertThat(actual.getMappedStatementNames()).containsExactlyInAnyOrderElementsOf(expected.getMappedStatementNames());
+    assertThat(actual.getResultMapNames()).containsExactlyInAnyOrderElementsOf(expected.getResultMapNames());
+    assertThat(actual.getSqlFragments().keySet()).containsExactlyInAnyOrderElementsOf(expected.getSqlFragments().keySet());
+    for (String id : expected.getMappedStatementNames()) {
+      MappedStatement expectedStatement = expected.getMappedStatement(id);
+      MappedStatement actualStatement = actual.getMappedStatement(id);
+      assertThat(actualStatement.getSqlSource().getClass()).isEqualTo(expectedStatement.getSqlSource().getClass());
+      assertThat(actualStatement.getSqlCommandType()).isEqualTo(expectedStatement.getSqlCommandType());
+      if (expectedStatement.getSqlSource() instanceof RawSqlSource) {
+        assertThat(actualStatement.getBoundSql(null).getSql()).isEqualTo(expectedStatement.getBoundSql(null).getSql());
+      }
+    }
+    for (String id : expected.getResultMapNames()) {
+      ResultMap expectedResultMap = expected.getResultMap(id);
+      ResultMap actualResultMap = actual.getResultMap(id);
+      assertThat(actualResultMap.getType()).isEqualTo(expectedResultMap.getType());
+      assertThat(mappings(actualResultMap)).isEqualTo(mappings(expectedResultMap));
+    }
+  }
+
+  private static Map<String, String> mappings(ResultMap resultMap) {
+    Map<String, String> mappings = new HashMap<>();
+    resultMap.getResultMappings().forEach(m -> mappings.put(String.valueOf(m.getProperty()),
+        m.getColumn() + "/" + m.getJavaType() + "/" + m.getNestedResultMapId() + "/" + m.getNestedQueryId()));
+    return mappings;
+  }
+
+}
@@ -0,0 +1,296 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class XMLMapperReloaderTest {
+
+  private static final String USER_MAPPER = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+      + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+      + "<mapper namespace=\"reload.UserMapper\">\n"
+      + "  <cache/>\n"
+      + "  <resultMap id=\"userMap\" type=\"map\">\n"
+      + "    <result property=\"name\" column=\"name\"/>\n"
+      + "  </resultMap>\n"
+      + "  <sql id=\"nameColumn\">name</sql>\n"
+      + "  <update id=\"createTable\">create table users (id int, name varchar(20))</update>\n"
+      + "  <insert id=\"insert\">insert into users (id, name) values (#{id}, #{name})</insert>\n"
+      + "  <select id=\"selectName\" resultType=\"string\">\n"
+      + "    select <include refid=\"nameColumn\"/> from users where id = #{id}\n"
+      + "  </select>\n"
+      + "  <select id=\"selectUser\" resultMap=\"userMap\">select name from users where id = #{id}</select>\n"
+      + "</mapper>\n";
+
+  private static final String ROLE_MAPPER = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+      + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+      + "<mapper namespace=\"reload.RoleMapper\">\n"
+      + "  <cache/>\n"
+      + "  <select id=\"selectRoles\" resultType=\"string\">select name from users</select>\n"
+      + "</mapper>\n";
+
+  @TempDir
+  Path directory;
+
+  private Path userMapper;
+  private Path roleMapper;
+
+  @BeforeEach
+  void writeMappers() throws Exception {
+    userMapper = directory.resolve("UserMapper.xml");
+    roleMapper = directory.resolve("RoleMapper.xml");
+    Files.write(userMapper, USER_MAPPER.getBytes(StandardCharsets.UTF_8));
+    Files.write(roleMapper, ROLE_MAPPER.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldReloadChangedMapperOnly() throws Exception {
+    Configuration configuration = build(false);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    assertThat(reloader.reloadChanged()).isEmpty();
+
+    MappedStatement roleStatement = configuration.getMappedStatement("reload.RoleMapper.selectRoles");
+    Cache userCache = configuration.getCache("reload.UserMapper");
+    Cache roleCache = configuration.getCache("reload.RoleMapper");
+    userCache.putObject("key", "value");
+    roleCache.putObject("key", "value");
+
+    changeUserMapper();
+    assertThat(reloader.reloadChanged()).containsExactly(userMapper.toUri().toString());
+    assertThat(reloader.reloadChanged()).isEmpty();
+
+    assertThat(configuration.hasStatement("reload.UserMapper.selectUser")).isFalse();
+    assertThat(configuration.hasStatement("selectUser")).isFalse();
+    assertThat(configuration.hasResultMap("reload.UserMapper.userMap")).isFalse();
+    assertThat(configuration.getSqlFragments()).containsKey("reload.UserMapper.upperNameColumn")
+        .doesNotContainKey("reload.UserMapper.nameColumn");
+    assertThat(configuration.hasStatement("reload.UserMapper.countUsers")).isTrue();
+    assertThat(configuration.hasStatement("countUsers")).isTrue();
+    assertSame(roleStatement, configuration.getMappedStatement("reload.RoleMapper.selectRoles"));
+
+    assertSame(userCache, configuration.getCache("reload.UserMapper"));
+    assertSame(userCache, configuration.getMappedStatement("reload.UserMapper.selectName").getCache());
+    assertEquals(0, userCache.getSize());
+    assertEquals(1, roleCache.getSize());
+  }
+
+  @Test
+  void shouldExecuteReloadedStatements() throws Exception {
+    Configuration configuration = build(false);
+    configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(),
+        new UnpooledDataSource("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:xmlmapperreloader", "sa", "")));
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      sqlSession.update("reload.UserMapper.createTable");
+      sqlSession.insert("reload.UserMapper.insert", user(1, "foo"));
+      assertEquals("foo", sqlSession.selectOne("reload.UserMapper.selectName", 1));
+    }
+
+    changeUserMapper();
+    reloader.reloadChanged();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      assertEquals("FOO", sqlSession.selectOne("reload.UserMapper.selectName", 1));
+      assertEquals(Integer.valueOf(1), sqlSession.selectOne("reload.UserMapper.countUsers"));
+    }
+  }
+
+  @Test
+  void shouldKeepPreviousMapperWhenReloadFails() throws Exception {
+    Configuration configuration = build(false);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    MappedStatement statement = configuration.getMappedStatement("reload.UserMapper.selectUser");
+
+    Files.write(userMapper, USER_MAPPER.replace("resultMap=\"userMap\"", "resultMap=\"missingMap\"")
+        .getBytes(StandardCharsets.UTF_8));
+    assertThrows(RuntimeException.class, reloader::reloadChanged);
+    assertSame(statement, configuration.getMappedStatement("reload.UserMapper.selectUser"));
+    assertSame(statement, configuration.getMappedStatement("selectUser"));
+    assertThat(configuration.hasResultMap("reload.UserMapper.userMap")).isTrue();
+    assertThat(configuration.getSqlFragments()).containsKey("reload.UserMapper.nameColumn");
+    assertThat(configuration.getIncompleteStatements()).isEmpty();
+
+    Files.write(userMapper, "<mapper".getBytes(StandardCharsets.UTF_8));
+    assertThrows(BuilderException.class, reloader::reloadChanged);
+    assertSame(statement, configuration.getMappedStatement("reload.UserMapper.selectUser"));
+
+    changeUserMapper();
+    reloader.reloadChanged();
+    assertThat(configuration.hasStatement("reload.UserMapper.countUsers")).isTrue();
+  }
+
+  @Test
+  void shouldClearShortNameAmbiguityOfRemovedStatements() throws Exception {
+    String ambiguousMapper = USER_MAPPER.replace("</mapper>",
+        "  <select id=\"selectRoles\" resultType=\"string\">select name from users</select>\n</mapper>");
+    Files.write(userMapper, ambiguousMapper.getBytes(StandardCharsets.UTF_8));
+    Configuration configuration = build(false);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    assertThrows(IllegalArgumentException.class, () -> configuration.getMappedStatement("selectRoles"));
+
+    Files.write(userMapper, USER_MAPPER.getBytes(StandardCharsets.UTF_8));
+    reloader.reload(userMapper.toUri().toString());
+    assertSame(configuration.getMappedStatement("reload.RoleMapper.selectRoles"),
+        configuration.getMappedStatement("selectRoles"));
+  }
+
+  @Test
+  void shouldRebuildAutoMappingPlansOfReloadedResultMaps() throws Exception {
+    Configuration configuration = build(false);
+    configuration.setAutoMappingPlanCacheSize(8);
+    configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(),
+        new UnpooledDataSource("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:xmlmapperreloaderplans", "sa", "")));
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      sqlSession.update("reload.UserMapper.createTable");
+      sqlSession.insert("reload.UserMapper.insert", user(1, "foo"));
+      Map<String, Object> user = sqlSession.selectOne("reload.UserMapper.selectUser", 1);
+      assertThat(user).containsOnlyKeys("name");
+    }
+
+    // the name column is auto-mapped once the result map no longer maps it
+    Files.write(userMapper, USER_MAPPER.replace("<result property=\"name\" column=\"name\"/>", "")
+        .getBytes(StandardCharsets.UTF_8));
+    reloader.reloadChanged();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      Map<String, Object> user = sqlSession.selectOne("reload.UserMapper.selectUser", 1);
+      assertThat(user).containsOnlyKeys("NAME");
+    }
+  }
+
+  @Test
+  void shouldRunQueriesWhileReloading() throws Exception {
+    Configuration configuration = build(false);
+    configuration.setEnvironment(new Environment("test", new JdbcTransactionFactory(),
+        new UnpooledDataSource("org.hsqldb.jdbcDriver", "jdbc:hsqldb:mem:xmlmapperreloaderconcurrent", "sa", "")));
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+      sqlSession.update("reload.UserMapper.createTable");
+      sqlSession.insert("reload.UserMapper.insert", user(1, "foo"));
+    }
+
+    AtomicBoolean reloading = new AtomicBoolean(true);
+    List<Throwable> errors = new CopyOnWriteArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 4; i++) {
+      executor.execute(() -> {
+        while (reloading.get()) {
+          try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            assertEquals("foo", sqlSession.selectOne("reload.UserMapper.selectName", 1));
+            Map<String, Object> user = sqlSession.selectOne("reload.UserMapper.selectUser", 1);
+            assertEquals("foo", user.get("name"));
+            assertThat(configuration.getResultMap("reload.UserMapper.userMap").getResultMappings()).hasSize(1);
+            assertThat(configuration.hasResultMap("userMap")).isTrue();
+          } catch (Throwable e) {
+            errors.add(e);
+          }
+        }
+      });
+    }
+    try {
+      String reformatted = USER_MAPPER.replace("  <", "    <");
+      for (int i = 0; i < 50 && errors.isEmpty(); i++) {
+        Files.write(userMapper, (i % 2 == 0 ? reformatted : USER_MAPPER).getBytes(StandardCharsets.UTF_8));
+        reloader.reload(userMapper.toUri().toString());
+      }
+    } finally {
+      reloading.set(false);
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    assertThat(errors).isEmpty();
+  }
+
+  @Test
+  void shouldReloadLazilyBuiltStatements() throws Exception {
+    Configuration configuration = build(true);
+    XMLMapperReloader reloader = new XMLMapperReloader(configuration);
+    assertThat(configuration.getMappedStatement("reload.UserMapper.selectName").getBoundSql(1).getSql())
+        .doesNotContain("upper");
+
+    changeUserMapper();
+    reloader.reload(userMapper.toUri().toString());
+    assertThat(configuration.getMappedStatement("reload.UserMapper.selectName").getBoundSql(1).getSql())
+        .contains("upper(name)");
+    assertThat(configuration.hasStatement("reload.UserMapper.selectUser")).isFalse();
+    assertThat(configuration.hasStatement("reload.UserMapper.countUsers")).isTrue();
+  }
+
+  private void changeUserMapper() throws Exception {
+    Files.write(userMapper, USER_MAPPER
+        .replace("<sql id=\"nameColumn\">name</sql>", "<sql id=\"upperNameColumn\">upper(name)</sql>")
+        .replace("refid=\"nameColumn\"", "refid=\"upperNameColumn\"")
+        .replace("<select id=\"selectUser\" resultMap=\"userMap\">select name from users where id = #{id}</select>",
+            "<select id=\"countUsers\" resultType=\"int\">select count(*) from users</select>")
+        .replaceAll("(?s)<resultMap.*</resultMap>", "")
+        .getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<String, Object> user(int id, String name) {
+    Map<String, Object> user = new HashMap<>();
+    user.put("id", id);
+    user.put("name", name);
+    return user;
+  }
+
+  private Configuration build(boolean lazy) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"lazyStatementBuilding\" value=\"" + lazy + "\"/>\n"
+        + "  </settings>\n"
+        + "  <mappers>\n"
+        + "    <mapper url=\"" + userMapper.toUri() + "\"/>\n"
+        + "    <mapper url=\"" + roleMapper.toUri() + "\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    return new XMLConfigBuilder(new StringReader(config)).parse();
+  }
+
+}
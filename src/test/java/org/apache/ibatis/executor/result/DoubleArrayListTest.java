@@ -0,0 +1,94 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleArrayListTest {
+
+  @Test
+  void shouldBehaveAsList() {
+    DoubleArrayList list = new DoubleArrayList();
+    for (int i = 0; i < 20; i++) {
+      list.addDouble(i / 2d);
+    }
+    list.add(null);
+    list.add(0, null);
+    list.add(1, -1d);
+    list.remove(3);
+    list.set(2, 100d);
+    assertThat(list).hasSize(22);
+    assertThat(list.subList(0, 5)).containsExactly(null, -1d, 100d, 1d, 1.5);
+    assertThat(list.subList(20, 22)).containsExactly(9.5, null);
+    assertThat(list.indexOf(null)).isZero();
+    assertThat(list.indexOf(9.5)).isEqualTo(20);
+    assertThat(list.lastIndexOf(null)).isEqualTo(21);
+    assertThat(list.contains(0.5)).isFalse();
+    assertThat(list).isEqualTo(new ArrayList<>(list));
+    assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+
+    list.remove(0);
+    list.remove(list.size() - 1);
+    assertThat(list.toDoubleArray()).startsWith(-1d, 100d, 1d).hasSize(20);
+    assertThat(list.getDouble(1)).isEqualTo(100d);
+  }
+
+  @Test
+  void shouldCompareValuesAsDoubleEquals() {
+    DoubleArrayList list = new DoubleArrayList();
+    list.addDouble(0d);
+    list.addDouble(Double.NaN);
+    list.addDouble(-0d);
+    assertThat(list.indexOf(Double.NaN)).isEqualTo(1);
+    assertThat(list.indexOf(-0d)).isEqualTo(2);
+    assertThat(list).isEqualTo(Arrays.asList(0d, Double.NaN, -0d));
+  }
+
+  @Test
+  void shouldNotReadNullsAsValues() {
+    DoubleArrayList list = new DoubleArrayList();
+    list.addDouble(0d);
+    list.add(null);
+    assertThat(list.get(1)).isNull();
+    assertThatThrownBy(() -> list.getDouble(1)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(list::toDoubleArray).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void shouldSerializeValuesAndNulls() throws Exception {
+    DoubleArrayList list = new DoubleArrayList();
+    list.addAll(Arrays.asList(3d, null, 5.5));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(DoubleArrayList.class).isEqualTo(Arrays.asList(3d, null, 5.5));
+    }
+  }
+
+}
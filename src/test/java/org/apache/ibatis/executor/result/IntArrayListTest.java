@@ -0,0 +1,83 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class IntArrayListTest {
+
+  @Test
+  void shouldBehaveAsList() {
+    IntArrayList list = new IntArrayList();
+    for (int i = 0; i < 20; i++) {
+      list.addInt(i);
+    }
+    list.add(null);
+    list.add(0, null);
+    list.add(1, -1);
+    list.remove(3);
+    list.set(2, 100);
+    assertThat(list).hasSize(22);
+    assertThat(list.subList(0, 5)).containsExactly(null, -1, 100, 2, 3);
+    assertThat(list.subList(20, 22)).containsExactly(19, null);
+    assertThat(list.indexOf(null)).isZero();
+    assertThat(list.indexOf(19)).isEqualTo(20);
+    assertThat(list.lastIndexOf(null)).isEqualTo(21);
+    assertThat(list.contains(1)).isFalse();
+    assertThat(list).isEqualTo(new ArrayList<>(list));
+    assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+
+    list.remove(0);
+    list.remove(list.size() - 1);
+    assertThat(list.toIntArray()).startsWith(-1, 100, 2).hasSize(20);
+    assertThat(list.getInt(1)).isEqualTo(100);
+  }
+
+  @Test
+  void shouldNotReadNullsAsValues() {
+    IntArrayList list = new IntArrayList();
+    list.addInt(0);
+    list.add(null);
+    assertThat(list.get(1)).isNull();
+    assertThatThrownBy(() -> list.getInt(1)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(list::toIntArray).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void shouldSerializeValuesAndNulls() throws Exception {
+    IntArrayList list = new IntArrayList();
+    list.addAll(Arrays.asList(3, null, 5));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(IntArrayList.class).isEqualTo(Arrays.asList(3, null, 5));
+    }
+  }
+
+}
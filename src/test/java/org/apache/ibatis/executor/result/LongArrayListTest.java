@@ -0,0 +1,85 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class LongArrayListTest {
+
+  @Test
+  void shouldBehaveAsList() {
+    LongArrayList list = new LongArrayList();
+    for (int i = 0; i < 20; i++) {
+      list.addLong(i * 1_000_000_000L);
+    }
+    list.add(null);
+    list.add(0, null);
+    list.add(1, -1L);
+    list.remove(3);
+    list.set(2, 100L);
+    assertThat(list).hasSize(22);
+    assertThat(list.subList(0, 5)).containsExactly(null, -1L, 100L, 2_000_000_000L, 3_000_000_000L);
+    assertThat(list.subList(20, 22)).containsExactly(19_000_000_000L, null);
+    assertThat(list.indexOf(null)).isZero();
+    assertThat(list.indexOf(19_000_000_000L)).isEqualTo(20);
+    assertThat(list.lastIndexOf(null)).isEqualTo(21);
+    assertThat(list.contains(1_000_000_000L)).isFalse();
+    // an Integer is not equal to a Long
+    assertThat(list.contains(100)).isFalse();
+    assertThat(list).isEqualTo(new ArrayList<>(list));
+    assertThat(list.hashCode()).isEqualTo(new ArrayList<>(list).hashCode());
+
+    list.remove(0);
+    list.remove(list.size() - 1);
+    assertThat(list.toLongArray()).startsWith(-1L, 100L, 2_000_000_000L).hasSize(20);
+    assertThat(list.getLong(1)).isEqualTo(100L);
+  }
+
+  @Test
+  void shouldNotReadNullsAsValues() {
+    LongArrayList list = new LongArrayList();
+    list.addLong(0L);
+    list.add(null);
+    assertThat(list.get(1)).isNull();
+    assertThatThrownBy(() -> list.getLong(1)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(list::toLongArray).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> list.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void shouldSerializeValuesAndNulls() throws Exception {
+    LongArrayList list = new LongArrayList();
+    list.addAll(Arrays.asList(3L, null, 5L));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(LongArrayList.class).isEqualTo(Arrays.asList(3L, null, 5L));
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.Test;
+
+class AutoMappingPlanCacheTest {
+
+  private static final List<String> CLASS_NAMES = Arrays.asList("java.lang.Integer", "java.lang.String");
+
+  @Test
+  void shouldSharePlansOfSameLayout() {
+    AutoMappingPlanCache cache = new AutoMappingPlanCache(10);
+    AutoMappingPlanCache.Plans plans = cache.getPlans(Arrays.asList("ID", "NAME"),
+        Arrays.asList(JdbcType.INTEGER, JdbcType.VARCHAR), CLASS_NAMES);
+    assertThat(cache.getPlans(Arrays.asList("ID", "NAME"), Arrays.asList(JdbcType.INTEGER, JdbcType.VARCHAR),
+        CLASS_NAMES)).isSameAs(plans);
+    assertThat(cache.getPlans(Arrays.asList("ID", "NAME"), Arrays.asList(JdbcType.INTEGER, JdbcType.CLOB),
+        CLASS_NAMES)).isNotSameAs(plans);
+    assertThat(cache.getPlans(Arrays.asList("id", "name"), Arrays.asList(JdbcType.INTEGER, JdbcType.VARCHAR),
+        CLASS_NAMES)).isNotSameAs(plans);
+    assertThat(cache.size()).isEqualTo(3);
+    cache.clear();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldDropLeastRecentlyUsedLayouts() {
+    AutoMappingPlanCache cache = new AutoMappingPlanCache(2);
+    AutoMappingPlanCache.Plans first = plans(cache, "A");
+    plans(cache, "B");
+    assertThat(plans(cache, "A")).isSameAs(first);
+    plans(cache, "C");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(plans(cache, "A")).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotShareColumnsWithoutName() {
+    AutoMappingPlanCache cache = new AutoMappingPlanCache(2);
+    assertThat(cache.getPlans(Collections.singletonList(null), Collections.singletonList(JdbcType.INTEGER),
+        Collections.singletonList("java.lang.Integer"))).isNull();
+    assertThatThrownBy(() -> new AutoMappingPlanCache(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static AutoMappingPlanCache.Plans plans(AutoMappingPlanCache cache, String columnName) {
+    return cache.getPlans(Collections.singletonList(columnName), Collections.singletonList(JdbcType.INTEGER),
+        Collections.singletonList("java.lang.Integer"));
+  }
+
+}
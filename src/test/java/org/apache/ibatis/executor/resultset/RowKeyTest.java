@@ -0,0 +1,61 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class RowKeyTest {
+
+  @Test
+  void shouldCompareResultMapPrefixAndValues() {
+    RowKey key = new RowKey("map", "a_", new Object[] { 1, "x", new byte[] { 1 } });
+    assertThat(key).isEqualTo(new RowKey("map", "a_", new Object[] { 1, "x", new byte[] { 1 } }))
+        .hasSameHashCodeAs(new RowKey("map", "a_", new Object[] { 1, "x", new byte[] { 1 } }));
+    assertThat(key).isNotEqualTo(new RowKey("other", "a_", new Object[] { 1, "x", new byte[] { 1 } }))
+        .isNotEqualTo(new RowKey("map", "b_", new Object[] { 1, "x", new byte[] { 1 } }))
+        .isNotEqualTo(new RowKey("map", null, new Object[] { 1, "x", new byte[] { 1 } }))
+        .isNotEqualTo(new RowKey("map", "a_", new Object[] { 1, null, new byte[] { 1 } }));
+  }
+
+  @Test
+  void shouldCompareParentKeys() {
+    RowKey parent = new RowKey("parent", null, new Object[] { 1 });
+    RowKey key = new RowKey("map", "a_", new Object[] { 1 });
+    assertThat(key.withParent(parent)).isEqualTo(key.withParent(new RowKey("parent", null, new Object[] { 1 })))
+        .isNotEqualTo(key.withParent(new RowKey("parent", null, new Object[] { 2 })))
+        .isNotEqualTo(key);
+    assertThat(key.withParent(RowKey.NULL_ROW_KEY)).isSameAs(RowKey.NULL_ROW_KEY);
+    assertThat(RowKey.NULL_ROW_KEY.withParent(parent)).isSameAs(RowKey.NULL_ROW_KEY);
+  }
+
+  @Test
+  void shouldSpreadKeysOfRelatedIds() {
+    Set<Integer> hashCodes = new HashSet<>();
+    for (int parentId = 0; parentId < 100; parentId++) {
+      RowKey parent = new RowKey("parent", null, new Object[] { parentId });
+      for (int id = 0; id < 1000; id++) {
+        hashCodes.add(new RowKey("child", "child_", new Object[] { parentId * 1000 + id }).withParent(parent).hashCode());
+      }
+    }
+    assertThat(hashCodes).hasSizeGreaterThan(99_900);
+  }
+
+}
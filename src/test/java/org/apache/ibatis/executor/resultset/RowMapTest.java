@@ -0,0 +1,98 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RowMapTest {
+
+  private final RowMap.Schema schema = new RowMap.Schema(Arrays.asList("ID", "NAME", "ID", "EMAIL"));
+
+  @Test
+  void shouldBehaveAsMap() {
+    RowMap row = new RowMap(schema);
+    assertThat(row).isEmpty();
+    assertThat(row.put("ID", 1)).isNull();
+    assertThat(row.put("NAME", null)).isNull();
+    assertThat(row.put("other", "value")).isNull();
+    assertThat(row.put("ID", 2)).isEqualTo(1);
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("ID", 2);
+    expected.put("NAME", null);
+    expected.put("other", "value");
+    assertThat(row).isEqualTo(expected).hasSameHashCodeAs(expected).hasSize(3);
+    assertThat(row.containsKey("NAME")).isTrue();
+    assertThat(row.containsKey("EMAIL")).isFalse();
+    assertThat(row.get("EMAIL")).isNull();
+    assertThat(row.keySet()).containsExactly("ID", "NAME", "other");
+
+    assertThat(row.remove("ID")).isEqualTo(2);
+    assertThat(row.remove("ID")).isNull();
+    assertThat(row.remove("other")).isEqualTo("value");
+    assertThat(row).containsOnlyKeys("NAME");
+    row.clear();
+    assertThat(row).isEmpty();
+  }
+
+  @Test
+  void shouldUpdateThroughEntries() {
+    RowMap row = new RowMap(schema);
+    row.put("ID", 1);
+    row.put("EMAIL", "a@b.c");
+    row.put("other", "value");
+    for (Map.Entry<String, Object> entry : row.entrySet()) {
+      if (entry.getKey().equals("ID")) {
+        entry.setValue(10);
+      }
+    }
+    Iterator<String> keys = row.keySet().iterator();
+    while (keys.hasNext()) {
+      String key = keys.next();
+      if (!key.equals("ID")) {
+        keys.remove();
+      }
+    }
+    assertThat(row).containsExactly(entry("ID", 10));
+  }
+
+  @Test
+  void shouldSerializeAsHashMap() throws Exception {
+    RowMap row = new RowMap(schema);
+    row.put("ID", 1);
+    row.put("other", "value");
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(row);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject()).isInstanceOf(HashMap.class).isEqualTo(row);
+    }
+  }
+
+}
@@ -0,0 +1,177 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassIndexProcessorTest {
+
+  @TempDir
+  Path outputDirectory;
+
+  @Test
+  void shouldIndexCompiledClasses() throws Exception {
+    compile(new Source("indexed/mappers/UserMapper", "package indexed.mappers;\n"
+        + "public interface UserMapper {\n"
+        + "  interface Nested {}\n"
+        + "}\n"), new Source("indexed/domain/User", "package indexed.domain;\n"
+        + "public class User {\n"
+        + "  Runnable task = new Runnable() { public void run() {} };\n"
+        + "}\n"));
+    assertThat(index("indexed")).containsExactly("indexed/domain/User.class",
+        "indexed/mappers/UserMapper$Nested.class", "indexed/mappers/UserMapper.class");
+  }
+
+  @Test
+  void shouldKeepExistingClassesOfPreviousIndex() throws Exception {
+    compile(new Source("indexed/mappers/UserMapper", "package indexed.mappers;\npublic interface UserMapper {}\n"),
+        new Source("indexed/mappers/RoleMapper", "package indexed.mappers;\npublic interface RoleMapper {}\n"));
+    Files.delete(outputDirectory.resolve("indexed/mappers/RoleMapper.class"));
+    compile(new Source("indexed/mappers/GroupMapper", "package indexed.mappers;\npublic interface GroupMapper {}\n"));
+    assertThat(index("indexed.mappers")).containsExactly("indexed/mappers/GroupMapper.class",
+        "indexed/mappers/UserMapper.class");
+  }
+
+  @Test
+  void shouldKeepClassesWithDollarInTheirNameOfPreviousIndex() throws Exception {
+    compile(new Source("indexed/mappers/User$Mapper", "package indexed.mappers;\npublic interface User$Mapper {}\n"));
+    compile(new Source("indexed/mappers/RoleMapper", "package indexed.mappers;\npublic interface RoleMapper {}\n"));
+    assertThat(index("indexed.mappers")).containsExactly("indexed/mappers/RoleMapper.class",
+        "indexed/mappers/User$Mapper.class");
+  }
+
+  @Test
+  void shouldNameIndexByOption() throws Exception {
+    compile(Collections.singletonList("-A" + ClassIndexProcessor.NAME_OPTION + "=users"),
+        new Source("indexed/mappers/UserMapper", "package indexed.mappers;\npublic interface UserMapper {}\n"));
+    assertThat(index("users")).containsExactly("indexed/mappers/UserMapper.class");
+  }
+
+  @Test
+  void shouldMergeIndexesOfModulesAndScanPackagesTheyDoNotList() throws Exception {
+    compile(new Source("indexed/mappers/UserMapper", "package indexed.mappers;\npublic interface UserMapper {}\n"));
+    compile(new Source("indexed/roles/RoleMapper", "package indexed.roles;\npublic interface RoleMapper {}\n"));
+    // a module merged into the same root without an index
+    compile(new Source("unindexed/GroupMapper", "package unindexed;\npublic interface GroupMapper {}\n"));
+    Files.delete(outputDirectory.resolve(ClassIndex.LOCATION + "/unindexed"));
+
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+        contextClassLoader)) {
+      Thread.currentThread().setContextClassLoader(classLoader);
+      ResolverUtil<Object> resolverUtil = new ResolverUtil<>();
+      resolverUtil.find(new ResolverUtil.IsA(Object.class), "indexed");
+      assertThat(resolverUtil.getClasses()).extracting(Class::getName)
+          .containsExactlyInAnyOrder("indexed.mappers.UserMapper", "indexed.roles.RoleMapper");
+
+      resolverUtil = new ResolverUtil<>();
+      resolverUtil.find(new ResolverUtil.IsA(Object.class), "unindexed");
+      assertThat(resolverUtil.getClasses()).extracting(Class::getName).containsExactly("unindexed.GroupMapper");
+    } finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  @Test
+  void shouldFindClassesThroughIndex() throws Exception {
+    compile(new Source("indexed/mappers/UserMapper", "package indexed.mappers;\npublic interface UserMapper {}\n"),
+        new Source("indexed/mappers/RoleMapper", "package indexed.mappers;\npublic interface RoleMapper {}\n"),
+        new Source("indexed/mappers/sub/GroupMapper",
+            "package indexed.mappers.sub;\npublic interface GroupMapper {}\n"));
+    // the index is trusted, a class that is not listed is not found
+    Path index = outputDirectory.resolve(ClassIndex.LOCATION + "/indexed.mappers");
+    Files.write(index, index("indexed.mappers").stream().filter(name -> !name.contains("RoleMapper")).collect(Collectors.toList()));
+
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+        contextClassLoader)) {
+      Thread.currentThread().setContextClassLoader(classLoader);
+      ResolverUtil<Object> resolverUtil = new ResolverUtil<>();
+      resolverUtil.find(new ResolverUtil.IsA(Object.class), "indexed.mappers");
+      assertThat(resolverUtil.getClasses()).extracting(Class::getName)
+          .containsExactlyInAnyOrder("indexed.mappers.UserMapper", "indexed.mappers.sub.GroupMapper");
+
+      // roots without an index are still scanned
+      resolverUtil = new ResolverUtil<>();
+      resolverUtil.findImplementations(VFS.class, "org.apache.ibatis.io");
+      assertThat(resolverUtil.getClasses()).contains(VFS.class, DefaultVFS.class, JBoss6VFS.class);
+    } finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  private List<String> index(String name) throws Exception {
+    return Files.readAllLines(outputDirectory.resolve(ClassIndex.LOCATION + "/" + name), StandardCharsets.UTF_8);
+  }
+
+  private void compile(Source... sources) throws Exception {
+    compile(Collections.emptyList(), sources);
+  }
+
+  private void compile(List<String> processorOptions, Source... sources) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+      File classes = new File(ClassIndexProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+      List<String> options = new ArrayList<>(Arrays.asList("-d", outputDirectory.toString(), "-classpath",
+          classes.getPath() + File.pathSeparator + outputDirectory));
+      options.addAll(processorOptions);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+          Arrays.asList(sources));
+      task.setProcessors(Collections.singletonList(new ClassIndexProcessor()));
+      assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+    }
+  }
+
+  private static class Source extends SimpleJavaFileObject {
+    private final String code;
+
+    Source(String name, String code) {
+      super(URI.create("string:///" + name + Kind.SOURCE.extension), Kind.SOURCE);
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+  }
+
+}
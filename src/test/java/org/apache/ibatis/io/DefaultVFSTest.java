@@ -0,0 +1,99 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultVFSTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldListJarEntriesAgainWhenJarChanges() throws Exception {
+    Path jar = directory.resolve("mappers.jar");
+    writeJar(jar, 1_000_000_000_000L, "scanned/a/A.class", "scanned/a/b/B.class", "scanned/C.class");
+    DefaultVFS vfs = new DefaultVFS();
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+      Thread.currentThread().setContextClassLoader(classLoader);
+      assertThat(vfs.list("scanned/a")).containsExactlyInAnyOrder("scanned/a/A.class", "scanned/a/b/B.class");
+      assertThat(vfs.list("scanned")).containsExactlyInAnyOrder("scanned/a/A.class", "scanned/a/b/B.class",
+          "scanned/C.class");
+    } finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+
+    writeJar(jar, 1_000_000_100_000L, "scanned/a/A.class", "scanned/a/D.class", "scanned/C.class");
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+      Thread.currentThread().setContextClassLoader(classLoader);
+      assertThat(vfs.list("scanned/a")).containsExactlyInAnyOrder("scanned/a/A.class", "scanned/a/D.class");
+    } finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  @Test
+  void shouldListDirectories() throws Exception {
+    Files.createDirectories(directory.resolve("scanned/a/b"));
+    Files.write(directory.resolve("scanned/a/A.class"), new byte[0]);
+    Files.write(directory.resolve("scanned/a/b/B.class"), new byte[0]);
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null)) {
+      Thread.currentThread().setContextClassLoader(classLoader);
+      assertThat(new DefaultVFS().list("scanned/a")).containsExactlyInAnyOrder("scanned/a/A.class", "scanned/a/b",
+          "scanned/a/b/B.class");
+    } finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  private static void writeJar(Path jar, long lastModified, String... names) throws Exception {
+    try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (String name : names) {
+        // directory entries, so that the packages are found by the class loader
+        String parent = name.substring(0, name.lastIndexOf('/') + 1);
+        for (int i = parent.indexOf('/'); i >= 0; i = parent.indexOf('/', i + 1)) {
+          putEntry(jarOut, parent.substring(0, i + 1));
+        }
+        putEntry(jarOut, name);
+      }
+    }
+    jar.toFile().setLastModified(lastModified);
+  }
+
+  private static void putEntry(JarOutputStream jarOut, String name) throws Exception {
+    try {
+      jarOut.putNextEntry(new JarEntry(name));
+      jarOut.closeEntry();
+    } catch (ZipException e) {
+      // duplicate directory entry
+    }
+  }
+
+}
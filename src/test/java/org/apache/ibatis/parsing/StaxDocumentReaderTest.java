@@ -0,0 +1,121 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.xml.XMLMapperEntityResolver;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+class StaxDocumentReaderTest {
+
+  @Test
+  void shouldReadMapperFilesLikeValidatingParser() throws Exception {
+    Path root = Paths.get(getClass().getResource("/org/apache/ibatis/submitted").toURI());
+    List<Path> mappers;
+    try (Stream<Path> files = Files.walk(root)) {
+      mappers = files.filter(file -> file.toString().endsWith(".xml")).filter(StaxDocumentReaderTest::isMapper)
+          .collect(Collectors.toList());
+    }
+    assertThat(mappers).hasSizeGreaterThan(100);
+    int compared = 0;
+    for (Path mapper : mappers) {
+      Document expected;
+      try (InputStream in = Files.newInputStream(mapper)) {
+        expected = new XPathParser(in, true, null, new XMLMapperEntityResolver()).evalNode("/*").getNode()
+            .getOwnerDocument();
+      } catch (BuilderException e) {
+        // intentionally invalid mapper
+        continue;
+      }
+      Document actual;
+      try (InputStream in = Files.newInputStream(mapper)) {
+        actual = StaxDocumentReader.read(in);
+      }
+      assertSameNode(mapper.toString(), expected.getDocumentElement(), actual.getDocumentElement());
+      compared++;
+    }
+    assertThat(compared).isGreaterThan(100);
+  }
+
+  @Test
+  void shouldKeepTextCdataAndEntities() {
+    Document document = StaxDocumentReader.read(new StringReader("<?xml version=\"1.0\"?>\n"
+        + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+        + "<!-- comment -->\n"
+        + "<mapper namespace=\"a&amp;b\"><select id=\"s\">select * <!-- inner --> from t where a &lt; 1"
+        + "<![CDATA[ and b < 2 ]]></select></mapper>"));
+    Node select = document.getDocumentElement().getFirstChild();
+    assertEquals("a&b", document.getDocumentElement().getAttribute("namespace"));
+    assertEquals(2, select.getChildNodes().getLength());
+    assertEquals("select *  from t where a < 1", select.getFirstChild().getNodeValue());
+    assertEquals(Node.CDATA_SECTION_NODE, select.getLastChild().getNodeType());
+    assertEquals(" and b < 2 ", select.getLastChild().getNodeValue());
+  }
+
+  @Test
+  void shouldRejectMalformedDocument() {
+    assertThrows(BuilderException.class, () -> StaxDocumentReader.read(new StringReader("<mapper><select></mapper>")));
+  }
+
+  private static boolean isMapper(Path file) {
+    try {
+      return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("-//mybatis.org//DTD Mapper 3.0//EN");
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private static void assertSameNode(String location, Node expected, Node actual) {
+    String path = location + ": " + expected.getNodeName();
+    assertEquals(expected.getNodeType(), actual.getNodeType(), path);
+    assertEquals(expected.getNodeName(), actual.getNodeName(), path);
+    assertEquals(expected.getNodeValue(), actual.getNodeValue(), path);
+    assertEquals(attributes(expected), attributes(actual), path);
+    assertEquals(expected.getChildNodes().getLength(), actual.getChildNodes().getLength(), path);
+    for (int i = 0; i < expected.getChildNodes().getLength(); i++) {
+      assertSameNode(location, expected.getChildNodes().item(i), actual.getChildNodes().item(i));
+    }
+  }
+
+  private static Map<String, String> attributes(Node node) {
+    Map<String, String> attributes = new TreeMap<>();
+    NamedNodeMap map = node.getAttributes();
+    for (int i = 0; map != null && i < map.getLength(); i++) {
+      attributes.put(map.item(i).getNodeName(), map.item(i).getNodeValue());
+    }
+    return attributes;
+  }
+
+}
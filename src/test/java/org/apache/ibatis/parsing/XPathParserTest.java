@@ -16,11 +16,14 @@
 package org.apache.ibatis.parsing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -146,6 +149,37 @@ class XPathParserTest {
     testEvalMethod(parser);
   }
 
+  @Test
+  void constructorWithStreamedDocument() throws IOException {
+    try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+      XPathParser parser = new XPathParser(StaxDocumentReader.read(inputStream));
+      testEvalMethod(parser);
+    }
+  }
+
+  @Test
+  void shouldEvaluateElementPathsLikeXPath() {
+    XPathParser xpathParser = new XPathParser(getDocument(resource));
+    XPathParser parser = new XPathParser(getDocument(resource));
+    parser.enableElementPaths();
+    XNode employee = parser.evalNode("/employee");
+    assertEquals(names(xpathParser.evalNodes("/employee/*")), names(parser.evalNodes("/employee/*")));
+    assertEquals(names(xpathParser.evalNode("/employee").evalNodes("birth_date/*")),
+        names(employee.evalNodes("birth_date/*")));
+    assertEquals(names(parser.evalNodes("/employee/child::*")), names(parser.evalNodes("/employee/*")));
+    assertEquals(names(employee.evalNodes("weight | first_name | height")),
+        names(employee.evalNodes("weight|first_name|height")));
+    assertEquals("[first_name, height, weight]", names(employee.evalNodes("weight|first_name|height")));
+    assertEquals("[year, month, day]", names(employee.evalNodes("birth_date/*")));
+    assertEquals("[employee]", names(employee.evalNodes("/employee")));
+    assertEquals("[]", names(employee.evalNodes("missing")));
+    assertNull(employee.evalNode("missing"));
+  }
+
+  private static String names(List<XNode> nodes) {
+    return nodes.stream().map(XNode::getName).collect(Collectors.toList()).toString();
+  }
+
   @Test
   void constructorWithDocument() {
     XPathParser parser = new XPathParser(getDocument(resource));
@@ -0,0 +1,202 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class InterceptorChainTest {
+
+  @Test
+  void shouldApplyInterceptorsLikeNestedPlugins() {
+    List<String> calls = new ArrayList<>();
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new GetInterceptor("first", calls));
+    chain.addInterceptor(new PutInterceptor("second", calls));
+    chain.addInterceptor(new GetInterceptor("third", calls));
+
+    Map<String, String> map = newMap(chain);
+    assertEquals("third(first(value))", map.get("key"));
+    assertEquals("[third, first]", calls.toString());
+    assertEquals(1, map.size());
+
+    calls.clear();
+    map.put("other", "value");
+    assertEquals("[second]", calls.toString());
+    assertEquals("second:value", new HashMap<>(map).get("other"));
+  }
+
+  @Test
+  void shouldWrapWithSingleProxy() {
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new GetInterceptor("first", new ArrayList<>()));
+    chain.addInterceptor(new GetInterceptor("second", new ArrayList<>()));
+    Map<String, String> map = newMap(chain);
+    assertTrue(Proxy.isProxyClass(map.getClass()));
+    assertFalse(Proxy.getInvocationHandler(map) instanceof Plugin);
+  }
+
+  @Test
+  void shouldExposeInnerInterceptorsThroughTarget() {
+    List<String> calls = new ArrayList<>();
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new GetInterceptor("first", calls));
+    chain.addInterceptor(new TargetInterceptor());
+    Map<String, String> map = newMap(chain);
+    // the outer interceptor calls the target directly instead of proceeding
+    assertEquals("first(value)", map.get("key"));
+    assertEquals("[first]", calls.toString());
+  }
+
+  @Test
+  void shouldApplyInterceptorsOverridingPluginInOrder() {
+    List<String> calls = new ArrayList<>();
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new GetInterceptor("first", calls));
+    chain.addInterceptor(new CustomPluginInterceptor("custom", calls));
+    chain.addInterceptor(new GetInterceptor("third", calls));
+    Map<String, String> map = newMap(chain);
+    assertEquals("third(custom(first(value)))", map.get("key"));
+  }
+
+  @Test
+  void shouldWrapExceptionsOfInnerInterceptors() {
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new FailingInterceptor());
+    chain.addInterceptor(new CatchingInterceptor());
+    Map<String, String> map = newMap(chain);
+    assertEquals("caught IllegalStateException", map.get("key"));
+  }
+
+  @Test
+  void shouldPropagateExceptionsUnwrapped() {
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new FailingInterceptor());
+    chain.addInterceptor(new GetInterceptor("second", new ArrayList<>()));
+    Map<String, String> map = newMap(chain);
+    assertThrows(IllegalStateException.class, () -> map.get("key"));
+  }
+
+  @Test
+  void shouldReturnTargetWhenNothingIsIntercepted() {
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(new GetInterceptor("first", new ArrayList<>()));
+    List<String> list = new ArrayList<>();
+    assertSame(list, chain.pluginAll(list));
+  }
+
+  @Test
+  void shouldRequireInterceptsAnnotation() {
+    InterceptorChain chain = new InterceptorChain();
+    chain.addInterceptor(invocation -> null);
+    assertThrows(PluginException.class, () -> chain.pluginAll(new HashMap<>()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> newMap(InterceptorChain chain) {
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "value");
+    return (Map<String, String>) chain.pluginAll(map);
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "get", args = Object.class))
+  static class GetInterceptor implements Interceptor {
+    private final String name;
+    private final List<String> calls;
+
+    GetInterceptor(String name, List<String> calls) {
+      this.name = name;
+      this.calls = calls;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      calls.add(name);
+      return name + "(" + invocation.proceed() + ")";
+    }
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "put", args = { Object.class, Object.class }))
+  static class PutInterceptor implements Interceptor {
+    private final String name;
+    private final List<String> calls;
+
+    PutInterceptor(String name, List<String> calls) {
+      this.name = name;
+      this.calls = calls;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      calls.add(name);
+      invocation.getArgs()[1] = name + ":" + invocation.getArgs()[1];
+      return invocation.proceed();
+    }
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "get", args = Object.class))
+  static class TargetInterceptor implements Interceptor {
+    @Override
+    public Object intercept(Invocation invocation) {
+      return ((Map<?, ?>) invocation.getTarget()).get(invocation.getArgs()[0]);
+    }
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "get", args = Object.class))
+  static class CustomPluginInterceptor extends GetInterceptor {
+    CustomPluginInterceptor(String name, List<String> calls) {
+      super(name, calls);
+    }
+
+    @Override
+    public Object plugin(Object target) {
+      return Plugin.wrap(target, this);
+    }
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "get", args = Object.class))
+  static class FailingInterceptor implements Interceptor {
+    @Override
+    public Object intercept(Invocation invocation) {
+      throw new IllegalStateException();
+    }
+  }
+
+  @Intercepts(@Signature(type = Map.class, method = "get", args = Object.class))
+  static class CatchingInterceptor implements Interceptor {
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      try {
+        return invocation.proceed();
+      } catch (InvocationTargetException e) {
+        return "caught " + e.getTargetException().getClass().getSimpleName();
+      }
+    }
+  }
+
+}
@@ -28,6 +28,10 @@ import org.apache.ibatis.domain.blog.Section;
 import org.apache.ibatis.domain.misc.CustomBeanWrapper;
 import org.apache.ibatis.domain.misc.CustomBeanWrapperFactory;
 import org.apache.ibatis.domain.misc.RichType;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+import org.apache.ibatis.reflection.wrapper.BeanWrapper;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapper;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapperFactory;
 import org.junit.jupiter.api.Test;
 
 class MetaObjectTest {
@@ -292,4 +296,66 @@ class MetaObjectTest {
     assertTrue(meta.hasGetter("filterParams[2]"));
   }
 
+  @Test
+  void shouldGetAndSetDeeplyNestedBeanPaths() {
+    RichType rich = new RichType();
+    MetaObject meta = SystemMetaObject.forObject(rich);
+    meta.setValue("richType.richType.richType.richProperty", "foo");
+    assertEquals("foo", rich.getRichType().getRichType().getRichType().getRichProperty());
+    assertEquals("foo", meta.getValue("richType.richType.richType.richProperty"));
+    assertNull(meta.getValue("richType.richType.richType.richType.richProperty"));
+    meta.setValue("richType.richType.richType.richType.richProperty", null);
+    assertNull(rich.getRichType().getRichType().getRichType().getRichType());
+  }
+
+  @Test
+  void shouldGetAndSetIndexedPropertiesInsideNestedPaths() {
+    RichType rich = new RichType();
+    RichType element = new RichType();
+    rich.setRichType(new RichType());
+    rich.getRichType().getRichList().add(element);
+    rich.getRichType().getRichMap().put("key", element);
+    MetaObject meta = SystemMetaObject.forObject(rich);
+    meta.setValue("richType.richList[1].richProperty", "foo");
+    meta.setValue("richType.richMap.key.richField", "bar");
+    assertEquals("foo", element.getRichProperty());
+    assertEquals("foo", meta.getValue("richType.richList[1].richProperty"));
+    assertEquals("bar", meta.getValue("richType.richMap[key].richField"));
+  }
+
+  @Test
+  void shouldUseObjectWrapperFactoryInsideNestedPaths() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("author", new Author(1, "cbegin", null, null, null, null));
+    ObjectWrapperFactory wrapperFactory = new ObjectWrapperFactory() {
+      @Override
+      public boolean hasWrapperFor(Object object) {
+        return object instanceof Author;
+      }
+
+      @Override
+      public ObjectWrapper getWrapperFor(MetaObject metaObject, Object object) {
+        return new BeanWrapper(metaObject, object) {
+          @Override
+          public Object get(PropertyTokenizer prop) {
+            return "wrapped " + super.get(prop);
+          }
+        };
+      }
+    };
+    MetaObject meta = MetaObject.forObject(map, SystemMetaObject.DEFAULT_OBJECT_FACTORY, wrapperFactory, new DefaultReflectorFactory());
+    assertEquals("wrapped cbegin", meta.getValue("author.username"));
+  }
+
+  @Test
+  void shouldReportMissingPropertiesInsideNestedPaths() {
+    RichType rich = new RichType();
+    rich.setRichType(new RichType());
+    MetaObject meta = SystemMetaObject.forObject(rich);
+    ReflectionException e = assertThrows(ReflectionException.class, () -> meta.getValue("richType.unknown"));
+    assertTrue(e.getMessage().contains("There is no getter for property named 'unknown'"));
+    e = assertThrows(ReflectionException.class, () -> meta.setValue("richType.unknown", "foo"));
+    assertTrue(e.getMessage().contains("Could not set property 'unknown'"));
+  }
+
 }
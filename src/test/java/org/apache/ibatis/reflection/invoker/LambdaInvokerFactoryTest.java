@@ -0,0 +1,191 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.invoker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.reflection.LambdaReflectorFactory;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.junit.jupiter.api.Test;
+
+class LambdaInvokerFactoryTest {
+
+  private final ReflectorFactory reflectorFactory = new LambdaReflectorFactory();
+
+  @Test
+  void shouldUseGeneratedInvokersForGettersSettersAndFields() {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    assertThat(reflector.getGetInvoker("name").getClass().getEnclosingClass()).isEqualTo(LambdaInvokerFactory.class);
+    assertThat(reflector.getSetInvoker("age").getClass().getEnclosingClass()).isEqualTo(LambdaInvokerFactory.class);
+    assertThat(reflector.getGetInvoker("code").getClass().getEnclosingClass()).isEqualTo(LambdaInvokerFactory.class);
+    assertThat(reflector.getSetInvoker("code").getClass().getEnclosingClass()).isEqualTo(LambdaInvokerFactory.class);
+  }
+
+  @Test
+  void shouldReadAndWriteProperties() throws Exception {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    Bean bean = new Bean();
+    reflector.getSetInvoker("name").invoke(bean, new Object[] { "foo" });
+    reflector.getSetInvoker("age").invoke(bean, new Object[] { 42 });
+    reflector.getSetInvoker("active").invoke(bean, new Object[] { true });
+    reflector.getSetInvoker("code").invoke(bean, new Object[] { 7L });
+    reflector.getSetInvoker("label").invoke(bean, new Object[] { "bar" });
+    assertEquals("foo", reflector.getGetInvoker("name").invoke(bean, new Object[0]));
+    assertEquals(42, reflector.getGetInvoker("age").invoke(bean, new Object[0]));
+    assertEquals(true, reflector.getGetInvoker("active").invoke(bean, new Object[0]));
+    assertEquals(7L, reflector.getGetInvoker("code").invoke(bean, new Object[0]));
+    assertEquals("bar", reflector.getGetInvoker("label").invoke(bean, new Object[0]));
+    assertEquals(int.class, reflector.getSetInvoker("age").getType());
+    assertEquals(long.class, reflector.getGetInvoker("code").getType());
+  }
+
+  @Test
+  void shouldWidenValuesOfOtherWrapperTypes() throws Exception {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    Bean bean = new Bean();
+    reflector.getSetInvoker("size").invoke(bean, new Object[] { 42 });
+    reflector.getSetInvoker("code").invoke(bean, new Object[] { 7 });
+    reflector.getSetInvoker("age").invoke(bean, new Object[] { (short) 3 });
+    assertEquals(42L, bean.getSize());
+    assertEquals(7L, reflector.getGetInvoker("code").invoke(bean, new Object[0]));
+    assertEquals(3, bean.getAge());
+    assertThrows(ClassCastException.class, () -> reflector.getSetInvoker("age").invoke(bean, new Object[] { 4L }));
+  }
+
+  @Test
+  void shouldRejectNullForPrimitiveProperties() {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    Bean bean = new Bean();
+    assertThrows(IllegalArgumentException.class,
+        () -> reflector.getSetInvoker("age").invoke(bean, new Object[] { null }));
+    assertThrows(IllegalArgumentException.class,
+        () -> reflector.getSetInvoker("code").invoke(bean, new Object[] { null }));
+  }
+
+  @Test
+  void shouldPropagateExceptionsThrownByAccessors() {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    Bean bean = new Bean();
+    IllegalStateException e = assertThrows(IllegalStateException.class,
+        () -> reflector.getGetInvoker("broken").invoke(bean, new Object[0]));
+    assertEquals("broken", e.getMessage());
+  }
+
+  @Test
+  void shouldWorkThroughMetaObject() {
+    Bean bean = new Bean();
+    MetaObject metaObject = MetaObject.forObject(bean, SystemMetaObject.DEFAULT_OBJECT_FACTORY,
+        SystemMetaObject.DEFAULT_OBJECT_WRAPPER_FACTORY, reflectorFactory);
+    metaObject.setValue("name", "foo");
+    metaObject.setValue("child.name", "bar");
+    metaObject.setValue("child.age", 3);
+    assertEquals("foo", bean.getName());
+    assertEquals("bar", bean.getChild().getName());
+    assertEquals(3, metaObject.getValue("child.age"));
+    assertNull(metaObject.getValue("label"));
+    assertThrows(ReflectionException.class, () -> metaObject.setValue("age", null));
+  }
+
+  @Test
+  void shouldResolveGenericTypesOfGeneratedInvokers() {
+    MetaClass metaClass = MetaClass.forClass(Bean.class, reflectorFactory);
+    assertEquals(Bean.class, metaClass.getGetterType("children[0]"));
+    assertEquals(String.class, metaClass.getGetterType("children[0].name"));
+  }
+
+  @Test
+  void shouldFallBackToReflectionForJdkClasses() throws Exception {
+    Reflector reflector = reflectorFactory.findForClass(ArrayList.class);
+    assertEquals(MethodInvoker.class, reflector.getGetInvoker("empty").getClass());
+    assertEquals(true, reflector.getGetInvoker("empty").invoke(new ArrayList<>(), new Object[0]));
+  }
+
+  static class Bean {
+    private String name;
+    private int age;
+    private boolean active;
+    private long code;
+    private long size;
+    private final String label = null;
+    private Bean child;
+    private List<Bean> children;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    int getAge() {
+      return age;
+    }
+
+    void setAge(int age) {
+      this.age = age;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public Bean setActive(boolean active) {
+      this.active = active;
+      return this;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public void setSize(long size) {
+      this.size = size;
+    }
+
+    public Bean getChild() {
+      return child;
+    }
+
+    public void setChild(Bean child) {
+      this.child = child;
+    }
+
+    public List<Bean> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<Bean> children) {
+      this.children = children;
+    }
+
+    public String getBroken() {
+      throw new IllegalStateException("broken");
+    }
+  }
+
+}
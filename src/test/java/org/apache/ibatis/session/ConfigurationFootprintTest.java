@@ -0,0 +1,107 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.mapping.ResultMap;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationFootprintTest {
+
+  private static final String POST_MAPPER = "org.apache.ibatis.domain.blog.mappers.PostMapper";
+
+  @Test
+  void shouldReportElementsAndRetainedXml() {
+    Configuration configuration = build(false, false);
+    ConfigurationFootprint footprint = configuration.getFootprint();
+    assertThat(footprint.getMappedStatements()).isEqualTo(configuration.getMappedStatementNames().stream()
+        .filter(name -> name.indexOf('.') > 0).count());
+    assertThat(footprint.getResultMaps()).isPositive();
+    assertThat(footprint.getResultMappings()).isPositive();
+    assertThat(footprint.getSqlFragments()).isEqualTo(1);
+    assertThat(footprint.getXmlDocuments()).isEqualTo(1);
+    assertThat(footprint.getXmlNodes()).isPositive();
+    assertThat(footprint.getUnbuiltStatements()).isZero();
+    // the column and property names are shared
+    assertThat(footprint.getMappingNames()).isPositive();
+    assertThat(footprint.getDuplicateMappingNames()).isZero();
+  }
+
+  @Test
+  void shouldShareMappingLists() {
+    Configuration configuration = build(false, false);
+    ResultMap resultMap = configuration.getResultMap(POST_MAPPER + ".postLiteIdMap");
+    assertThat(resultMap.getIdResultMappings()).isSameAs(resultMap.getResultMappings());
+    assertThat(resultMap.getPropertyResultMappings()).isEmpty();
+    assertThat(resultMap.getMappedProperties()).isEmpty();
+  }
+
+  @Test
+  void shouldReleaseSqlFragmentsWhenCompacted() {
+    Configuration configuration = build(false, true);
+    new SqlSessionFactoryBuilder().build(configuration);
+    assertThat(configuration.getSqlFragments()).isEmpty();
+    assertThat(configuration.getFootprint().getXmlDocuments()).isZero();
+    assertThat(configuration.getMappedStatement(POST_MAPPER + ".findPost")).isNotNull();
+  }
+
+  @Test
+  void shouldKeepSqlFragmentsOfUnbuiltStatements() {
+    Configuration configuration = build(true, true);
+    new SqlSessionFactoryBuilder().build(configuration);
+    assertThat(configuration.getFootprint().getUnbuiltStatements()).isPositive();
+    assertThat(configuration.getSqlFragments()).isNotEmpty();
+
+    int unbuilt = configuration.getFootprint().getUnbuiltStatements();
+    assertThat(configuration.getMappedStatement(POST_MAPPER + ".findPost")).isNotNull();
+    assertThat(configuration.getFootprint().getUnbuiltStatements()).isEqualTo(unbuilt - 1);
+
+    configuration.getMappedStatements();
+    configuration.compact();
+    assertThat(configuration.getFootprint().getUnbuiltStatements()).isZero();
+    assertThat(configuration.getSqlFragments()).isEmpty();
+  }
+
+  private static Configuration build(boolean lazy, boolean compact) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"lazyStatementBuilding\" value=\"" + lazy + "\"/>\n"
+        + "    <setting name=\"compactConfiguration\" value=\"" + compact + "\"/>\n"
+        + "  </settings>\n"
+        + "  <typeAliases>\n"
+        + "    <typeAlias alias=\"Author\" type=\"org.apache.ibatis.domain.blog.Author\"/>\n"
+        + "    <typeAlias alias=\"Blog\" type=\"org.apache.ibatis.domain.blog.Blog\"/>\n"
+        + "    <typeAlias alias=\"Comment\" type=\"org.apache.ibatis.domain.blog.Comment\"/>\n"
+        + "    <typeAlias alias=\"Post\" type=\"org.apache.ibatis.domain.blog.Post\"/>\n"
+        + "    <typeAlias alias=\"Section\" type=\"org.apache.ibatis.domain.blog.Section\"/>\n"
+        + "    <typeAlias alias=\"Tag\" type=\"org.apache.ibatis.domain.blog.Tag\"/>\n"
+        + "  </typeAliases>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/BlogMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/PostMapper.xml\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    return new XMLConfigBuilder(new StringReader(config)).parse();
+  }
+
+}
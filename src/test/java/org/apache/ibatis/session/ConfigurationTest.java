@@ -0,0 +1,86 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.builder.xml.XMLStatementBuilder;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.parsing.XPathParser;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationTest {
+
+  @Test
+  void shouldFindStatementsAddedAfterLookup() {
+    Configuration configuration = new Configuration();
+    MappedStatement first = addStatement(configuration, "ns.first");
+    assertSame(first, configuration.getMappedStatement("ns.first"));
+    assertSame(first, configuration.getMappedStatement("first"));
+
+    MappedStatement second = addStatement(configuration, "ns.second");
+    assertTrue(configuration.hasStatement("ns.second"));
+    assertSame(second, configuration.getMappedStatement("ns.second"));
+    assertSame(first, configuration.getMappedStatement("ns.first"));
+  }
+
+  @Test
+  void shouldReportUnknownAndAmbiguousStatements() {
+    Configuration configuration = new Configuration();
+    MappedStatement statement = addStatement(configuration, "ns1.select");
+    assertSame(statement, configuration.getMappedStatement("select"));
+    addStatement(configuration, "ns2.select");
+
+    assertThat(configuration.getMappedStatement("ns2.select").getId()).isEqualTo("ns2.select");
+    for (int i = 0; i < 2; i++) {
+      assertThat(assertThrows(IllegalArgumentException.class, () -> configuration.getMappedStatement("select"))
+          .getMessage()).contains("select is ambiguous");
+      assertThat(assertThrows(IllegalArgumentException.class, () -> configuration.getMappedStatement("ns.missing"))
+          .getMessage()).contains("does not contain value for ns.missing");
+    }
+    assertFalse(configuration.hasStatement("ns.missing"));
+  }
+
+  @Test
+  void shouldBuildIncompleteStatementsAddedAfterLookup() {
+    Configuration configuration = new Configuration();
+    addStatement(configuration, "ns.first");
+    configuration.getMappedStatement("ns.first");
+
+    MapperBuilderAssistant assistant = new MapperBuilderAssistant(configuration, "test");
+    assistant.setCurrentNamespace("ns");
+    XPathParser parser = new XPathParser("<select id=\"late\" resultType=\"int\">select 1</select>");
+    configuration.addIncompleteStatement(new XMLStatementBuilder(configuration, assistant, parser.evalNode("/select")));
+
+    assertThat(configuration.getMappedStatement("ns.late").getSqlCommandType()).isEqualTo(SqlCommandType.SELECT);
+    assertThat(configuration.getIncompleteStatements()).isEmpty();
+  }
+
+  private static MappedStatement addStatement(Configuration configuration, String id) {
+    MappedStatement statement = new MappedStatement.Builder(configuration, id,
+        new StaticSqlSource(configuration, "select 1"), SqlCommandType.SELECT).build();
+    configuration.addMappedStatement(statement);
+    return statement;
+  }
+
+}
@@ -0,0 +1,102 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.builder.xml.XMLConfigBuilder;
+import org.apache.ibatis.domain.blog.Author;
+import org.apache.ibatis.domain.blog.Blog;
+import org.apache.ibatis.domain.blog.Comment;
+import org.apache.ibatis.domain.blog.Post;
+import org.apache.ibatis.domain.blog.Section;
+import org.apache.ibatis.domain.blog.Tag;
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.Reflector;
+import org.junit.jupiter.api.Test;
+
+class ReflectorWarmUpTest {
+
+  @Test
+  void shouldBuildReflectorsOfMappedTypes() {
+    RecordingReflectorFactory reflectorFactory = new RecordingReflectorFactory();
+    Configuration configuration = build(reflectorFactory, true, false);
+    assertThat(reflectorFactory.types).isEmpty();
+
+    new SqlSessionFactoryBuilder().build(configuration);
+    assertThat(reflectorFactory.types).contains(Author.class, Blog.class, Post.class, Comment.class, Tag.class)
+        .doesNotContain(String.class, Integer.class, Section.class, Object.class);
+  }
+
+  @Test
+  void shouldNotBuildReflectorsByDefault() {
+    RecordingReflectorFactory reflectorFactory = new RecordingReflectorFactory();
+    new SqlSessionFactoryBuilder().build(build(reflectorFactory, false, false));
+    assertThat(reflectorFactory.types).isEmpty();
+  }
+
+  @Test
+  void shouldNotBuildLazyStatements() {
+    RecordingReflectorFactory reflectorFactory = new RecordingReflectorFactory();
+    Configuration configuration = build(reflectorFactory, true, true);
+    new SqlSessionFactoryBuilder().build(configuration);
+    // the types of the result maps only
+    assertThat(reflectorFactory.types).contains(Author.class, Blog.class);
+    assertThat(configuration.getMappedStatement("org.apache.ibatis.domain.blog.mappers.AuthorMapper.selectAllAuthors"))
+        .isNotNull();
+  }
+
+  private static Configuration build(RecordingReflectorFactory reflectorFactory, boolean warmUp, boolean lazy) {
+    String config = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\n"
+        + "<!DOCTYPE configuration PUBLIC \"-//mybatis.org//DTD Config 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-config.dtd\">\n"
+        + "<configuration>\n"
+        + "  <settings>\n"
+        + "    <setting name=\"reflectorWarmUp\" value=\"" + warmUp + "\"/>\n"
+        + "    <setting name=\"lazyStatementBuilding\" value=\"" + lazy + "\"/>\n"
+        + "  </settings>\n"
+        + "  <typeAliases>\n"
+        + "    <typeAlias alias=\"Author\" type=\"org.apache.ibatis.domain.blog.Author\"/>\n"
+        + "    <typeAlias alias=\"Blog\" type=\"org.apache.ibatis.domain.blog.Blog\"/>\n"
+        + "    <typeAlias alias=\"Comment\" type=\"org.apache.ibatis.domain.blog.Comment\"/>\n"
+        + "    <typeAlias alias=\"Post\" type=\"org.apache.ibatis.domain.blog.Post\"/>\n"
+        + "    <typeAlias alias=\"Section\" type=\"org.apache.ibatis.domain.blog.Section\"/>\n"
+        + "    <typeAlias alias=\"Tag\" type=\"org.apache.ibatis.domain.blog.Tag\"/>\n"
+        + "  </typeAliases>\n"
+        + "  <mappers>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/AuthorMapper.xml\"/>\n"
+        + "    <mapper resource=\"org/apache/ibatis/builder/BlogMapper.xml\"/>\n"
+        + "  </mappers>\n"
+        + "</configuration>\n";
+    Configuration configuration = new XMLConfigBuilder(new StringReader(config)).parse();
+    configuration.setReflectorFactory(reflectorFactory);
+    return configuration;
+  }
+
+  private static class RecordingReflectorFactory extends DefaultReflectorFactory {
+    private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Reflector findForClass(Class<?> type) {
+      types.add(type);
+      return super.findForClass(type);
+    }
+  }
+
+}
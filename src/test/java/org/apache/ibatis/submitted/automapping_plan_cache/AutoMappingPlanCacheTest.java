@@ -0,0 +1,98 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.automapping_plan_cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.Reader;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.resultset.AutoMappingPlanCache;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.AutoMappingUnknownColumnBehavior;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AutoMappingPlanCacheTest {
+
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/automapping_plan_cache/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/automapping_plan_cache/CreateDB.sql");
+  }
+
+  @Test
+  void shouldReusePlansAcrossQueries() {
+    AutoMappingPlanCache planCache = sqlSessionFactory.getConfiguration().getAutoMappingPlanCache();
+    for (int i = 0; i < 3; i++) {
+      try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+        List<User> users = sqlSession.getMapper(Mapper.class).getUsers();
+        assertThat(users).extracting(User::getId, User::getName, User::getEmail).containsExactly(
+            tuple(1, "User1", "user1@example.com"),
+            tuple(2, "User2", null));
+      }
+    }
+    assertThat(planCache.size()).isEqualTo(1);
+
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      User user = sqlSession.getMapper(Mapper.class).getUserName(1);
+      assertThat(user.getName()).isEqualTo("User1");
+      assertThat(user.getEmail()).isNull();
+    }
+    assertThat(planCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDropPlansWhenTypeHandlerIsRegistered() {
+    AutoMappingPlanCache planCache = sqlSessionFactory.getConfiguration().getAutoMappingPlanCache();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).getUsers();
+    }
+    assertThat(planCache.size()).isEqualTo(1);
+
+    sqlSessionFactory.getConfiguration().getTypeHandlerRegistry().register(String.class, new StringTypeHandler());
+    assertThat(planCache.size()).isZero();
+  }
+
+  @Test
+  void shouldFailOnUnknownColumnOfEachQuery() {
+    sqlSessionFactory.getConfiguration().setAutoMappingUnknownColumnBehavior(AutoMappingUnknownColumnBehavior.FAILING);
+    for (int i = 0; i < 2; i++) {
+      try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+        Mapper mapper = sqlSession.getMapper(Mapper.class);
+        assertThatThrownBy(() -> mapper.getUserWithUnknownColumn(1)).isInstanceOf(PersistenceException.class)
+            .hasMessageContaining("USER_EMAIL");
+      }
+    }
+  }
+
+}
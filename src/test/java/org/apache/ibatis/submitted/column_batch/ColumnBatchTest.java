@@ -0,0 +1,140 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.column_batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.result.ColumnBatch;
+import org.apache.ibatis.executor.result.DoubleArrayList;
+import org.apache.ibatis.executor.result.IntArrayList;
+import org.apache.ibatis.executor.result.LongArrayList;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ColumnBatchTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/column_batch/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/column_batch/CreateDB.sql");
+  }
+
+  @Test
+  void shouldReadColumns() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      ColumnBatch orders = mapper.getOrders();
+      assertThat(orders.getRowCount()).isEqualTo(4);
+      assertThat(orders.getColumnNames()).containsExactly("ID", "REGION_ID", "CUSTOMER", "AMOUNT", "QUANTITY");
+      assertThat(orders.getIntColumn("id").toIntArray()).containsExactly(1, 2, 3, 4);
+      assertThat(orders.getIntColumn("region_id")).containsExactly(1, 1, 2, null);
+      assertThat(orders.getDoubleColumn("amount")).containsExactly(10.5, 20.0, 5.25, null);
+      assertThat(orders.getLongColumn("quantity").toLongArray()).containsExactly(1L, 2L, 3L, 4L);
+      assertThat(orders.getColumn("customer")).isInstanceOf(ArrayList.class).isEqualTo(Arrays.asList("ann", "bob", "ann", null));
+      assertThatThrownBy(() -> orders.getIntColumn("customer")).isInstanceOf(ClassCastException.class);
+      assertThatThrownBy(() -> orders.getColumn("missing")).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldReadColumnsOfCustomTypeHandlerByName() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      ColumnBatch statuses = mapper.getOrderStatuses();
+      assertThat(statuses.getColumn("status")).isEqualTo(Arrays.asList("OPEN", "SHIPPED", "SHIPPED", null));
+    }
+  }
+
+  @Test
+  void shouldReadOneBatchPerQuery() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<ColumnBatch> totals = mapper.getTotals();
+      assertThat(totals).hasSize(1);
+      ColumnBatch batch = totals.get(0);
+      assertThat(batch.getColumn(0)).isInstanceOf(IntArrayList.class).isEqualTo(Arrays.asList(null, 1, 2));
+      assertThat(batch.getColumn(1)).isInstanceOf(LongArrayList.class).isEqualTo(Arrays.asList(1L, 2L, 1L));
+      assertThat(batch.getColumn(2)).isInstanceOf(DoubleArrayList.class).isEqualTo(Arrays.asList(null, 30.5, 5.25));
+
+      ColumnBatch none = mapper.getNoOrders();
+      assertThat(none.getRowCount()).isZero();
+      assertThat(none.getColumnNames()).containsExactly("ID");
+    }
+  }
+
+  @Test
+  void shouldApplyRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      ColumnBatch page = mapper.getOrderPage(new RowBounds(1, 2)).get(0);
+      assertThat(page.getRowCount()).isEqualTo(2);
+      assertThat(page.getIntColumn("id")).containsExactly(2, 3);
+      assertThat(page.getColumn("customer")).isEqualTo(Arrays.asList("bob", "ann"));
+    }
+  }
+
+  @Test
+  void shouldHandleBatch() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<ColumnBatch> batches = new ArrayList<>();
+      mapper.handleOrders(context -> batches.add(context.getResultObject()));
+      assertThat(batches).hasSize(1);
+      assertThat(batches.get(0).getRowCount()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  void shouldNotBuildCursorStatements() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    assertThatThrownBy(() -> configuration.addMapper(CursorMapper.class)).isInstanceOf(BuilderException.class)
+        .hasMessageContaining("Cursor results cannot be mapped to a ColumnBatch");
+    assertThat(configuration.hasMapper(CursorMapper.class)).isFalse();
+  }
+
+  @Test
+  void shouldNotOpenCursor() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertThatThrownBy(() -> sqlSession.selectCursor("org.apache.ibatis.submitted.column_batch.Mapper.getOrders"))
+          .isInstanceOf(PersistenceException.class)
+          .hasMessageContaining("Cursor results cannot be mapped to a ColumnBatch");
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       http://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table orders if exists;
+
+create table orders (
+  id int,
+  region_id int,
+  customer varchar(20),
+  amount double,
+  quantity bigint,
+  status char(1)
+);
+
+insert into orders (id, region_id, customer, amount, quantity, status) values(1, 1, 'ann', 10.5, 1, 'O');
+insert into orders (id, region_id, customer, amount, quantity, status) values(2, 1, 'bob', 20.0, 2, 'S');
+insert into orders (id, region_id, customer, amount, quantity, status) values(3, 2, 'ann', 5.25, 3, 'S');
+insert into orders (id, region_id, customer, amount, quantity, status) values(4, null, null, null, 4, null);
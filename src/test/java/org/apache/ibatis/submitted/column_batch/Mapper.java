@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.column_batch;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.executor.result.ColumnBatch;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+public interface Mapper {
+
+  @Select("select id, region_id, customer, amount, quantity from orders order by id")
+  ColumnBatch getOrders();
+
+  @Select("select id, region_id, customer, amount, quantity from orders order by id")
+  List<ColumnBatch> getOrderPage(RowBounds rowBounds);
+
+  @Select("select region_id, count(*) as orders, sum(amount) as amount from orders group by region_id order by region_id")
+  List<ColumnBatch> getTotals();
+
+  @Select("select id, status from orders order by id")
+  ColumnBatch getOrderStatuses();
+
+  @Select("select id from orders where id < 0")
+  ColumnBatch getNoOrders();
+
+  @Select("select id, customer from orders order by id")
+  @ResultType(ColumnBatch.class)
+  void handleOrders(ResultHandler<ColumnBatch> handler);
+
+}
@@ -0,0 +1,87 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.compact_map_results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CompactMapResultsTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/compact_map_results/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/compact_map_results/CreateDB.sql");
+  }
+
+  @Test
+  void shouldMapRowsToCompactMaps() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Map<String, Object>> users = mapper.getUsers();
+      assertThat(users).hasSize(2);
+      assertThat(users.get(0)).isNotInstanceOf(HashMap.class).containsExactly(entry("ID", 1),
+          entry("NAME", "User1"), entry("EMAIL", "user1@example.com"));
+      // the null values are left out unless callSettersOnNulls is enabled
+      assertThat(users.get(1)).containsOnlyKeys("ID", "NAME");
+
+      Map<String, Object> user = users.get(1);
+      user.put("EMAIL", "user2@example.com");
+      user.put("ACTIVE", true);
+      assertThat(user).containsEntry("EMAIL", "user2@example.com").containsEntry("ACTIVE", true).hasSize(4);
+    }
+  }
+
+  @Test
+  void shouldMapRowsByKey() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Map<Integer, Map<String, Object>> users = mapper.getUsersById();
+      assertThat(users).containsOnlyKeys(1, 2);
+      assertThat(users.get(2)).containsEntry("NAME", "User2");
+    }
+  }
+
+  @Test
+  void shouldKeepHashMapResultType() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<HashMap<String, Object>> users = mapper.getUserHashMaps();
+      assertThat(users.get(0)).isInstanceOf(HashMap.class).containsEntry("ID", 1);
+    }
+  }
+
+}
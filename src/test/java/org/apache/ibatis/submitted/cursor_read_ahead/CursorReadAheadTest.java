@@ -0,0 +1,189 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.cursor_read_ahead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.Reader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CursorReadAheadTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/cursor_read_ahead/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/cursor_read_ahead/CreateDB.sql");
+  }
+
+  @Test
+  void shouldReadAheadInOrder() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      try (Cursor<User> cursor = mapper.getUsers()) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 1, 2000);
+        assertThat(users).allSatisfy(user -> assertThat(user.getMappingThread()).startsWith("mybatis-cursor-read-ahead-"));
+        assertThat(cursor.isConsumed()).isTrue();
+        assertThat(cursor.isOpen()).isFalse();
+        assertThat(cursor.getCurrentIndex()).isEqualTo(1999);
+      }
+    }
+  }
+
+  @Test
+  void shouldApplyRowBounds() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      try (Cursor<User> cursor = mapper.getUsersInRange(new RowBounds(100, 50))) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 101, 50);
+        assertThat(cursor.isConsumed()).isTrue();
+        assertThat(cursor.getCurrentIndex()).isEqualTo(149);
+      }
+      try (Cursor<User> cursor = mapper.getUsersInRange(new RowBounds(1990, 50))) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 1991, 10);
+        assertThat(cursor.isConsumed()).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void shouldStopReadingAheadWhenClosed() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> cursor = mapper.getUsers();
+      Iterator<User> iterator = cursor.iterator();
+      for (int id = 1; id <= 5; id++) {
+        assertThat(iterator.next().getId()).isEqualTo(id);
+      }
+      cursor.close();
+      assertThat(cursor.isOpen()).isFalse();
+      assertThat(cursor.isConsumed()).isFalse();
+      assertThat(iterator.hasNext()).isFalse();
+      // the session can be used again
+      assertThat(mapper.countUsers()).isEqualTo(2000);
+    }
+  }
+
+  @Test
+  void shouldPropagateMappingErrors() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> cursor = mapper.getUsersWithInvalidName();
+      List<Integer> ids = new ArrayList<>();
+      assertThatThrownBy(() -> cursor.forEach(user -> ids.add(user.getId())))
+          .hasStackTraceContaining("Invalid name");
+      assertThat(ids).hasSize(1499);
+      assertThat(cursor.isOpen()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldPropagateErrorsOfReadAheadThread() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> cursor = mapper.getUsersWithUnlinkedName();
+      List<Integer> ids = new ArrayList<>();
+      assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+        assertThatThrownBy(() -> cursor.forEach(user -> ids.add(user.getId())))
+            .isInstanceOf(NoClassDefFoundError.class).hasMessage("Unlinked name");
+      });
+      assertThat(ids).hasSize(1499);
+      assertThat(cursor.isOpen()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldNotReadAheadLobs() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      try (Cursor<User> cursor = mapper.getUsersWithNotes()) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 1, 2000);
+        assertThat(users).allSatisfy(user -> {
+          assertThat(user.getNotes()).isEqualTo("Notes of " + user.getName());
+          assertThat(user.getMappingThread()).isEqualTo(Thread.currentThread().getName());
+        });
+      }
+    }
+  }
+
+  @Test
+  void shouldNotReadAheadBinaryValues() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      try (Cursor<User> cursor = mapper.getUsersWithAvatar()) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 1, 2000);
+        assertThat(users).allSatisfy(user -> assertThat(user.getMappingThread()).isEqualTo(Thread.currentThread().getName()));
+      }
+    }
+  }
+
+  @Test
+  void shouldNotReadAheadNestedQueries() throws Exception {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      try (Cursor<User> cursor = mapper.getUsersWithManager()) {
+        List<User> users = new ArrayList<>();
+        cursor.forEach(users::add);
+        assertUsers(users, 1, 3);
+        assertThat(users.get(0).getManager()).isNull();
+        assertThat(users.get(2).getManager().getName()).isEqualTo("User1");
+        assertThat(users.get(2).getMappingThread()).isEqualTo(Thread.currentThread().getName());
+      }
+    }
+  }
+
+  private void assertUsers(List<User> users, int firstId, int count) {
+    assertThat(users).hasSize(count);
+    for (int i = 0; i < count; i++) {
+      int id = firstId + i;
+      assertThat(users.get(i).getId()).isEqualTo(id);
+      assertThat(users.get(i).getName()).isEqualTo("User" + id);
+    }
+  }
+
+}
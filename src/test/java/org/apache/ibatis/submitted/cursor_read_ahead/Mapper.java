@@ -0,0 +1,59 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.cursor_read_ahead;
+
+import org.apache.ibatis.annotations.One;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.RowBounds;
+
+public interface Mapper {
+
+  @Select("select id, name from users where id = #{id}")
+  User getUser(Integer id);
+
+  @Select("select id, name from users order by id")
+  Cursor<User> getUsers();
+
+  @Select("select id, name from users order by id")
+  Cursor<User> getUsersInRange(RowBounds rowBounds);
+
+  @Select("select count(*) from users")
+  int countUsers();
+
+  @Select("select id, case when id = 1500 then 'Invalid' else name end name from users order by id")
+  Cursor<User> getUsersWithInvalidName();
+
+  @Select("select id, case when id = 1500 then 'Unlinked' else name end name from users order by id")
+  @Result(property = "name", column = "name", typeHandler = UnlinkedNameTypeHandler.class)
+  Cursor<User> getUsersWithUnlinkedName();
+
+  @Select("select id, name, notes from users order by id")
+  Cursor<User> getUsersWithNotes();
+
+  @Select("select id, name, cast(null as varbinary(16)) avatar from users order by id")
+  Cursor<User> getUsersWithAvatar();
+
+  @Select("select id, name, manager_id from users where id <= 3 order by id")
+  @Results({
+      @Result(property = "id", column = "id", id = true),
+      @Result(property = "manager", column = "manager_id", one = @One(select = "getUser"))
+  })
+  Cursor<User> getUsersWithManager();
+
+}
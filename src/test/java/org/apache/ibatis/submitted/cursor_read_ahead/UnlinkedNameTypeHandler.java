@@ -0,0 +1,48 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.cursor_read_ahead;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.StringTypeHandler;
+
+public class UnlinkedNameTypeHandler extends StringTypeHandler {
+
+  @Override
+  public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return check(super.getNullableResult(rs, columnName));
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return check(super.getNullableResult(rs, columnIndex));
+  }
+
+  @Override
+  public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return check(super.getNullableResult(cs, columnIndex));
+  }
+
+  private String check(String name) {
+    if ("Unlinked".equals(name)) {
+      throw new NoClassDefFoundError("Unlinked name");
+    }
+    return name;
+  }
+
+}
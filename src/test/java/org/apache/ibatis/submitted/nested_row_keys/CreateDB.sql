@@ -0,0 +1,63 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       http://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table items if exists;
+drop table orders if exists;
+drop table products if exists;
+drop table customers if exists;
+
+create table customers (
+  id int,
+  name varchar(20)
+);
+
+create table orders (
+  id int,
+  customer_id int,
+  status varchar(20)
+);
+
+create table products (
+  id int,
+  name varchar(20)
+);
+
+create table items (
+  id int,
+  order_id int,
+  product_id int,
+  quantity int
+);
+
+insert into customers (id, name) values(1, 'Customer1');
+insert into customers (id, name) values(2, 'Customer2');
+insert into customers (id, name) values(3, 'Customer3');
+
+insert into orders (id, customer_id, status) values(1, 1, 'shipped');
+insert into orders (id, customer_id, status) values(2, 1, 'open');
+insert into orders (id, customer_id, status) values(3, 3, 'open');
+
+insert into products (id, name) values(1, 'Product1');
+insert into products (id, name) values(2, 'Product2');
+
+insert into items (id, order_id, product_id, quantity) values(1, 1, 1, 5);
+insert into items (id, order_id, product_id, quantity) values(2, 1, 2, 1);
+insert into items (id, order_id, product_id, quantity) values(3, 2, 1, 2);
+insert into items (id, order_id, product_id, quantity) values(4, 2, 2, 2);
+
+-- customer 3 has 1000 items in a single order
+insert into items (id, order_id, product_id, quantity)
+  select 100 + n, 3, mod(n, 2) + 1, n from unnest(sequence_array(1, 1000, 1)) as t(n);
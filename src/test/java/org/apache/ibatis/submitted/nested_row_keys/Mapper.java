@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.nested_row_keys;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
+
+public interface Mapper {
+
+  String SELECT_CUSTOMERS = "select c.id, c.name, o.id order_id, o.status order_status,"
+      + " i.id order_item_id, i.quantity order_item_quantity, p.id order_item_product_id, p.name order_item_product_name"
+      + " from customers c left join orders o on o.customer_id = c.id left join items i on i.order_id = o.id"
+      + " left join products p on p.id = i.product_id order by c.id, o.id, i.id";
+
+  List<Customer> getCustomers();
+
+  List<Customer> getCustomersWithoutIds();
+
+  @Select(SELECT_CUSTOMERS)
+  @ResultMap("customerMap")
+  @Options(resultOrdered = true)
+  Cursor<Customer> streamCustomers();
+
+  @Select(SELECT_CUSTOMERS)
+  @ResultMap("customerMap")
+  @Options(resultOrdered = true)
+  void handleCustomers(ResultHandler<Customer> handler);
+
+}
@@ -0,0 +1,118 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.nested_row_keys;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class NestedRowKeysTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/nested_row_keys/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/nested_row_keys/CreateDB.sql");
+  }
+
+  @Test
+  void shouldGroupRowsByIds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertCustomers(mapper.getCustomers());
+    }
+  }
+
+  @Test
+  void shouldGroupRowsByColumns() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertCustomers(mapper.getCustomersWithoutIds());
+    }
+  }
+
+  @Test
+  void shouldStreamOrderedResultsThroughCursor() throws IOException {
+    assertThat(sqlSessionFactory.getConfiguration().getMappedStatement(Mapper.class.getName() + ".streamCustomers")
+        .isResultOrdered()).isTrue();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Customer> customers = new ArrayList<>();
+      try (Cursor<Customer> cursor = mapper.streamCustomers()) {
+        cursor.forEach(customers::add);
+      }
+      assertCustomers(customers);
+    }
+  }
+
+  @Test
+  void shouldStreamOrderedResultsToResultHandler() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Customer> customers = new ArrayList<>();
+      List<Integer> orderCounts = new ArrayList<>();
+      mapper.handleCustomers(context -> {
+        customers.add(context.getResultObject());
+        // each customer is complete when handed over
+        orderCounts.add(context.getResultObject().getOrders().size());
+      });
+      assertThat(orderCounts).containsExactly(2, 0, 1);
+      assertCustomers(customers);
+    }
+  }
+
+  private void assertCustomers(List<Customer> customers) {
+    assertThat(customers).extracting(Customer::getId, Customer::getName).containsExactly(tuple(1, "Customer1"),
+        tuple(2, "Customer2"), tuple(3, "Customer3"));
+
+    List<Order> orders = customers.get(0).getOrders();
+    assertThat(orders).extracting(Order::getId, Order::getStatus).containsExactly(tuple(1, "shipped"), tuple(2, "open"));
+    assertThat(orders.get(0).getItems()).extracting(Item::getId, Item::getQuantity, item -> item.getProduct().getName())
+        .containsExactly(tuple(1, 5, "Product1"), tuple(2, 1, "Product2"));
+    assertThat(orders.get(1).getItems()).extracting(Item::getId, Item::getQuantity, item -> item.getProduct().getName())
+        .containsExactly(tuple(3, 2, "Product1"), tuple(4, 2, "Product2"));
+    // the same product row is mapped once per item
+    assertThat(orders.get(1).getItems().get(0).getProduct()).isNotSameAs(orders.get(0).getItems().get(0).getProduct());
+
+    assertThat(customers.get(1).getOrders()).isEmpty();
+
+    List<Item> items = customers.get(2).getOrders().get(0).getItems();
+    assertThat(items).hasSize(1000);
+    assertThat(items.get(999)).extracting(Item::getId, Item::getQuantity).containsExactly(1100, 1000);
+    assertThat(items.get(999).getProduct()).extracting(Product::getId, Product::getName).containsExactly(1, "Product1");
+  }
+
+}
@@ -0,0 +1,29 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       http://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table users if exists;
+
+create table users (
+  id int,
+  name varchar(20),
+  email varchar(30),
+  age int
+);
+
+insert into users (id, name, email, age)
+  select n, 'User' || n, case when mod(n, 10) = 0 then null else 'user' || n || '@example.com' end,
+    case when mod(n, 7) = 0 then null else mod(n, 90) end
+  from unnest(sequence_array(1, 5000, 1)) as t(n);
@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_row_mapping;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.RowBounds;
+
+public interface Mapper {
+
+  @Select("select id, name, email, age from users order by id")
+  List<User> getUsers();
+
+  @Select("select id, name user_name, email, age from users order by id")
+  @Results({
+      @Result(property = "id", column = "id", id = true),
+      @Result(property = "name", column = "user_name")
+  })
+  List<User> getUsersByResultMap();
+
+  @Select("select id, name, email from users order by id")
+  List<Map<String, Object>> getUserMaps();
+
+  @Select("select id, name, email, age from users order by id")
+  List<User> getUsersInRange(RowBounds rowBounds);
+
+  @Select("select id, case when id = 4000 then 'Invalid' else name end name from users order by id")
+  List<User> getUsersWithInvalidName();
+
+}
@@ -0,0 +1,106 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_row_mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelRowMappingTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/parallel_row_mapping/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/parallel_row_mapping/CreateDB.sql");
+  }
+
+  @Test
+  void shouldMapRowsInOrder() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertUsers(mapper.getUsers(), 1, 5000);
+      assertUsers(mapper.getUsersByResultMap(), 1, 5000);
+    }
+  }
+
+  @Test
+  void shouldMapRowsToMaps() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Map<String, Object>> users = mapper.getUserMaps();
+      assertThat(users).hasSize(5000);
+      for (int i = 0; i < users.size(); i++) {
+        int id = i + 1;
+        assertThat(users.get(i)).containsEntry("ID", id).containsEntry("NAME", "User" + id)
+            .containsEntry("EMAIL", id % 10 == 0 ? null : "user" + id + "@example.com");
+      }
+    }
+  }
+
+  @Test
+  void shouldApplyRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertUsers(mapper.getUsersInRange(new RowBounds(100, 2000)), 101, 2000);
+      // a single batch
+      assertUsers(mapper.getUsersInRange(new RowBounds(4990, 20)), 4991, 10);
+    }
+  }
+
+  @Test
+  void shouldPropagateMappingErrors() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::getUsersWithInvalidName).isInstanceOf(PersistenceException.class)
+          .hasStackTraceContaining("Invalid name");
+    }
+  }
+
+  private void assertUsers(List<User> users, int firstId, int count) {
+    assertThat(users).hasSize(count);
+    for (int i = 0; i < count; i++) {
+      User user = users.get(i);
+      int id = firstId + i;
+      assertThat(user.getId()).isEqualTo(id);
+      assertThat(user.getName()).isEqualTo("User" + id);
+      assertThat(user.getEmail()).isEqualTo(id % 10 == 0 ? null : "user" + id + "@example.com");
+      // the setter of a primitive is not called on nulls
+      assertThat(user.getAge()).isEqualTo(id % 7 == 0 ? -1 : id % 90);
+    }
+  }
+
+}
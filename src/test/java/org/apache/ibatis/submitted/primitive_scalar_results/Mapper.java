@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.primitive_scalar_results;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.IntResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+public interface Mapper {
+
+  @Select("select id from users order by id")
+  int[] getIds();
+
+  @Select("select id from users order by id")
+  int[] getIdPage(RowBounds rowBounds);
+
+  @Select("select version from users order by id")
+  long[] getVersions();
+
+  @Select("select group_id from users order by id")
+  List<Integer> getGroupIds();
+
+  @Select("select group_id from users order by id")
+  int[] getGroupIdArray();
+
+  @Select("select id from users order by id")
+  @ResultType(Integer.class)
+  void handleIds(IntResultHandler handler);
+
+}
@@ -0,0 +1,128 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.primitive_scalar_results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.result.IntArrayList;
+import org.apache.ibatis.executor.result.LongArrayList;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.IntResultHandler;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveScalarResultsTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    // create an SqlSessionFactory
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/primitive_scalar_results/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+
+    // populate in-memory database
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+            "org/apache/ibatis/submitted/primitive_scalar_results/CreateDB.sql");
+  }
+
+  @Test
+  void shouldGetPrimitiveArrays() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThat(mapper.getIds()).containsExactly(1, 2, 3);
+      assertThat(mapper.getIdPage(new RowBounds(1, 1))).containsExactly(2);
+      assertThat(mapper.getVersions()).containsExactly(10000000001L, 10000000002L, 10000000003L);
+    }
+  }
+
+  @Test
+  void shouldHoldResultsInPrimitiveLists() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Object> ids = sqlSession.selectList("org.apache.ibatis.submitted.primitive_scalar_results.Mapper.getIds");
+      assertThat(ids).isInstanceOf(IntArrayList.class).containsExactly(1, 2, 3);
+      List<Object> versions = sqlSession
+          .selectList("org.apache.ibatis.submitted.primitive_scalar_results.Mapper.getVersions");
+      assertThat(versions).isInstanceOf(LongArrayList.class).hasSize(3);
+    }
+  }
+
+  @Test
+  void shouldKeepNullValues() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThat(mapper.getGroupIds()).isInstanceOf(IntArrayList.class).containsExactly(1, null, 2);
+      // as when the values are boxed
+      assertThatThrownBy(mapper::getGroupIdArray).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldHandleValuesWithoutBoxing() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Integer> ids = new ArrayList<>();
+      mapper.handleIds(new IntResultHandler() {
+        @Override
+        public void handleInt(int value) {
+          ids.add(value);
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends Integer> resultContext) {
+          throw new AssertionError("The value should not be boxed");
+        }
+      });
+      assertThat(ids).containsExactly(1, 2, 3);
+    }
+  }
+
+  @Test
+  void shouldBoxValuesOfHandlersWhenDisabled() {
+    sqlSessionFactory.getConfiguration().setPrimitiveScalarResults(false);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Integer> ids = new ArrayList<>();
+      mapper.handleIds(new IntResultHandler() {
+        @Override
+        public void handleInt(int value) {
+          throw new AssertionError("The value should be boxed");
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends Integer> resultContext) {
+          ids.add(resultContext.getResultObject());
+        }
+      });
+      assertThat(ids).containsExactly(1, 2, 3);
+    } finally {
+      sqlSessionFactory.getConfiguration().setPrimitiveScalarResults(true);
+    }
+  }
+
+}
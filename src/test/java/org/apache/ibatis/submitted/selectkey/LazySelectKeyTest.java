@@ -0,0 +1,51 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.selectkey;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs the select key tests with statements built on first use.
+ */
+class LazySelectKeyTest extends SelectKeyTest {
+
+  @BeforeEach
+  @Override
+  void setUp() throws Exception {
+    String config;
+    try (BufferedReader reader = new BufferedReader(
+        Resources.getResourceAsReader("org/apache/ibatis/submitted/selectkey/MapperConfig.xml"))) {
+      config = reader.lines().collect(Collectors.joining("\n"));
+    }
+    try (Reader reader = new StringReader(config.replace("<configuration>",
+        "<configuration>\n  <settings>\n    <setting name=\"lazyStatementBuilding\" value=\"true\"/>\n  </settings>"))) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+      sqlSessionFactory.getConfiguration().addMapper(AnnotatedMapper.class);
+    }
+
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/selectkey/CreateDB.sql");
+  }
+
+}
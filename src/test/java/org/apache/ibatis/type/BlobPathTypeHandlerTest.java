@@ -0,0 +1,204 @@
+/**
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+class BlobPathTypeHandlerTest extends BaseTypeHandlerTest {
+
+  private final TypeHandler<Path> typeHandler = new BlobPathTypeHandler() {
+    @Override
+    protected Path createFile() throws IOException {
+      return Files.createTempFile(directory, "blob", ".tmp");
+    }
+  };
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  protected Blob blob;
+
+  @BeforeAll
+  static void setupSqlSessionFactory() throws Exception {
+    DataSource dataSource = BaseDataTest.createUnpooledDataSource("org/apache/ibatis/type/jdbc.properties");
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("Production", transactionFactory, dataSource);
+    Configuration configuration = new Configuration(environment);
+    configuration.addMapper(Mapper.class);
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/type/BlobInputStreamTypeHandlerTest.sql");
+  }
+
+  @Override
+  @Test
+  public void shouldSetParameter() throws Exception {
+    Path file = Files.write(directory.resolve("content"), "Hello".getBytes());
+    typeHandler.setParameter(ps, 1, file, null);
+    ArgumentCaptor<InputStream> in = ArgumentCaptor.forClass(InputStream.class);
+    verify(ps).setBlob(eq(1), in.capture(), eq(5L));
+    // the file is opened on the first read, and closed once read
+    byte[] content = new byte[8];
+    assertThat(in.getValue().read(content)).isEqualTo(5);
+    assertThat(in.getValue().read(content)).isEqualTo(-1);
+    assertThat(new String(content, 0, 5, StandardCharsets.UTF_8)).isEqualTo("Hello");
+  }
+
+  @Test
+  void shouldReportMissingFileWhenSettingParameter() {
+    Path file = directory.resolve("missing");
+    assertThatThrownBy(() -> typeHandler.setParameter(ps, 1, file, null)).isInstanceOf(TypeException.class)
+        .hasMessageContaining(file.toString());
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByName() throws Exception {
+    when(rs.getBlob("column")).thenReturn(blob);
+    when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream("Hello".getBytes()));
+    assertThat(typeHandler.getResult(rs, "column")).hasParent(directory).hasContent("Hello");
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByName() throws Exception {
+    when(rs.getBlob("column")).thenReturn(null);
+    assertThat(typeHandler.getResult(rs, "column")).isNull();
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByPosition() throws Exception {
+    when(rs.getBlob(1)).thenReturn(blob);
+    when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream("Hello".getBytes()));
+    assertThat(typeHandler.getResult(rs, 1)).hasContent("Hello");
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByPosition() throws Exception {
+    when(rs.getBlob(1)).thenReturn(null);
+    assertThat(typeHandler.getResult(rs, 1)).isNull();
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromCallableStatement() throws Exception {
+    when(cs.getBlob(1)).thenReturn(blob);
+    when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream("Hello".getBytes()));
+    assertThat(typeHandler.getResult(cs, 1)).hasContent("Hello");
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromCallableStatement() throws Exception {
+    when(cs.getBlob(1)).thenReturn(null);
+    assertThat(typeHandler.getResult(cs, 1)).isNull();
+  }
+
+  @Test
+  void integrationTest() throws Exception {
+    try (SqlSession session = sqlSessionFactory.openSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      // insert (Path -> Blob)
+      {
+        BlobContent blobContent = new BlobContent();
+        blobContent.setId(1);
+        blobContent.setContent(Files.write(directory.resolve("content"), "Hello".getBytes()));
+        mapper.insert(blobContent);
+        session.commit();
+      }
+      // select (Blob -> Path)
+      {
+        Path file = mapper.findOne(1).getContent();
+        try {
+          assertThat(file).hasContent("Hello");
+        } finally {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  interface Mapper {
+    @Select("SELECT ID, CONTENT FROM TEST_BLOB WHERE ID = #{id}")
+    @Results({
+        @Result(property = "id", column = "ID"),
+        @Result(property = "content", column = "CONTENT", typeHandler = BlobPathTypeHandler.class) })
+    BlobContent findOne(int id);
+
+    @Insert("INSERT INTO TEST_BLOB (ID, CONTENT) VALUES(#{id}, #{content,typeHandler=org.apache.ibatis.type.BlobPathTypeHandler})")
+    void insert(BlobContent blobContent);
+  }
+
+  static class BlobContent {
+    private int id;
+    private Path content;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public Path getContent() {
+      return content;
+    }
+
+    public void setContent(Path content) {
+      this.content = content;
+    }
+  }
+
+}
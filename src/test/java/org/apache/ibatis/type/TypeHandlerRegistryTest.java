@@ -221,11 +221,52 @@ class TypeHandlerRegistryTest {
     assertTrue(typeHandlerRegistry.hasTypeHandler(Address.class));
   }
 
+  @Test
+  void shouldResolveColumnTypeHandlerByClassNameAndJdbcType() {
+    assertSame(typeHandlerRegistry.getTypeHandler(Integer.class, JdbcType.INTEGER),
+        typeHandlerRegistry.getColumnTypeHandler("java.lang.Integer", JdbcType.INTEGER));
+    assertSame(typeHandlerRegistry.getTypeHandler(String.class),
+        typeHandlerRegistry.getColumnTypeHandler("java.lang.String", null));
+    // an unknown class is resolved by the JDBC type
+    assertSame(typeHandlerRegistry.getTypeHandler(JdbcType.DATE),
+        typeHandlerRegistry.getColumnTypeHandler("com.example.UnknownDate", JdbcType.DATE));
+    assertNull(typeHandlerRegistry.getColumnTypeHandler("com.example.UnknownDate", null));
+    assertNull(typeHandlerRegistry.getColumnTypeHandler(null, null));
+  }
+
+  @Test
+  void shouldResolveColumnTypeHandlerAgainAfterRegistering() {
+    assertNull(typeHandlerRegistry.getColumnTypeHandler("java.net.URI", null));
+    typeHandlerRegistry.register(URI.class, StringTypeHandler.class);
+    assertTrue(typeHandlerRegistry.getColumnTypeHandler("java.net.URI", null) instanceof StringTypeHandler);
+
+    assertNull(typeHandlerRegistry.getColumnTypeHandler(null, JdbcType.STRUCT));
+    TypeHandler<Object> handler = new ObjectTypeHandler();
+    typeHandlerRegistry.register(JdbcType.STRUCT, handler);
+    assertSame(handler, typeHandlerRegistry.getColumnTypeHandler(null, JdbcType.STRUCT));
+  }
+
   enum TestEnum {
     ONE,
     TWO
   }
 
+  @Test
+  void shouldTellDefaultTypeHandlers() {
+    assertTrue(typeHandlerRegistry.isDefaultTypeHandler(typeHandlerRegistry.getTypeHandler(Integer.class)));
+    assertTrue(typeHandlerRegistry.isDefaultTypeHandler(typeHandlerRegistry.getTypeHandler(JdbcType.VARCHAR)));
+    assertTrue(typeHandlerRegistry.isDefaultTypeHandler(typeHandlerRegistry.getUnknownTypeHandler()));
+
+    // registered afterwards, even in this package or subclassing a default type handler
+    IntegerTypeHandler integerTypeHandler = new IntegerTypeHandler() {
+    };
+    typeHandlerRegistry.register(Integer.class, integerTypeHandler);
+    assertFalse(typeHandlerRegistry.isDefaultTypeHandler(integerTypeHandler));
+    StringTypeHandler stringTypeHandler = new StringTypeHandler();
+    typeHandlerRegistry.register(String.class, JdbcType.CHAR, stringTypeHandler);
+    assertFalse(typeHandlerRegistry.isDefaultTypeHandler(stringTypeHandler));
+  }
+
   @Test
   void shouldAutoRegisterEnutmTypeInMultiThreadEnvironment() throws Exception {
     // gh-1820
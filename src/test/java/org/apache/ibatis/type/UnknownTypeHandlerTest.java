@@ -54,6 +54,27 @@ class UnknownTypeHandlerTest extends BaseTypeHandlerTest {
     // Unnecessary
   }
 
+  @Test
+  void shouldResolveLastColumnOfSameName() throws Exception {
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rsmd.getColumnCount()).thenReturn(2);
+    // the first column is not looked at, the second one having the name
+    when(rsmd.getColumnLabel(2)).thenReturn("column");
+    when(rsmd.getColumnClassName(2)).thenReturn(Integer.class.getName());
+    when(rsmd.getColumnType(2)).thenReturn(JdbcType.INTEGER.TYPE_CODE);
+    when(rs.getInt("column")).thenReturn(7);
+    assertEquals(7, TYPE_HANDLER.getResult(rs, "column"));
+  }
+
+  @Test
+  void shouldReadUnknownColumnAsObject() throws Exception {
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rsmd.getColumnCount()).thenReturn(1);
+    when(rsmd.getColumnLabel(1)).thenReturn("column");
+    when(rs.getObject("other")).thenReturn("Hello");
+    assertEquals("Hello", TYPE_HANDLER.getResult(rs, "other"));
+  }
+
   @Override
   @Test
   public void shouldGetResultFromResultSetByPosition() throws Exception {